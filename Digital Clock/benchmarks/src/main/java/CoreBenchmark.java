@@ -0,0 +1,89 @@
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CoreBenchmark - benchmarks for the per-tick paths of the headless core.
+ *
+ * Measures the formatter calls made for every displayed second and the alarm
+ * schedule queries, so they can run on machines without a display.
+ *
+ * Usage: java CoreBenchmark [-wi N] [-i N] [-t millis] [filter]
+ */
+public class CoreBenchmark {
+
+    private static final int[] ALARM_COUNTS = {1, 16, 256};
+
+    private final MicroBench bench;
+
+    private int frame;
+
+    public CoreBenchmark(MicroBench bench) {
+        this.bench = bench;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new CoreBenchmark(MicroBench.fromArgs("Core benchmark", args)).runAll();
+    }
+
+    public void runAll() throws Exception {
+        benchmarkFormatter();
+        benchmarkAlarms();
+    }
+
+    private void benchmarkFormatter() throws Exception {
+        ClockFormatter formatter = new ClockFormatter();
+        // A week of dates, built up front so only the formatter is measured
+        ZonedDateTime[] week = new ZonedDateTime[7];
+        for (int day = 0; day < week.length; day++) {
+            week[day] = ZonedDateTime.of(2024, 3, 9 + day, 12, 34, 56, 0, ZoneId.of("UTC"));
+        }
+        char[] buffer = new char[ClockFormatter.STOPWATCH_LENGTH];
+
+        bench.run("formatter.writeTime", () -> {
+            int second = frame++ % 86400;
+            int length = ClockFormatter.writeTime(buffer, 0, second / 3600, second / 60 % 60, second % 60);
+            return buffer[length - 1];
+        });
+        bench.run("formatter.hourMinute", () -> {
+            int minute = frame++ % 1440;
+            return formatter.hourMinute(minute / 60, minute % 60);
+        });
+        // A tick within the day returns the cached date; a new day builds the date string
+        bench.run("formatter.date.sameDay", () -> formatter.date(week[0]));
+        bench.run("formatter.date.newDay", () -> formatter.date(week[frame++ % week.length]));
+        bench.run("formatter.writeStopwatch", () -> {
+            int length = ClockFormatter.writeStopwatch(buffer, 0, (frame++ & 0xFFFFFF) * 10L);
+            return buffer[length - 1];
+        });
+    }
+
+    /**
+     * Schedule queries against engines holding N alarms (the engine thread is not started)
+     */
+    private void benchmarkAlarms() throws Exception {
+        for (int count : ALARM_COUNTS) {
+            AlarmEngine engine = new AlarmEngine((alarm, fireTime) -> { });
+            List<AlarmTime> alarms = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                AlarmTime alarm = new AlarmTime(LocalTime.of(i % 24, (i * 7) % 60), "Alarm " + i, true, i % 2 == 0);
+                alarms.add(alarm);
+                engine.add(alarm);
+            }
+
+            bench.run("alarms.nextAlarm." + count, engine::getNextAlarm);
+            bench.run("alarms.toggle." + count, () -> {
+                AlarmTime alarm = alarms.get(frame++ % count);
+                engine.setEnabled(alarm, false);
+                engine.setEnabled(alarm, true);
+                return engine.getNextFireTime();
+            });
+        }
+
+        AlarmTime alarm = new AlarmTime(LocalTime.of(7, 30), "Wake up", true, true);
+        ZonedDateTime from = ZonedDateTime.of(2024, 3, 9, 0, 0, 0, 0, ZoneId.of("Europe/London"));
+        bench.run("alarms.nextFireTime", () -> AlarmEngine.nextFireTime(alarm, from.plusMinutes(frame++ % 1440)));
+    }
+}
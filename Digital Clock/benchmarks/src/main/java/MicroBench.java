@@ -0,0 +1,186 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * MicroBench class - a small, dependency-free benchmark harness in the spirit of JMH.
+ *
+ * Each benchmark runs warmup iterations (discarded) and then measured iterations of a
+ * fixed duration on the calling thread. For every iteration it reports the time per
+ * operation and, through com.sun.management.ThreadMXBean, the bytes allocated per
+ * operation. Results returned by the operation are folded into a volatile sink so the
+ * JIT cannot eliminate the measured work.
+ *
+ * Command line options shared by the benchmark mains: [-wi N] [-i N] [-t millis] [filter]
+ * Only benchmarks whose name contains the filter are run.
+ *
+ * JMH itself cannot be used here: its annotation processor rejects benchmark classes in
+ * the default package ("Benchmark class should have package other than default"), and a
+ * benchmark in a named package cannot import the clock classes, which all live in the
+ * default package. Switching to JMH means moving the sources into packages first.
+ */
+public final class MicroBench {
+
+    /**
+     * The measured operation; return something derived from the work done
+     */
+    public interface Operation {
+        Object run() throws Exception;
+    }
+
+    /**
+     * Aggregated result of one benchmark
+     */
+    public static final class Result {
+        private final String name;
+        private final double nsPerOp;
+        private final double nsPerOpError;
+        private final double bytesPerOp;
+        private final long operations;
+
+        private Result(String name, double nsPerOp, double nsPerOpError, double bytesPerOp, long operations) {
+            this.name = name;
+            this.nsPerOp = nsPerOp;
+            this.nsPerOpError = nsPerOpError;
+            this.bytesPerOp = bytesPerOp;
+            this.operations = operations;
+        }
+
+        public String getName() { return name; }
+        public double getNsPerOp() { return nsPerOp; }
+        public double getNsPerOpError() { return nsPerOpError; }
+        public double getBytesPerOp() { return bytesPerOp; }
+        public long getOperations() { return operations; }
+    }
+
+    private static volatile int sink;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final String filter;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<Result> results = new ArrayList<>();
+
+    public MicroBench(int warmupIterations, int measurementIterations, long iterationMillis, String filter) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.filter = filter;
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null; // Allocation is reported as NaN on JVMs without the extension
+        }
+    }
+
+    /**
+     * Create a harness from the command line options and print the report header
+     */
+    public static MicroBench fromArgs(String title, String[] args) {
+        int warmup = 3;
+        int iterations = 5;
+        long iterationMillis = 1000;
+        String filter = "";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi" -> warmup = Integer.parseInt(args[++i]);
+                case "-i" -> iterations = Integer.parseInt(args[++i]);
+                case "-t" -> iterationMillis = Long.parseLong(args[++i]);
+                default -> filter = args[i];
+            }
+        }
+
+        System.out.println(title + ": " + warmup + " warmup, " + iterations
+            + " measured iterations of " + iterationMillis + " ms");
+        System.out.println(header());
+        return new MicroBench(warmup, iterations, iterationMillis, filter);
+    }
+
+    /**
+     * Whether the benchmark with this name passes the filter
+     */
+    public boolean isSelected(String name) {
+        return name.contains(filter);
+    }
+
+    /**
+     * Run one benchmark, print its result line and remember it for the summary
+     * @return the result, or null if the benchmark is filtered out
+     */
+    public Result run(String name, Operation operation) throws Exception {
+        if (!isSelected(name)) {
+            return null;
+        }
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(operation);
+        }
+
+        double[] nsPerOp = new double[measurementIterations];
+        double totalBytes = 0;
+        long totalOps = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] measured = iteration(operation);
+            nsPerOp[i] = (double) measured[0] / measured[1];
+            totalOps += measured[1];
+            totalBytes += measured[2];
+        }
+
+        double mean = 0;
+        for (double value : nsPerOp) {
+            mean += value;
+        }
+        mean /= nsPerOp.length;
+        double variance = 0;
+        for (double value : nsPerOp) {
+            variance += (value - mean) * (value - mean);
+        }
+        double error = nsPerOp.length > 1 ? Math.sqrt(variance / (nsPerOp.length - 1)) : 0;
+        double bytes = threadBean != null ? totalBytes / totalOps : Double.NaN;
+
+        Result result = new Result(name, mean, error, bytes, totalOps);
+        results.add(result);
+        System.out.println(format(result));
+        return result;
+    }
+
+    /**
+     * One timed iteration: run the operation until the iteration time is used up
+     * @return {elapsed nanos, operations, allocated bytes}
+     */
+    private long[] iteration(Operation operation) throws Exception {
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long ops = 0;
+        int hash = 0;
+        long now;
+        do {
+            Object value = operation.run();
+            hash += value != null ? value.hashCode() : 0;
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        long bytesAfter = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+        sink += hash;
+        return new long[] {now - start, ops, bytesAfter - bytesBefore};
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public static String header() {
+        return String.format(Locale.ROOT, "%-48s %14s %12s %12s %12s", "Benchmark", "ns/op", "error", "B/op", "ops");
+    }
+
+    public static String format(Result result) {
+        return String.format(Locale.ROOT, "%-48s %14.1f %12.1f %12.1f %12d",
+            result.name, result.nsPerOp, result.nsPerOpError, result.bytesPerOp, result.operations);
+    }
+}
@@ -0,0 +1,246 @@
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RenderBenchmark - headless benchmarks for the clock rendering paths.
+ *
+ * Renders the analog dials, the glowing digital time label, the gradient buttons and a
+ * world clock grid of 1000 cities into an offscreen BufferedImage at several sizes. Results are reported per frame
+ * as ns/op and B/op.
+ *
+ * Usage: java -Djava.awt.headless=true RenderBenchmark [-wi N] [-i N] [-t millis] [filter]
+ */
+public class RenderBenchmark {
+
+    private static final int[] DIAL_SIZES = {200, 400, 800};
+    private static final int[][] LABEL_SIZES = {{520, 120}, {1040, 240}};
+    private static final int[][] BUTTON_SIZES = {{120, 40}, {240, 60}};
+    private static final int GRID_CITIES = 1000;
+    private static final int GRID_ROWS = 25;
+
+    private final MicroBench bench;
+
+    private int frame;
+
+    public RenderBenchmark(MicroBench bench) {
+        this.bench = bench;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        new RenderBenchmark(MicroBench.fromArgs("Render benchmark", args)).runAll();
+    }
+
+    public void runAll() throws Exception {
+        benchmarkDials();
+        benchmarkGlowLabel();
+        benchmarkStopwatchLabel();
+        benchmarkButtons();
+        benchmarkWorldClockGrid();
+    }
+
+    /**
+     * Both analog dials; "frame" repaints with the cached dial layer, "cold" rebuilds it,
+     * "sweep" moves the hands by one frame of a sweep at the rate the dial size needs (in the name).
+     * The dashboard dial renders synchronously here, so a frame includes the render worker's
+     * share; "edtPaint" is the EDT's share alone.
+     */
+    private void benchmarkDials() throws Exception {
+        for (int size : DIAL_SIZES) {
+            AdvancedDigitalClock.ClockPanel advanced = new AdvancedDigitalClock.ClockPanel(true);
+            renderFrames("advancedDial.frame." + size, advanced, size, size, () -> tickDial(advanced));
+            renderFrames("advancedDial.cold." + size, advanced, size, size, () -> {
+                advanced.invalidateDialLayer();
+                tickDial(advanced);
+            });
+            // What is left on the EDT when the frame is rendered by the worker: drawing the finished frame
+            renderFrames("advancedDial.edtPaint." + size, advanced, size, size, () -> { });
+
+            AdvancedDigitalClock.ClockPanel advancedSweep = new AdvancedDigitalClock.ClockPanel(true);
+            advancedSweep.setSize(size, size);
+            int advancedRate = advancedSweep.getSweepFrameRate();
+            double advancedFrame = 1.0 / advancedRate;
+            renderFrames("advancedDial.sweep." + size + "." + advancedRate + "fps", advancedSweep, size, size,
+                () -> advancedSweep.sweepTo(frame++ * advancedFrame % 43200));
+
+            AnalogClock.ClockPanel analog = new AnalogClock.ClockPanel();
+            renderFrames("analogDial.frame." + size, analog, size, size, () -> {
+                int second = frame++ % 43200;
+                analog.setTime(second / 3600, second / 60 % 60, second % 60);
+            });
+
+            AnalogClock.ClockPanel analogSweep = new AnalogClock.ClockPanel();
+            analogSweep.setSize(size, size);
+            int analogRate = analogSweep.getSweepFrameRate();
+            double analogFrame = 1.0 / analogRate;
+            renderFrames("analogDial.sweep." + size + "." + analogRate + "fps", analogSweep, size, size,
+                () -> analogSweep.sweepTo(frame++ * analogFrame % 43200));
+        }
+    }
+
+    private void tickDial(AdvancedDigitalClock.ClockPanel panel) {
+        int second = frame++ % 43200;
+        panel.setTime(second / 3600, second / 60 % 60, second % 60);
+    }
+
+    /**
+     * The glow label; "background" has no text, so only the background, border and scan lines are drawn
+     */
+    private void benchmarkGlowLabel() throws Exception {
+        for (int[] size : LABEL_SIZES) {
+            String suffix = size[0] + "x" + size[1];
+            AdvancedDigitalClock.GlowTimeLabel label = createGlowLabel("12:34:56", size);
+            renderFrames("glowLabel.frame." + suffix, label, size[0], size[1], label::advanceGlow);
+            AdvancedDigitalClock.GlowTimeLabel background = createGlowLabel("", size);
+            renderFrames("glowLabel.background." + suffix, background, size[0], size[1], background::advanceGlow);
+        }
+    }
+
+    private AdvancedDigitalClock.GlowTimeLabel createGlowLabel(String text, int[] size) {
+        AdvancedDigitalClock.GlowTimeLabel label = new AdvancedDigitalClock.GlowTimeLabel(text);
+        label.stopGlow(); // Frames are driven by the benchmark, not the animation driver
+        label.setFont(new Font("Orbitron", Font.BOLD, 84 * size[1] / 120));
+        label.setForeground(new Color(0, 255, 255));
+        return label;
+    }
+
+    /**
+     * A stopwatch update (new text and a repaint) through JLabel and through the digit atlas
+     */
+    private void benchmarkStopwatchLabel() throws Exception {
+        // The translucent label of the main window and the opaque display of the stopwatch dialog
+        benchmarkStopwatchLabel("stopwatchLabel", new Font("Segoe UI", Font.BOLD, 32), new Color(255, 20, 147), null);
+        benchmarkStopwatchLabel("stopwatchDialog", new Font("Consolas", Font.BOLD, 36), Color.WHITE, new Color(20, 20, 20));
+    }
+
+    /**
+     * A JLabel and a DigitDisplay showing a new stopwatch time every frame
+     * @param background the opaque background, or null for a translucent label
+     */
+    private void benchmarkStopwatchLabel(String name, Font font, Color foreground, Color background) throws Exception {
+        char[] buffer = new char[ClockFormatter.STOPWATCH_LENGTH];
+
+        JLabel label = new JLabel("00:00:00.000", SwingConstants.CENTER);
+        // Anti-aliased like on a desktop (headless Swing has no desktop font hints)
+        label.putClientProperty(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        JPanel labelPanel = createDigitalPanel(styleLabel(label, font, foreground, background));
+        renderFrames(name + ".jlabel", label, 400, 60, () -> {
+            label.setText(nextStopwatchText(buffer));
+            labelPanel.validate();
+        });
+
+        DigitDisplay display = new DigitDisplay("00:00:00.000", "00:00:00.000");
+        JPanel displayPanel = createDigitalPanel(styleLabel(display, font, foreground, background));
+        renderFrames(name + ".digitDisplay", display, 400, 60, () -> {
+            display.setText(nextStopwatchText(buffer));
+            displayPanel.validate();
+        });
+    }
+
+    private JComponent styleLabel(JComponent label, Font font, Color foreground, Color background) {
+        label.setFont(font);
+        label.setForeground(foreground);
+        label.setOpaque(background != null);
+        if (background != null) {
+            label.setBackground(background);
+        }
+        return label;
+    }
+
+    /**
+     * A panel laid out like the digital panel of AdvancedDigitalClock, so each frame also pays
+     * for the layout pass that RepaintManager runs after a revalidate
+     */
+    private JPanel createDigitalPanel(JComponent stopwatch) {
+        JPanel panel = new JPanel(new GridLayout(5, 1, 15, 15));
+        panel.add(new JLabel("12:34:56", SwingConstants.CENTER));
+        panel.add(new JLabel("Monday, January 1, 2024", SwingConstants.CENTER));
+        panel.add(new JLabel("No alarm set", SwingConstants.CENTER));
+        panel.add(stopwatch);
+        panel.add(new JLabel("London 22.5°C", SwingConstants.CENTER));
+        panel.setSize(400, 5 * 60 + 4 * 15);
+        panel.validate();
+        return panel;
+    }
+
+    private String nextStopwatchText(char[] buffer) {
+        int length = ClockFormatter.writeStopwatch(buffer, 0, (frame++ & 0xFFFFFF) * 10L);
+        return new String(buffer, 0, length);
+    }
+
+    private void benchmarkButtons() throws Exception {
+        for (int[] size : BUTTON_SIZES) {
+            JButton button = new JButton("Start");
+            button.setUI(new AdvancedDigitalClock.GradientButtonUI(new Color(0, 200, 255), new Color(0, 119, 255)));
+            button.setFont(new Font("Segoe UI", Font.BOLD, 14));
+            button.setForeground(Color.WHITE);
+            renderFrames("gradientButton.frame." + size[0] + "x" + size[1], button, size[0], size[1], () -> { });
+        }
+    }
+
+    /**
+     * A world clock grid with every city on screen, advanced by one minute per frame so every
+     * cell changes; "miniDials" draws an analog dial per city from the shared sprite atlas,
+     * "text" the text cells for comparison. Divide by the city count for the cost of one cell.
+     */
+    private void benchmarkWorldClockGrid() throws Exception {
+        List<String> zones = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(zones);
+        for (boolean miniDials : new boolean[]{true, false}) {
+            WorldClockGrid grid = new WorldClockGrid(new ClockFormatter(Locale.ROOT));
+            for (int i = 0; i < GRID_CITIES; i++) {
+                String zone = zones.get(i % zones.size());
+                grid.addCity(zone.substring(zone.lastIndexOf('/') + 1) + " " + i, ZoneId.of(zone));
+            }
+            grid.setMiniDials(miniDials);
+            // GRID_ROWS cells tall (with the 6 px row gaps), as wide as the columns that makes
+            int cellHeight = miniDials ? WorldClockGrid.MINI_CELL_HEIGHT : WorldClockGrid.CELL_HEIGHT;
+            grid.setSize(1, 6 + GRID_ROWS * (cellHeight + 6));
+            int width = grid.getPreferredSize().width;
+            int height = grid.getPreferredSize().height;
+            Instant start = Instant.parse("2024-03-31T00:00:00Z");
+            renderFrames("worldGrid." + (miniDials ? "miniDials." : "text.") + GRID_CITIES, grid, width, height,
+                () -> grid.update(start.plusSeconds(60L * (frame++ % 100_000)), ZoneOffset.UTC));
+        }
+    }
+
+    /**
+     * Paint the component into an offscreen image after each state update
+     */
+    private void renderFrames(String name, JComponent component, int width, int height, Runnable update) throws Exception {
+        if (!bench.isSelected(name)) {
+            return;
+        }
+        component.setSize(width, height);
+        component.doLayout();
+        // Opaque like the back buffer Swing paints into on screen
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        bench.run(name, () -> {
+            update.run();
+            Graphics2D g = image.createGraphics();
+            try {
+                component.paint(g);
+            } finally {
+                g.dispose();
+            }
+            return image.getRGB(width / 2, height / 2);
+        });
+        image.flush();
+    }
+}
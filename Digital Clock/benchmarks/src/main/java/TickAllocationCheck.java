@@ -0,0 +1,128 @@
+import javax.swing.JLabel;
+import java.awt.Font;
+import java.lang.management.ManagementFactory;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * TickAllocationCheck - verifies that the steady-state clock and stopwatch ticks allocate nothing.
+ *
+ * Runs the dashboard's own tick code, AdvancedDigitalClock.TickDisplays, on real displays,
+ * with the time advancing every tick:
+ * 1. Clock: applyClock shows the time in the glow time label and the (unchanged) day in the
+ *    date label, one second further each tick.
+ * 2. Stopwatch: applyStopwatch shows the elapsed time in the main window's and the stopwatch
+ *    dialog's DigitDisplay, 10 ms further each tick.
+ * The analog dial is left out: once a second it hands its render thread a new frame
+ * description, which is a small allocation by design.
+ *
+ * Bytes allocated by the checking thread are read from com.sun.management.ThreadMXBean around
+ * a run of ticks after warm-up (the best of up to three runs), less the cost of reading the
+ * counter itself. Exits with status 1 if any tick path allocated, printing the bytes per tick.
+ * The benchmarks module runs it in the verify phase.
+ *
+ * Usage: java -Djava.awt.headless=true TickAllocationCheck [ticks]
+ */
+public class TickAllocationCheck {
+
+    private static final int WARMUP_TICKS = 200_000;
+    private static final int WARMUP_RUN = 1000;
+    private static final int MEASURED_RUNS = 3;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final AdvancedDigitalClock.TickDisplays displays = new AdvancedDigitalClock.TickDisplays(new ClockFormatter());
+    // An hour of clock ticks, created up front as TimeService creates them on the scheduler thread
+    private final ZonedDateTime[] hour = new ZonedDateTime[3600];
+
+    private int second;
+    private long stopwatchMillis;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        System.exit(new TickAllocationCheck().run(ticks) ? 0 : 1);
+    }
+
+    public TickAllocationCheck() {
+        AdvancedDigitalClock.GlowTimeLabel timeLabel = new AdvancedDigitalClock.GlowTimeLabel("--:--:--");
+        timeLabel.setFont(new Font("Orbitron", Font.BOLD, 84));
+        timeLabel.stopGlow();
+        displays.timeLabel = timeLabel;
+        displays.dateLabel = new JLabel("Clock Stopped");
+        displays.stopwatchLabel = new DigitDisplay("00:00:00.000", "00:00:00.000");
+        displays.stopwatchDialogLabel = new DigitDisplay("00:00:00.000", "00:00:00.000");
+        ZonedDateTime start = ZonedDateTime.of(2024, 3, 9, 14, 0, 0, 0, ZoneId.of("UTC"));
+        for (int i = 0; i < hour.length; i++) {
+            hour[i] = start.plusSeconds(i);
+        }
+    }
+
+    /**
+     * @return true if neither tick path allocated
+     */
+    public boolean run(int ticks) {
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("Tick allocation check: thread allocation accounting is not supported by this JVM");
+            return false;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        System.out.println("Tick allocation check: " + ticks + " ticks after " + WARMUP_TICKS + " warm-up ticks");
+
+        boolean passed = check("clock", ticks, this::clockTick);
+        passed &= check("stopwatch", ticks, this::stopwatchTick);
+        System.out.println(passed ? "PASSED" : "FAILED");
+        return passed;
+    }
+
+    private boolean check(String name, int ticks, Runnable tick) {
+        // Warm up in short runs, so the measured run enters compiled code instead of starting
+        // interpreted, where escape analysis does not remove short-lived objects yet
+        for (int i = 0; i < WARMUP_TICKS / WARMUP_RUN; i++) {
+            runTicks(tick, WARMUP_RUN);
+        }
+        long overhead = allocatedBytes();
+        overhead = allocatedBytes() - overhead; // What reading the counter itself costs
+
+        // The best of a few runs: the JVM may allocate once on this thread when the first long
+        // run is compiled, while a tick that allocates does so in every run
+        long allocated = Long.MAX_VALUE;
+        for (int run = 0; run < MEASURED_RUNS && allocated > 0; run++) {
+            long before = allocatedBytes();
+            runTicks(tick, ticks);
+            allocated = Math.min(allocated, allocatedBytes() - before - overhead);
+        }
+
+        boolean passed = allocated <= 0;
+        System.out.printf("  %-10s %s: %d bytes over %d ticks (%.3f B/tick)%n",
+            name, passed ? "ok" : "ALLOCATES", Math.max(0, allocated), ticks, Math.max(0, allocated) / (double) ticks);
+        return passed;
+    }
+
+    private static void runTicks(Runnable tick, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick.run();
+        }
+    }
+
+    private long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * One second of the clock, as applyClockDisplay shows it
+     */
+    private void clockTick() {
+        second = (second + 1) % hour.length;
+        displays.applyClock(hour[second]);
+    }
+
+    /**
+     * One 10 ms stopwatch update, as applyStopwatchDisplay shows it
+     */
+    private void stopwatchTick() {
+        stopwatchMillis += 10;
+        displays.applyStopwatch(stopwatchMillis);
+    }
+}
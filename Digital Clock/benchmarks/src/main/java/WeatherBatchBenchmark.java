@@ -0,0 +1,72 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WeatherBatchBenchmark - fetches the weather of many cities in one WeatherService batch
+ * from a local WeatherStubServer with artificial latency.
+ *
+ * Reports when the first and last results arrived, how many requests reached the server
+ * (duplicates are coalesced) and the peak number of live threads, which must not grow
+ * with the number of cities. A second pass shows the batch served from the cache.
+ *
+ * Usage: java WeatherBatchBenchmark [cities] [lanes] [latencyMillis] [requestsPerSecond]
+ */
+public class WeatherBatchBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int cityCount = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int lanes = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        long latencyMillis = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        double rate = args.length > 3 ? Double.parseDouble(args[3]) : 400;
+
+        // Every tenth city is requested twice, once in different case
+        List<String> cities = new ArrayList<>();
+        for (int i = 0; i < cityCount; i++) {
+            cities.add("City " + i);
+            if (i % 10 == 0) {
+                cities.add(" CITY " + i + " ");
+            }
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        try (WeatherStubServer stub = new WeatherStubServer(0, latencyMillis);
+             WeatherService service = new WeatherService(
+                 new HttpWeatherProvider(stub.getUri(), Duration.ofSeconds(5), rate),
+                 WeatherService.DEFAULT_TTL_MILLIS, WeatherService.DEFAULT_STALE_MILLIS, lanes)) {
+            System.out.printf(Locale.ROOT, "Weather batch: %d cities (%d requested), %d lanes, %d ms latency, %.0f requests/s%n",
+                cityCount, cities.size(), lanes, latencyMillis, rate);
+            runBatch("cold", service, cities, lanes, threads);
+            System.out.println("  server requests: " + stub.getRequestCount());
+            runBatch("cached", service, cities, lanes, threads);
+            System.out.println("  server requests: " + stub.getRequestCount());
+            System.out.println("  " + service.getReport());
+        }
+    }
+
+    private static void runBatch(String name, WeatherService service, List<String> cities, int lanes,
+                                 ThreadMXBean threads) {
+        int liveThreads = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        AtomicInteger results = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicLong firstNanos = new AtomicLong();
+        long start = System.nanoTime();
+        service.getAll(cities, lanes, (city, report, error) -> {
+            firstNanos.compareAndSet(0, System.nanoTime());
+            results.incrementAndGet();
+            if (error != null) {
+                failures.incrementAndGet();
+            }
+        }).join();
+        long end = System.nanoTime();
+        System.out.printf(Locale.ROOT, "%-8s %d results (%d failed), first after %.1f ms, all after %.1f ms, threads %d -> peak %d%n",
+            name, results.get(), failures.get(), (firstNanos.get() - start) / 1e6, (end - start) / 1e6,
+            liveThreads, threads.getPeakThreadCount());
+    }
+}
@@ -0,0 +1,62 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WeatherJsonBenchmark - benchmarks WeatherJsonReader on the sample payloads.
+ *
+ * Each operation reads a response from its UTF-8 bytes, as HttpWeatherProvider does,
+ * so decoding is included. The line format parse is measured for comparison.
+ *
+ * Usage: java WeatherJsonBenchmark [-wi N] [-i N] [-t millis] [filter]
+ */
+public class WeatherJsonBenchmark {
+
+    private static final int GROUP_SIZE = 100;
+
+    private final MicroBench bench;
+
+    public WeatherJsonBenchmark(MicroBench bench) {
+        this.bench = bench;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new WeatherJsonBenchmark(MicroBench.fromArgs("Weather JSON benchmark", args)).runAll();
+    }
+
+    public void runAll() throws Exception {
+        byte[] london = sample("current-london.json");
+        byte[] saoPaulo = sample("current-sao-paulo.json");
+        byte[] europe = sample("group-europe.json");
+        List<WeatherReport> reports = new ArrayList<>();
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            reports.add(WeatherReport.parse(WeatherReport.simulateData("City " + i)));
+        }
+        byte[] group = WeatherStubServer.groupJson(reports).getBytes(StandardCharsets.UTF_8);
+        String line = WeatherReport.simulateData("London");
+
+        bench.run("json.current", () -> read(london));
+        bench.run("json.currentEscaped", () -> read(saoPaulo));
+        bench.run("json.group.8", () -> readAll(europe));
+        bench.run("json.group." + GROUP_SIZE, () -> readAll(group));
+        bench.run("lineFormat.parse", () -> WeatherReport.parse(line));
+    }
+
+    private static byte[] sample(String name) throws IOException {
+        return WeatherJsonFuzzer.loadSample(name).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static WeatherReport read(byte[] json) throws IOException {
+        return WeatherJsonReader.read(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+    }
+
+    private static int readAll(byte[] json) throws IOException {
+        int[] humidity = new int[1];
+        WeatherJsonReader.readAll(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8),
+            report -> humidity[0] += report.getHumidity());
+        return humidity[0];
+    }
+}
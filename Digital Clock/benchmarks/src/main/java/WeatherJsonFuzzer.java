@@ -0,0 +1,380 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * WeatherJsonFuzzer - robustness and differential checks for WeatherJsonReader.
+ *
+ * 1. The sample payloads (resources/weather) must read to their known reports.
+ * 2. Mutated samples (replaced, deleted, duplicated, inserted or swapped characters,
+ *    truncation) must either read or fail with an IOException; anything else is a bug.
+ * 3. Generated documents that hide the wanted fields among random members, nesting,
+ *    string escapes, number forms and whitespace must read to exactly the generated values.
+ *
+ * Input is fed through a reader returning random small chunks, so tokens straddle the
+ * reader's buffer boundaries. Exits with status 1 on the first failure, printing the seed
+ * and the input.
+ *
+ * Usage: java WeatherJsonFuzzer [iterations] [seed]
+ */
+public class WeatherJsonFuzzer {
+
+    static final String[] SAMPLES = {"current-london.json", "current-sao-paulo.json", "group-europe.json"};
+
+    // Reports of the samples as "name|temperature|humidity|description"
+    private static final String[][] SAMPLE_REPORTS = {
+        {"London|12.63|76|broken clouds"},
+        {"São Paulo|27.1|83|light rain"},
+        {"London|12.63|76|broken clouds", "Paris|14.02|63|clear sky", "Berlin|8.4|81|overcast clouds",
+         "Madrid|17.85|48|few clouds", "Rome|16.3|82|light rain", "Stockholm|-1.5|92|light snow",
+         "İstanbul|15.09|72|scattered clouds", "Kyiv|4.97|100|fog"},
+    };
+
+    private static final String MUTATION_CHARACTERS = "{}[]\":,\\/-+.eE0123456789 \n\tabfnrtulsxé\u0000￿";
+    private static final String TEXT_CHARACTERS = "abcXYZ 09\"\\/\b\f\n\r\t\u0001é中😀";
+    private static final String[] WHITESPACE = {"", "", " ", "\n  ", "\t", "\r\n"};
+
+    private final Random random;
+    private final long seed;
+    private String input; // Current input, printed on failure
+
+    public WeatherJsonFuzzer(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        new WeatherJsonFuzzer(seed).run(iterations);
+    }
+
+    public void run(int iterations) throws IOException {
+        System.out.println("Weather JSON fuzzer: " + iterations + " iterations, seed " + seed);
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < SAMPLES.length; i++) {
+            samples.add(loadSample(SAMPLES[i]));
+            input = samples.get(i);
+            List<String> read = describe(readAll(input));
+            if (!read.equals(List.of(SAMPLE_REPORTS[i]))) {
+                fail("Sample " + SAMPLES[i] + " read as " + read, null);
+            }
+        }
+        System.out.println("samples    " + samples.size() + " payloads read as recorded");
+
+        int accepted = 0;
+        int rejected = 0;
+        for (int i = 0; i < iterations; i++) {
+            input = mutate(samples.get(random.nextInt(samples.size())));
+            try {
+                readAll(input);
+                accepted++;
+            } catch (IOException e) {
+                rejected++;
+            } catch (Throwable e) {
+                fail("Mutated input threw " + e, e);
+            }
+        }
+        System.out.println("mutated    " + iterations + " inputs: " + accepted + " read, " + rejected
+            + " rejected with IOException, 0 other exceptions");
+
+        for (int i = 0; i < iterations; i++) {
+            List<String> expected = new ArrayList<>();
+            input = generateDocument(expected);
+            List<String> read;
+            try {
+                read = describe(readAll(input));
+            } catch (Throwable e) {
+                fail("Generated document threw " + e, e);
+                return;
+            }
+            if (!read.equals(expected)) {
+                fail("Generated document read as " + read + ", expected " + expected, null);
+            }
+        }
+        System.out.println("generated  " + iterations + " documents read exactly");
+    }
+
+    static String loadSample(String name) throws IOException {
+        try (InputStream in = WeatherJsonFuzzer.class.getResourceAsStream("/weather/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing sample payload " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<WeatherReport> readAll(String json) throws IOException {
+        List<WeatherReport> reports = new ArrayList<>();
+        WeatherJsonReader.readAll(new ChunkedReader(json, random), reports::add);
+        return reports;
+    }
+
+    private static List<String> describe(List<WeatherReport> reports) {
+        List<String> descriptions = new ArrayList<>();
+        for (WeatherReport report : reports) {
+            descriptions.add(describe(report.getCity(), report.getTemperature(), report.getHumidity(), report.getDescription()));
+        }
+        return descriptions;
+    }
+
+    private static String describe(String city, double temperature, int humidity, String description) {
+        return city + "|" + temperature + "|" + humidity + "|" + description;
+    }
+
+    private void fail(String message, Throwable cause) {
+        System.out.println("FAILED (seed " + seed + "): " + message);
+        if (cause != null) {
+            cause.printStackTrace(System.out);
+        }
+        String shown = input.length() > 2000 ? input.substring(0, 2000) + "..." : input;
+        System.out.println("Input: " + shown);
+        System.exit(1);
+    }
+
+    // Mutation
+
+    private String mutate(String sample) {
+        StringBuilder text = new StringBuilder(sample);
+        int mutations = 1 + random.nextInt(4);
+        for (int i = 0; i < mutations && text.length() > 0; i++) {
+            int at = random.nextInt(text.length());
+            int end = Math.min(text.length(), at + 1 + random.nextInt(8));
+            switch (random.nextInt(6)) {
+                case 0:
+                    text.setCharAt(at, randomChar(MUTATION_CHARACTERS));
+                    break;
+                case 1:
+                    text.delete(at, end);
+                    break;
+                case 2:
+                    text.insert(at, text.substring(at, end));
+                    break;
+                case 3:
+                    text.insert(at, randomChar(MUTATION_CHARACTERS));
+                    break;
+                case 4:
+                    text.setLength(at);
+                    break;
+                default:
+                    int other = random.nextInt(text.length());
+                    char c = text.charAt(at);
+                    text.setCharAt(at, text.charAt(other));
+                    text.setCharAt(other, c);
+            }
+        }
+        return text.toString();
+    }
+
+    private char randomChar(String characters) {
+        return characters.charAt(random.nextInt(characters.length()));
+    }
+
+    // Generation
+
+    /**
+     * A city object, group response or array of cities; the reports go to expected
+     */
+    private String generateDocument(List<String> expected) {
+        StringBuilder json = new StringBuilder();
+        int shape = random.nextInt(3);
+        if (shape == 0) {
+            generateCity(json, expected);
+            return json.toString();
+        }
+        int count = random.nextInt(5);
+        if (shape == 1) {
+            json.append('{');
+            space(json);
+            json.append("\"cnt\":").append(count).append(',');
+            space(json);
+            json.append("\"list\":");
+        }
+        json.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            space(json);
+            generateCity(json, expected);
+            space(json);
+        }
+        json.append(']');
+        if (shape == 1) {
+            space(json);
+            json.append('}');
+        }
+        return json.toString();
+    }
+
+    private void generateCity(StringBuilder json, List<String> expected) {
+        String name = randomText();
+        String description = randomText();
+        String temperature = randomNumber();
+        String humidity = random.nextBoolean() ? String.valueOf(random.nextInt(101))
+            : String.format(Locale.ROOT, "%.1fe1", random.nextInt(101) / 10.0);
+        expected.add(describe(name, Double.parseDouble(temperature), (int) Math.round(Double.parseDouble(humidity)), description));
+
+        List<String> main = noiseMembers();
+        main.add("\"temp\":" + temperature);
+        main.add("\"humidity\":" + humidity);
+        Collections.shuffle(main, random);
+
+        List<String> condition = noiseMembers();
+        condition.add("\"description\":" + quote(description));
+        Collections.shuffle(condition, random);
+        StringBuilder weather = new StringBuilder("[");
+        appendObject(weather, condition);
+        for (int i = random.nextInt(3); i > 0; i--) {
+            weather.append(',');
+            appendValue(weather, 0);
+        }
+        weather.append(']');
+
+        StringBuilder mainObject = new StringBuilder();
+        appendObject(mainObject, main);
+        List<String> city = noiseMembers();
+        city.add("\"name\":" + quote(name));
+        city.add("\"main\":" + mainObject);
+        city.add("\"weather\":" + weather);
+        Collections.shuffle(city, random);
+        appendObject(json, city);
+    }
+
+    private List<String> noiseMembers() {
+        List<String> members = new ArrayList<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            StringBuilder member = new StringBuilder(quote(randomNoiseKey())).append(':');
+            appendValue(member, 0);
+            members.add(member.toString());
+        }
+        return members;
+    }
+
+    /**
+     * Keys that look like the wanted ones but are not
+     */
+    private String randomNoiseKey() {
+        String[] keys = {"id", "coord", "temp_min", "Name", "names", "mains", "description ", "cnt", "weathers"};
+        return random.nextInt(4) == 0 ? randomText() : keys[random.nextInt(keys.length)];
+    }
+
+    private void appendObject(StringBuilder json, List<String> members) {
+        json.append('{');
+        for (int i = 0; i < members.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            space(json);
+            json.append(members.get(i));
+            space(json);
+        }
+        json.append('}');
+    }
+
+    private void appendValue(StringBuilder json, int depth) {
+        int kind = random.nextInt(depth < 4 ? 8 : 5);
+        switch (kind) {
+            case 0: json.append(randomNumber()); break;
+            case 1: json.append(quote(randomText())); break;
+            case 2: json.append("true"); break;
+            case 3: json.append("false"); break;
+            case 4: json.append("null"); break;
+            case 5:
+                json.append('[');
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    appendValue(json, depth + 1);
+                    json.append(i > 1 ? "," : "");
+                }
+                json.append(']');
+                break;
+            case 6:
+                json.append('{');
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    json.append(quote(randomNoiseKey())).append(':');
+                    appendValue(json, depth + 1);
+                    json.append(i > 1 ? "," : "");
+                }
+                json.append('}');
+                break;
+            default:
+                // Deep nesting, far beyond what a recursive reader could take
+                int nesting = 1 + random.nextInt(20_000);
+                json.append("[".repeat(nesting)).append("]".repeat(nesting));
+        }
+    }
+
+    private String randomNumber() {
+        double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(7) - 2);
+        switch (random.nextInt(4)) {
+            case 0: return String.valueOf(value);
+            case 1: return String.format(Locale.ROOT, "%.3e", value);
+            case 2: return String.valueOf(Math.round(value));
+            default: return String.format(Locale.ROOT, "%.2f", value);
+        }
+    }
+
+    private String randomText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(random.nextInt(10) == 0 ? 250 : 20); i >= 0; i--) {
+            text.append(randomChar(TEXT_CHARACTERS));
+        }
+        return text.toString();
+    }
+
+    /**
+     * A JSON string, with a random choice of escapes
+     */
+    private String quote(String text) {
+        StringBuilder json = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c == '/' && random.nextBoolean()) {
+                json.append("\\/");
+            } else if (c < 0x20 || random.nextInt(8) == 0) {
+                String shortEscape = "\b\f\n\r\t".indexOf(c) >= 0 ? "\\" + "bfnrt".charAt("\b\f\n\r\t".indexOf(c)) : null;
+                json.append(shortEscape != null && random.nextBoolean() ? shortEscape
+                    : String.format(Locale.ROOT, random.nextBoolean() ? "\\u%04x" : "\\u%04X", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    private void space(StringBuilder json) {
+        json.append(WHITESPACE[random.nextInt(WHITESPACE.length)]);
+    }
+
+    /**
+     * Returns the text in random chunks of 1 to 64 characters
+     */
+    private static final class ChunkedReader extends Reader {
+        private final StringReader in;
+        private final Random random;
+
+        private ChunkedReader(String text, Random random) {
+            this.in = new StringReader(text);
+            this.random = random;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return in.read(buffer, offset, Math.min(length, 1 + random.nextInt(64)));
+        }
+
+        @Override
+        public void close() {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WeatherStubServer - a local HTTP weather endpoint for trying HttpWeatherProvider
+ * and WeatherService without a real weather API.
+ *
+ * Serves GET /weather?city=NAME with simulated weather, after an optional artificial
+ * latency: JSON in the OpenWeatherMap current-weather format when the client accepts
+ * application/json, otherwise the WeatherReport line format. Several city parameters
+ * get one group response {"cnt": N, "list": [...]}. Listens on the loopback address only.
+ *
+ * Usage: java WeatherStubServer [port] [latencyMillis]
+ * Then:  java -Dclock.weather.url=http://localhost:PORT/weather AdvancedDigitalClock
+ */
+public final class WeatherStubServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8089;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMillis;
+
+    /**
+     * Start serving; port 0 picks a free port
+     */
+    public WeatherStubServer(int port, long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/weather", this::handle);
+        server.setExecutor(executor); // Requests sleep concurrently, like a real slow server
+        server.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long latency = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        WeatherStubServer stub = new WeatherStubServer(port, latency);
+        System.out.println("Weather stub serving " + stub.getUri() + " with " + latency + " ms latency");
+    }
+
+    /**
+     * The endpoint URI for HttpWeatherProvider
+     */
+    public URI getUri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/weather");
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            List<String> cities = queryParameters(exchange.getRequestURI(), "city");
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            boolean json = accept != null && accept.contains("application/json");
+            if (!"GET".equals(exchange.getRequestMethod()) || cities.isEmpty()
+                    || cities.stream().anyMatch(String::isBlank) || cities.size() > 1 && !json) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+            }
+            String response;
+            if (!json) {
+                response = WeatherReport.simulateData(cities.get(0));
+            } else if (cities.size() == 1) {
+                response = currentWeatherJson(simulate(cities.get(0)));
+            } else {
+                List<WeatherReport> reports = new ArrayList<>();
+                for (String city : cities) {
+                    reports.add(simulate(city));
+                }
+                response = groupJson(reports);
+            }
+            byte[] body = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", json ? "application/json; charset=utf-8" : "text/plain; charset=utf-8");
+            // A reused connection costs the JDK server about 50 ms per request on loopback; a new one far less
+            exchange.getResponseHeaders().set("Connection", "close");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static WeatherReport simulate(String city) {
+        return WeatherReport.parse(WeatherReport.simulateData(city));
+    }
+
+    /**
+     * A report as an OpenWeatherMap current-weather response, including fields a reader must skip
+     */
+    public static String currentWeatherJson(WeatherReport report) {
+        StringBuilder json = new StringBuilder(512);
+        appendCity(json, report);
+        return json.toString();
+    }
+
+    /**
+     * Reports as an OpenWeatherMap group response
+     */
+    public static String groupJson(List<WeatherReport> reports) {
+        StringBuilder json = new StringBuilder(64 + reports.size() * 512);
+        json.append("{\"cnt\":").append(reports.size()).append(",\"list\":[");
+        for (int i = 0; i < reports.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendCity(json, reports.get(i));
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendCity(StringBuilder json, WeatherReport report) {
+        int id = Math.abs(report.getCity().hashCode() % 1_000_000);
+        double temp = report.getTemperature();
+        json.append(String.format(Locale.ROOT,
+            "{\"coord\":{\"lon\":%.4f,\"lat\":%.4f},"
+                + "\"weather\":[{\"id\":800,\"main\":\"Clear\",\"description\":",
+            (id % 36000) / 100.0 - 180, (id % 18000) / 100.0 - 90));
+        appendString(json, report.getDescription());
+        json.append(String.format(Locale.ROOT,
+            ",\"icon\":\"01d\"}],\"base\":\"stations\","
+                + "\"main\":{\"temp\":%.2f,\"feels_like\":%.2f,\"temp_min\":%.2f,\"temp_max\":%.2f,"
+                + "\"pressure\":1013,\"humidity\":%d},"
+                + "\"visibility\":10000,\"wind\":{\"speed\":3.6,\"deg\":250},\"clouds\":{\"all\":0},"
+                + "\"dt\":1700000000,\"sys\":{\"type\":2,\"id\":%d,\"country\":\"XX\","
+                + "\"sunrise\":1699944000,\"sunset\":1699978000},\"timezone\":0,\"id\":%d,\"name\":",
+            temp, temp - 1.5, temp - 2, temp + 2, report.getHumidity(), id % 10000, id));
+        appendString(json, report.getCity());
+        json.append(",\"cod\":200}");
+    }
+
+    private static void appendString(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static List<String> queryParameters(URI uri, String name) {
+        List<String> values = new ArrayList<>();
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                values.add(URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+}
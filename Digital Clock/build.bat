@@ -2,35 +2,49 @@
 echo Digital Clock Application Build Script
 echo ===================================
 
+set UI_CP=core\target\classes;swing-ui\target\classes
+set BENCH_CP=%UI_CP%;benchmarks\target\classes
+
 if "%1"=="clean" goto clean
 if "%1"=="compile" goto compile
 if "%1"=="run" goto run
 if "%1"=="run-basic" goto run-basic
 if "%1"=="run-analog" goto run-analog
-if "%1"=="run-world" goto run-world
 if "%1"=="run-advanced" goto run-advanced
+if "%1"=="bench" goto bench
+if "%1"=="bench-core" goto bench-core
+if "%1"=="bench-weather" goto bench-weather
+if "%1"=="bench-json" goto bench-json
+if "%1"=="fuzz-json" goto fuzz-json
+if "%1"=="check-alloc" goto check-alloc
+if "%1"=="weather-stub" goto weather-stub
 
 echo Usage: build.bat [option]
 echo Options:
-echo   compile       - Compile all Java files
-echo   clean         - Remove all compiled class files
+echo   compile       - Build all modules with Maven (core, swing-ui, benchmarks)
+echo   clean         - Remove all build output
 echo   run           - Run the Advanced Digital Clock (default)
 echo   run-basic     - Run the Basic Digital Clock
 echo   run-analog    - Run the Analog Clock
-echo   run-world     - Run the World Time Zones Clock
 echo   run-advanced  - Run the Advanced Digital Clock
+echo   bench         - Run the headless render benchmarks
+echo   bench-core    - Run the core benchmarks (formatter, alarms)
+echo   bench-weather - Fetch weather for many cities from a local stub server
+echo   bench-json    - Run the weather JSON reader benchmarks
+echo   fuzz-json     - Fuzz the weather JSON reader
+echo   check-alloc   - Check that clock and stopwatch ticks allocate nothing
+echo   weather-stub  - Serve simulated weather over HTTP on localhost
 goto end
 
 :clean
-echo Cleaning build directory...
-if exist "build\*.class" del /Q "build\*.class"
+echo Cleaning build directories...
+call mvn -B -q clean
 echo Done.
 goto end
 
 :compile
 echo Compiling Java files...
-if not exist "build" mkdir "build"
-javac -d "build" "Src\AdvancedDigitalClock.java" "Src\AnalogClock.java" "Src\DigitalClock.java" "Src\WorldTimeZones.java"
+call mvn -B -q package
 if %ERRORLEVEL% NEQ 0 (
     echo Compilation failed.
     goto end
@@ -41,22 +55,60 @@ goto end
 :run
 :run-advanced
 echo Running Advanced Digital Clock...
-java -cp "build" AdvancedDigitalClock
+java -cp "%UI_CP%" AdvancedDigitalClock
 goto end
 
 :run-basic
 echo Running Basic Digital Clock...
-java -cp "build" DigitalClock
+java -cp "%UI_CP%" DigitalClock
 goto end
 
 :run-analog
 echo Running Analog Clock...
-java -cp "build" AnalogClock
+java -cp "%UI_CP%" AnalogClock
+goto end
+
+rem Usage: build.bat bench [-wi N] [-i N] [-t millis] [filter]
+:bench
+echo Running render benchmarks...
+java -Djava.awt.headless=true -cp "%BENCH_CP%" RenderBenchmark %2 %3 %4 %5 %6 %7 %8
+goto end
+
+:bench-core
+echo Running core benchmarks...
+java -cp "%BENCH_CP%" CoreBenchmark %2 %3 %4 %5 %6 %7 %8
+goto end
+
+rem Usage: build.bat bench-weather [cities] [lanes] [latencyMillis] [requestsPerSecond]
+:bench-weather
+echo Running weather batch benchmark...
+java -cp "%BENCH_CP%" WeatherBatchBenchmark %2 %3 %4 %5
+goto end
+
+rem Usage: build.bat bench-json [-wi N] [-i N] [-t millis] [filter]
+:bench-json
+echo Running weather JSON benchmarks...
+java -cp "%BENCH_CP%" WeatherJsonBenchmark %2 %3 %4 %5 %6 %7 %8
+goto end
+
+rem Usage: build.bat fuzz-json [iterations] [seed]
+:fuzz-json
+echo Fuzzing the weather JSON reader...
+java -cp "%BENCH_CP%" WeatherJsonFuzzer %2 %3
+if %ERRORLEVEL% NEQ 0 echo Fuzzing found a failure.
+goto end
+
+rem Usage: build.bat check-alloc [ticks]
+:check-alloc
+echo Checking tick allocations...
+java -Djava.awt.headless=true -cp "%BENCH_CP%" TickAllocationCheck %2
+if %ERRORLEVEL% NEQ 0 echo A tick path allocates.
 goto end
 
-:run-world
-echo Running World Time Zones Clock...
-java -cp "build" WorldTimeZones
+rem Usage: build.bat weather-stub [port] [latencyMillis]
+:weather-stub
+echo Starting weather stub server...
+java -cp "%BENCH_CP%" WeatherStubServer %2 %3
 goto end
 
 :end
@@ -0,0 +1,53 @@
+#!/bin/sh
+# Digital Clock build script for Linux/macOS (kiosks, headless build machines)
+cd "$(dirname "$0")" || exit 1
+
+UI_CP="core/target/classes:swing-ui/target/classes"
+BENCH_CP="$UI_CP:benchmarks/target/classes"
+
+command="$1"
+[ $# -gt 0 ] && shift
+
+case "$command" in
+    clean)
+        mvn -B -q clean
+        ;;
+    compile)
+        mvn -B -q package || { echo "Compilation failed."; exit 1; }
+        echo "Compilation successful."
+        ;;
+    run|run-advanced)
+        exec java -cp "$UI_CP" AdvancedDigitalClock
+        ;;
+    run-basic)
+        exec java -cp "$UI_CP" DigitalClock
+        ;;
+    run-analog)
+        exec java -cp "$UI_CP" AnalogClock
+        ;;
+    bench)
+        exec java -Djava.awt.headless=true -cp "$BENCH_CP" RenderBenchmark "$@"
+        ;;
+    bench-core)
+        exec java -cp "$BENCH_CP" CoreBenchmark "$@"
+        ;;
+    bench-weather)
+        exec java -cp "$BENCH_CP" WeatherBatchBenchmark "$@"
+        ;;
+    bench-json)
+        exec java -cp "$BENCH_CP" WeatherJsonBenchmark "$@"
+        ;;
+    fuzz-json)
+        exec java -cp "$BENCH_CP" WeatherJsonFuzzer "$@"
+        ;;
+    check-alloc)
+        exec java -Djava.awt.headless=true -cp "$BENCH_CP" TickAllocationCheck "$@"
+        ;;
+    weather-stub)
+        exec java -cp "$BENCH_CP" WeatherStubServer "$@"
+        ;;
+    *)
+        echo "Usage: build.sh [compile|clean|run|run-basic|run-analog|run-advanced|bench|bench-core|bench-weather|bench-json|fuzz-json|check-alloc|weather-stub] [options]"
+        exit 1
+        ;;
+esac
@@ -0,0 +1,322 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AlarmEngine class that fires each alarm occurrence exactly once.
+ *
+ * Enabled alarms are kept in a min-heap ordered by their next fire instant. A single
+ * daemon thread sleeps until the head of the heap is due, fires it, and puts repeating
+ * alarms back for the next day (one-shot alarms are disabled). Nothing is scanned per
+ * second, and the next alarm is a peek at the head of the heap.
+ */
+public class AlarmEngine {
+
+    /**
+     * Callback invoked on the engine thread when an alarm goes off
+     */
+    public interface AlarmListener {
+        void onAlarm(AlarmTime alarm, Instant fireTime);
+    }
+
+    // An occurrence is only fired if the engine wakes within this window (e.g. not hours later after a suspend)
+    private static final long LATE_FIRE_WINDOW_MILLIS = 60_000;
+
+    // Longest single sleep, so a wall-clock adjustment is noticed within a minute
+    private static final long MAX_WAIT_MILLIS = 60_000;
+
+    /**
+     * Heap entry: one scheduled occurrence of an alarm
+     */
+    private static final class Occurrence implements Comparable<Occurrence> {
+        private final AlarmTime alarm;
+        private final Instant fireTime;
+        private final long sequence; // Insertion order breaks ties between alarms set for the same minute
+
+        private Occurrence(AlarmTime alarm, Instant fireTime, long sequence) {
+            this.alarm = alarm;
+            this.fireTime = fireTime;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Occurrence other) {
+            int byTime = fireTime.compareTo(other.fireTime);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final AlarmListener listener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final List<AlarmTime> alarms = new ArrayList<>(); // All alarms in the order they were added
+    private final PriorityQueue<Occurrence> queue = new PriorityQueue<>();
+    private final Map<AlarmTime, Occurrence> scheduled = new IdentityHashMap<>();
+    private long nextSequence = 0;
+    private long firedCount = 0;
+
+    private Thread engineThread;
+    private boolean running = false;
+
+    public AlarmEngine(AlarmListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Add an alarm; if it is enabled it is scheduled for its next occurrence
+     */
+    public void add(AlarmTime alarm) {
+        lock.lock();
+        try {
+            alarms.add(alarm);
+            if (alarm.isEnabled()) {
+                schedule(alarm, ZonedDateTime.now());
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove an alarm and any pending occurrence of it
+     */
+    public void remove(AlarmTime alarm) {
+        lock.lock();
+        try {
+            alarms.remove(alarm);
+            unschedule(alarm);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enable or disable an alarm, (re)scheduling it accordingly
+     */
+    public void setEnabled(AlarmTime alarm, boolean enabled) {
+        lock.lock();
+        try {
+            alarm.setEnabled(enabled);
+            unschedule(alarm);
+            if (enabled && alarms.contains(alarm)) {
+                schedule(alarm, ZonedDateTime.now());
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Snapshot of all alarms in the order they were added
+     */
+    public List<AlarmTime> getAlarms() {
+        lock.lock();
+        try {
+            return new ArrayList<>(alarms);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getAlarmCount() {
+        lock.lock();
+        try {
+            return alarms.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of enabled alarms (each has exactly one occurrence in the heap)
+     */
+    public int getEnabledCount() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The alarm that will go off next, or null if none is enabled
+     */
+    public AlarmTime getNextAlarm() {
+        lock.lock();
+        try {
+            Occurrence head = queue.peek();
+            return head != null ? head.alarm : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * When the next alarm will go off, or null if none is enabled
+     */
+    public Instant getNextFireTime() {
+        lock.lock();
+        try {
+            Occurrence head = queue.peek();
+            return head != null ? head.fireTime : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFiredCount() {
+        lock.lock();
+        try {
+            return firedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isRunning() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start firing alarms. An alarm set for the current minute still fires, but
+     * occurrences missed while stopped do not.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            skipMissed(ZonedDateTime.now());
+            engineThread = new Thread(this::runLoop, "AlarmEngine");
+            engineThread.setDaemon(true);
+            engineThread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop firing alarms; the heap is kept so the next alarm can still be shown
+     */
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            engineThread = null;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runLoop() {
+        lock.lock();
+        try {
+            while (running && engineThread == Thread.currentThread()) {
+                Occurrence head = queue.peek();
+                if (head == null) {
+                    changed.await(); // Nothing enabled - wait until an alarm is added
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                long due = head.fireTime.toEpochMilli();
+                if (now < due) {
+                    changed.await(Math.min(due - now, MAX_WAIT_MILLIS), TimeUnit.MILLISECONDS);
+                    continue; // Re-check: the heap may have changed or the wall clock moved
+                }
+
+                queue.poll();
+                scheduled.remove(head.alarm);
+                AlarmTime alarm = head.alarm;
+                if (alarm.isRepeating()) {
+                    // Next occurrence is the same time on a later day
+                    schedule(alarm, head.fireTime.plus(1, ChronoUnit.MINUTES).atZone(ZoneId.systemDefault()));
+                } else {
+                    alarm.setEnabled(false);
+                }
+
+                if (now - due >= LATE_FIRE_WINDOW_MILLIS) {
+                    System.out.println("Skipped missed alarm: " + alarm.getLabel() + " at " + alarm.getTimeString());
+                    continue;
+                }
+
+                firedCount++;
+                lock.unlock();
+                try {
+                    listener.onAlarm(alarm, head.fireTime);
+                } catch (RuntimeException e) {
+                    System.err.println("Error in alarm listener: " + e.getMessage());
+                    e.printStackTrace();
+                } finally {
+                    lock.lock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move occurrences that went by while the engine was stopped to their next time;
+     * occurrences that already fired were rescheduled when they fired, so none repeats
+     */
+    private void skipMissed(ZonedDateTime from) {
+        Instant minute = from.truncatedTo(ChronoUnit.MINUTES).toInstant();
+        for (AlarmTime alarm : new ArrayList<>(scheduled.keySet())) {
+            if (scheduled.get(alarm).fireTime.isBefore(minute)) {
+                unschedule(alarm);
+                schedule(alarm, from);
+            }
+        }
+    }
+
+    private void schedule(AlarmTime alarm, ZonedDateTime from) {
+        Occurrence occurrence = new Occurrence(alarm, nextFireTime(alarm, from), nextSequence++);
+        scheduled.put(alarm, occurrence);
+        queue.add(occurrence);
+    }
+
+    private void unschedule(AlarmTime alarm) {
+        Occurrence occurrence = scheduled.remove(alarm);
+        if (occurrence != null) {
+            queue.remove(occurrence);
+        }
+    }
+
+    /**
+     * First occurrence of the alarm time that is not before the minute containing 'from'
+     */
+    static Instant nextFireTime(AlarmTime alarm, ZonedDateTime from) {
+        ZonedDateTime minute = from.truncatedTo(ChronoUnit.MINUTES);
+        ZonedDateTime candidate = from.with(alarm.getTime());
+        if (candidate.isBefore(minute)) {
+            // Re-apply the time on the next day so a DST change in between is handled
+            candidate = from.plusDays(1).with(alarm.getTime());
+        }
+        return candidate.toInstant();
+    }
+}
@@ -0,0 +1,49 @@
+import java.time.LocalTime;
+
+/**
+ * AlarmTime class to hold one alarm: time of day, label, sound and repeat/enabled flags
+ */
+public class AlarmTime {
+    private LocalTime time;
+    private String label;
+    private volatile boolean enabled; // Cleared by the AlarmEngine thread when a one-shot alarm fires
+    private boolean repeating;
+    private int soundNumber; // Sound number (1-8) for alarm sound selection
+    
+    public AlarmTime(LocalTime time, String label, boolean enabled, boolean repeating) {
+        this.time = time;
+        this.label = label;
+        this.enabled = enabled;
+        this.repeating = repeating;
+        this.soundNumber = 1; // Default to alarm1.wav
+    }
+    
+    public AlarmTime(LocalTime time, String label, boolean enabled, boolean repeating, int soundNumber) {
+        this.time = time;
+        this.label = label;
+        this.enabled = enabled;
+        this.repeating = repeating;
+        this.soundNumber = (soundNumber >= 1 && soundNumber <= 8) ? soundNumber : 1; // Validate sound number
+    }
+    
+    public LocalTime getTime() { return time; }
+    public String getLabel() { return label; }
+    public boolean isEnabled() { return enabled; }
+    public boolean isRepeating() { return repeating; }
+    public int getSoundNumber() { return soundNumber; }
+    
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    
+    public String getTimeString() {
+        return String.format("%02d:%02d", time.getHour(), time.getMinute());
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s - %s %s%s", 
+            getTimeString(), 
+            label, 
+            enabled ? "[ON]" : "[OFF]",
+            repeating ? " (Repeat)" : "");
+    }
+}
@@ -0,0 +1,171 @@
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.ZonedDateTime;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * ClockFormatter class that formats clock, date and stopwatch text without
+ * SimpleDateFormat, String.format or per-call DateTimeFormatter instances.
+ *
+ * The static write methods use precomputed two-digit tables and write into a
+ * caller-supplied char buffer, so they never allocate and are safe from any thread;
+ * ticking displays show that buffer (see DigitDisplay.setText(char[], int, int)).
+ * The instance methods return Strings from caches (day/month names, every HH:mm,
+ * every "day, dd" label, the date of the current day) and are synchronized.
+ */
+public final class ClockFormatter {
+
+    // Two-digit tables: TENS[n] and ONES[n] are the digits of n for 0..99
+    private static final char[] TENS = new char[100];
+    private static final char[] ONES = new char[100];
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS[i] = (char) ('0' + i / 10);
+            ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    /** Length of "HH:mm:ss" */
+    public static final int TIME_LENGTH = 8;
+    /** Length of "HH:mm:ss.SSS" for stopwatch times below 100 hours */
+    public static final int STOPWATCH_LENGTH = 12;
+
+    private final String[] dayNames = new String[7];
+    private final String[] monthNames = new String[12];
+
+    // Lazily filled String caches
+    private final String[] hourMinuteCache = new String[24 * 60];
+    private final String[] dayOfMonthCache = new String[7 * 32];
+    private long cachedEpochDay = Long.MIN_VALUE;
+    private String cachedDate;
+
+    public ClockFormatter() {
+        this(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public ClockFormatter(Locale locale) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            dayNames[day.ordinal()] = day.getDisplayName(TextStyle.FULL, locale);
+        }
+        for (Month month : Month.values()) {
+            monthNames[month.ordinal()] = month.getDisplayName(TextStyle.FULL, locale);
+        }
+    }
+
+    /**
+     * Write "HH:mm:ss" at offset
+     * @return the offset after the written text
+     */
+    public static int writeTime(char[] dst, int off, int hours, int minutes, int seconds) {
+        off = writeHourMinute(dst, off, hours, minutes);
+        dst[off++] = ':';
+        dst[off++] = TENS[seconds];
+        dst[off++] = ONES[seconds];
+        return off;
+    }
+
+    /**
+     * Write "HH:mm" at offset
+     * @return the offset after the written text
+     */
+    public static int writeHourMinute(char[] dst, int off, int hours, int minutes) {
+        dst[off++] = TENS[hours];
+        dst[off++] = ONES[hours];
+        dst[off++] = ':';
+        dst[off++] = TENS[minutes];
+        dst[off++] = ONES[minutes];
+        return off;
+    }
+
+    /**
+     * Write ".SSS" at offset
+     * @return the offset after the written text
+     */
+    public static int writeMillis(char[] dst, int off, int millis) {
+        dst[off++] = '.';
+        dst[off++] = (char) ('0' + millis / 100);
+        dst[off++] = TENS[millis % 100];
+        dst[off++] = ONES[millis % 100];
+        return off;
+    }
+
+    /**
+     * Write an elapsed time as "HH:mm:ss.SSS" (hours grow beyond two digits if needed)
+     * @return the offset after the written text
+     */
+    public static int writeStopwatch(char[] dst, int off, long elapsedMillis) {
+        long hours = elapsedMillis / 3_600_000;
+        int minutes = (int) (elapsedMillis % 3_600_000 / 60_000);
+        int seconds = (int) (elapsedMillis % 60_000 / 1000);
+        int millis = (int) (elapsedMillis % 1000);
+
+        if (hours < 100) {
+            dst[off++] = TENS[(int) hours];
+            dst[off++] = ONES[(int) hours];
+        } else {
+            off = writeLong(dst, off, hours);
+        }
+        dst[off++] = ':';
+        dst[off++] = TENS[minutes];
+        dst[off++] = ONES[minutes];
+        dst[off++] = ':';
+        dst[off++] = TENS[seconds];
+        dst[off++] = ONES[seconds];
+        return writeMillis(dst, off, millis);
+    }
+
+    private static int writeLong(char[] dst, int off, long value) {
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = off + digits - 1; i >= off; i--) {
+            dst[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return off + digits;
+    }
+
+    /**
+     * "HH:mm" from a table of all 1440 minutes of the day
+     */
+    public synchronized String hourMinute(int hours, int minutes) {
+        int index = hours * 60 + minutes;
+        String text = hourMinuteCache[index];
+        if (text == null) {
+            char[] buffer = new char[5];
+            writeHourMinute(buffer, 0, hours, minutes);
+            text = new String(buffer);
+            hourMinuteCache[index] = text;
+        }
+        return text;
+    }
+
+    /**
+     * "EEEE, dd" (e.g. "Monday, 07") from a table of all day/day-of-month pairs
+     */
+    public synchronized String dayOfMonth(DayOfWeek day, int dayOfMonth) {
+        int index = day.ordinal() * 32 + dayOfMonth;
+        String text = dayOfMonthCache[index];
+        if (text == null) {
+            text = dayNames[day.ordinal()] + ", " + TENS[dayOfMonth] + ONES[dayOfMonth];
+            dayOfMonthCache[index] = text;
+        }
+        return text;
+    }
+
+    /**
+     * "EEEE, MMMM d, yyyy"; recomputed only when the local date changes
+     */
+    public synchronized String date(ZonedDateTime dateTime) {
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        if (epochDay != cachedEpochDay) {
+            cachedDate = dayNames[dateTime.getDayOfWeek().ordinal()] + ", "
+                + monthNames[dateTime.getMonthValue() - 1] + " "
+                + dateTime.getDayOfMonth() + ", " + dateTime.getYear();
+            cachedEpochDay = epochDay;
+        }
+        return cachedDate;
+    }
+}
@@ -0,0 +1,250 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ClockLifecycle class - the stopped, running and paused states of a clock and the
+ * scheduled work that belongs to them.
+ *
+ * Work is registered as participants, which are armed when the clock starts or resumes
+ * and disarmed when it pauses or stops. A paused clock therefore has nothing scheduled:
+ * no tick subscription, timer or thread is woken just to find a paused flag set.
+ * Resuming re-arms every participant, so tick subscriptions restart at the next
+ * boundary of their period.
+ *
+ * The new state is visible before participants are armed or disarmed, so a tick that
+ * races with a pause can check isRunning and drop itself. Participants are armed in
+ * registration order and disarmed in reverse order, on the thread that requested the
+ * transition; state listeners follow on the same thread. Thread-safe.
+ */
+public final class ClockLifecycle {
+
+    public enum State { STOPPED, RUNNING, PAUSED }
+
+    /**
+     * Work that only runs while the clock is running
+     */
+    public interface Participant {
+        /**
+         * Schedule the work; resumed is true when the clock comes back from a pause
+         */
+        void arm(boolean resumed);
+
+        /**
+         * Cancel the scheduled work; stopped is false when the clock is only paused.
+         * Stopping a paused clock disarms again with stopped = true.
+         */
+        void disarm(boolean stopped);
+    }
+
+    /**
+     * Told about every transition, after the participants have been armed or disarmed
+     */
+    public interface StateListener {
+        void stateChanged(State previous, State current);
+    }
+
+    private final List<Participant> participants = new ArrayList<>();
+    private final CopyOnWriteArrayList<StateListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile State state = State.STOPPED;
+
+    // Monitoring: transitions into each state and the time spent in it
+    private final Map<State, Long> entryCounts = new EnumMap<>(State.class);
+    private final Map<State, Long> stateNanos = new EnumMap<>(State.class);
+    private long resumeCount;
+    private long stateSinceNanos = System.nanoTime();
+
+    public ClockLifecycle() {
+        for (State s : State.values()) {
+            entryCounts.put(s, 0L);
+            stateNanos.put(s, 0L);
+        }
+    }
+
+    /**
+     * A participant holding a TimeService subscription while the clock runs
+     */
+    public static Participant subscription(TimeService timeService, TimeService.Subscriber subscriber, long periodMillis) {
+        return new Participant() {
+            private TimeService.Subscription subscription;
+
+            @Override
+            public synchronized void arm(boolean resumed) {
+                if (subscription == null) {
+                    subscription = timeService.subscribe(subscriber, periodMillis);
+                }
+            }
+
+            @Override
+            public synchronized void disarm(boolean stopped) {
+                if (subscription != null) {
+                    subscription.cancel();
+                    subscription = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Add work to the lifecycle; it is armed at once if the clock is running
+     */
+    public synchronized void addParticipant(Participant participant) {
+        participants.add(participant);
+        if (state == State.RUNNING) {
+            arm(participant, false);
+        }
+    }
+
+    public void addListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(StateListener listener) {
+        listeners.remove(listener);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public boolean isPaused() {
+        return state == State.PAUSED;
+    }
+
+    public boolean isStopped() {
+        return state == State.STOPPED;
+    }
+
+    /**
+     * Start a stopped clock or resume a paused one
+     * @return false if the clock was already running
+     */
+    public synchronized boolean start() {
+        State previous = state;
+        if (previous == State.RUNNING) {
+            return false;
+        }
+        boolean resumed = previous == State.PAUSED;
+        if (resumed) {
+            resumeCount++;
+        }
+        enter(State.RUNNING);
+        for (Participant participant : participants) {
+            arm(participant, resumed);
+        }
+        notifyListeners(previous, State.RUNNING);
+        return true;
+    }
+
+    /**
+     * Pause a running clock, descheduling all of its work
+     * @return false if the clock was not running
+     */
+    public synchronized boolean pause() {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        enter(State.PAUSED);
+        disarmAll(false);
+        notifyListeners(State.RUNNING, State.PAUSED);
+        return true;
+    }
+
+    /**
+     * Stop a running or paused clock
+     * @return false if the clock was already stopped
+     */
+    public synchronized boolean stop() {
+        State previous = state;
+        if (previous == State.STOPPED) {
+            return false;
+        }
+        enter(State.STOPPED);
+        disarmAll(true);
+        notifyListeners(previous, State.STOPPED);
+        return true;
+    }
+
+    private void disarmAll(boolean stopped) {
+        for (int i = participants.size() - 1; i >= 0; i--) {
+            disarm(participants.get(i), stopped);
+        }
+    }
+
+    private void arm(Participant participant, boolean resumed) {
+        try {
+            participant.arm(resumed);
+        } catch (RuntimeException e) {
+            System.err.println("Error arming clock task: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void disarm(Participant participant, boolean stopped) {
+        try {
+            participant.disarm(stopped);
+        } catch (RuntimeException e) {
+            System.err.println("Error disarming clock task: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void enter(State next) {
+        State previous = state;
+        long now = System.nanoTime();
+        stateNanos.merge(previous, now - stateSinceNanos, Long::sum);
+        stateSinceNanos = now;
+        entryCounts.merge(next, 1L, Long::sum);
+        state = next;
+    }
+
+    private void notifyListeners(State previous, State next) {
+        for (StateListener listener : listeners) {
+            try {
+                listener.stateChanged(previous, next);
+            } catch (RuntimeException e) {
+                System.err.println("Error in clock state listener: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Number of transitions into the state (a resume counts as entering RUNNING)
+     */
+    public synchronized long getEntryCount(State s) {
+        return entryCounts.get(s);
+    }
+
+    public synchronized long getResumeCount() {
+        return resumeCount;
+    }
+
+    /**
+     * Total time spent in the state, including the current stay
+     */
+    public synchronized long getMillisIn(State s) {
+        long nanos = stateNanos.get(s);
+        if (s == state) {
+            nanos += System.nanoTime() - stateSinceNanos;
+        }
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * Human-readable summary of the transitions and the time spent in each state
+     */
+    public synchronized String getReport() {
+        long starts = getEntryCount(State.RUNNING) - resumeCount;
+        return String.format(Locale.ROOT, "%s; %d starts, %d pauses, %d resumes, %d stops; running %.1f s, paused %.1f s",
+            state, starts, getEntryCount(State.PAUSED), resumeCount, getEntryCount(State.STOPPED),
+            getMillisIn(State.RUNNING) / 1000.0, getMillisIn(State.PAUSED) / 1000.0);
+    }
+}
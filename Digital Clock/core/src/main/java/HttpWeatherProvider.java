@@ -0,0 +1,85 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * HttpWeatherProvider class - fetches weather from an HTTP endpoint.
+ *
+ * Sends GET {endpoint}?city={city} and expects a 200 response with one report:
+ * JSON in the OpenWeatherMap current-weather format (application/json, read as it
+ * streams in by WeatherJsonReader), or else the WeatherReport line format.
+ * Connect and request time out after the configured duration; WeatherService keeps
+ * requests under the configured rate.
+ */
+public final class HttpWeatherProvider implements WeatherProvider {
+
+    private final URI endpoint;
+    private final Duration timeout;
+    private final double requestsPerSecond;
+    private final HttpClient client;
+
+    /**
+     * @param requestsPerSecond the server's request quota, 0 for none
+     */
+    public HttpWeatherProvider(URI endpoint, Duration timeout, double requestsPerSecond) {
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.requestsPerSecond = requestsPerSecond;
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    @Override
+    public WeatherReport fetch(String city) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(requestUri(city))
+            .timeout(timeout)
+            .header("Accept", "application/json, text/plain;q=0.5")
+            .GET()
+            .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Weather request interrupted: " + city);
+        }
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Weather server returned HTTP " + response.statusCode() + " for " + city);
+            }
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            if (contentType.startsWith("application/json")) {
+                return WeatherJsonReader.read(new InputStreamReader(body, StandardCharsets.UTF_8));
+            }
+            return WeatherReport.parse(new String(body.readAllBytes(), StandardCharsets.UTF_8).trim());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return endpoint.toString();
+    }
+
+    @Override
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    private URI requestUri(String city) {
+        String separator = endpoint.getRawQuery() == null ? "?" : "&";
+        return URI.create(endpoint + separator + "city=" + URLEncoder.encode(city, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RateLimiter class - a token bucket handing out a steady number of permits per second,
+ * with up to a burst of permits at once after an idle period.
+ *
+ * acquire() reserves the next free slot and sleeps until it, so waiting threads are
+ * served in the order they arrived. Safe from any thread.
+ */
+public final class RateLimiter {
+
+    private final double permitsPerSecond;
+    private final long intervalNanos; // Between two permits
+    private final long burstNanos;    // How much idle time can be saved up as permits
+    private long nextFreeNanos = System.nanoTime(); // Guarded by this
+    private final LongAdder waitCount = new LongAdder();
+
+    /**
+     * @param permitsPerSecond steady rate, greater than zero
+     * @param burst            permits available at once after an idle period, at least 1
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = (Math.max(1, burst) - 1) * intervalNanos;
+    }
+
+    /**
+     * Wait until a permit is available and take it
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextFreeNanos - (now - burstNanos) < 0) {
+                nextFreeNanos = now - burstNanos; // Idle: at most a burst of permits saved up
+            }
+            waitNanos = nextFreeNanos - now;
+            nextFreeNanos += intervalNanos;
+        }
+        if (waitNanos > 0) {
+            waitCount.increment();
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * How many acquires had to wait for a permit
+     */
+    public long getWaitCount() {
+        return waitCount.sum();
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * SimulatedWeatherProvider class - deterministic demo weather, no network needed.
+ */
+public final class SimulatedWeatherProvider implements WeatherProvider {
+
+    @Override
+    public WeatherReport fetch(String city) {
+        return WeatherReport.parse(WeatherReport.simulateData(city));
+    }
+
+    @Override
+    public String getName() {
+        return "simulated";
+    }
+}
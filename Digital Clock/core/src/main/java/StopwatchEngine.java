@@ -0,0 +1,210 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * StopwatchEngine class that measures elapsed time with System.nanoTime(), so
+ * NTP corrections and manual clock changes never affect a running measurement.
+ *
+ * The running/stopped state is an immutable value swapped atomically with
+ * compare-and-set, so start, stop, reset and lap are safe to call from any thread.
+ * Laps are stored as primitive cumulative times, and split statistics (min, max,
+ * mean, last) are updated incrementally as each lap is captured. The UI only reads.
+ */
+public class StopwatchEngine {
+
+    /**
+     * One captured lap: its number (from 1), time since start and time since the previous lap
+     */
+    public static final class Lap {
+        private final int number;
+        private final long totalNanos;
+        private final long splitNanos;
+
+        private Lap(int number, long totalNanos, long splitNanos) {
+            this.number = number;
+            this.totalNanos = totalNanos;
+            this.splitNanos = splitNanos;
+        }
+
+        public int getNumber() { return number; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getSplitNanos() { return splitNanos; }
+    }
+
+    /**
+     * Immutable state. While running, elapsed = nanoTime() - originNanos;
+     * while stopped, elapsed = accumulatedNanos.
+     */
+    private static final class State {
+        private final boolean running;
+        private final long originNanos;
+        private final long accumulatedNanos;
+        private final long generation; // Incremented by reset, so laps from before a reset are rejected
+
+        private State(boolean running, long originNanos, long accumulatedNanos, long generation) {
+            this.running = running;
+            this.originNanos = originNanos;
+            this.accumulatedNanos = accumulatedNanos;
+            this.generation = generation;
+        }
+
+        long elapsedNanos(long nowNanos) {
+            return running ? nowNanos - originNanos : accumulatedNanos;
+        }
+    }
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(false, 0, 0, 0));
+
+    // Lap storage, guarded by 'this'
+    private long[] lapTotals = new long[16];
+    private int lapCount = 0;
+    private long lapGeneration = 0;
+    private long minSplitNanos = Long.MAX_VALUE;
+    private long maxSplitNanos = 0;
+    private long splitSumNanos = 0;
+
+    /**
+     * Start or resume timing
+     * @return false if the stopwatch was already running
+     */
+    public boolean start() {
+        while (true) {
+            State current = state.get();
+            if (current.running) {
+                return false;
+            }
+            State started = new State(true, System.nanoTime() - current.accumulatedNanos, 0, current.generation);
+            if (state.compareAndSet(current, started)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Stop timing, keeping the elapsed time
+     * @return false if the stopwatch was not running
+     */
+    public boolean stop() {
+        while (true) {
+            State current = state.get();
+            if (!current.running) {
+                return false;
+            }
+            State stopped = new State(false, 0, System.nanoTime() - current.originNanos, current.generation);
+            if (state.compareAndSet(current, stopped)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Stop and clear the elapsed time and all laps
+     */
+    public synchronized void reset() {
+        State current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, new State(false, 0, 0, current.generation + 1)));
+
+        lapGeneration = current.generation + 1;
+        lapCount = 0;
+        minSplitNanos = Long.MAX_VALUE;
+        maxSplitNanos = 0;
+        splitSumNanos = 0;
+    }
+
+    /**
+     * Capture a lap at the current time
+     * @return the lap, or null if the stopwatch is not running
+     */
+    public synchronized Lap lap() {
+        // Sample inside the lock so laps from concurrent callers are stored in time order.
+        // start and stop do not take the lock, so read the state before the time and retry
+        // if it changed in between: a resume landing between the reads would put the origin
+        // after the sample.
+        State current;
+        long now;
+        do {
+            current = state.get();
+            now = System.nanoTime();
+        } while (state.get() != current);
+        if (!current.running || current.generation != lapGeneration) {
+            return null;
+        }
+
+        // Never before the previous lap, so splits (and the statistics) are never negative
+        long previous = lapCount == 0 ? 0 : lapTotals[lapCount - 1];
+        long total = Math.max(previous, current.elapsedNanos(now));
+        long split = total - previous;
+        if (lapCount == lapTotals.length) {
+            lapTotals = Arrays.copyOf(lapTotals, lapCount * 2);
+        }
+        lapTotals[lapCount++] = total;
+
+        minSplitNanos = Math.min(minSplitNanos, split);
+        maxSplitNanos = Math.max(maxSplitNanos, split);
+        splitSumNanos += split;
+        return new Lap(lapCount, total, split);
+    }
+
+    public boolean isRunning() {
+        return state.get().running;
+    }
+
+    public long getElapsedNanos() {
+        return state.get().elapsedNanos(System.nanoTime());
+    }
+
+    public long getElapsedMillis() {
+        return getElapsedNanos() / 1_000_000;
+    }
+
+    public synchronized int getLapCount() {
+        return lapCount;
+    }
+
+    /**
+     * Time from start to the given lap (0-based index)
+     */
+    public synchronized long getLapTotalNanos(int index) {
+        checkLapIndex(index);
+        return lapTotals[index];
+    }
+
+    /**
+     * Time from the previous lap (or the start) to the given lap (0-based index)
+     */
+    public synchronized long getLapSplitNanos(int index) {
+        checkLapIndex(index);
+        return index == 0 ? lapTotals[0] : lapTotals[index] - lapTotals[index - 1];
+    }
+
+    /**
+     * Copy of all cumulative lap times
+     */
+    public synchronized long[] getLapTotals() {
+        return Arrays.copyOf(lapTotals, lapCount);
+    }
+
+    public synchronized long getMinSplitNanos() {
+        return lapCount == 0 ? 0 : minSplitNanos;
+    }
+
+    public synchronized long getMaxSplitNanos() {
+        return maxSplitNanos;
+    }
+
+    public synchronized long getMeanSplitNanos() {
+        return lapCount == 0 ? 0 : splitSumNanos / lapCount;
+    }
+
+    public synchronized long getLastSplitNanos() {
+        return lapCount == 0 ? 0 : getLapSplitNanos(lapCount - 1);
+    }
+
+    private void checkLapIndex(int index) {
+        if (index < 0 || index >= lapCount) {
+            throw new IndexOutOfBoundsException("Lap index " + index + " out of range, " + lapCount + " lap(s)");
+        }
+    }
+}
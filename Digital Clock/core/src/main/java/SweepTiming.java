@@ -0,0 +1,81 @@
+import java.time.LocalTime;
+
+/**
+ * SweepTiming class - sub-second time of day for sweeping clock hands, and the frame
+ * rate a sweep needs.
+ *
+ * The wall clock is read about once a second (an anchor); every frame in between
+ * interpolates from the anchor with System.nanoTime, so hands get a precise fractional
+ * time without a calendar lookup per frame. Re-anchoring picks up wall-clock and time
+ * zone changes within a second.
+ *
+ * The frame rate is the lowest one at which the tip of the second hand moves at most
+ * one pixel per frame: a tip at radius r travels 2 * PI * r / 60 pixels per second.
+ * Not thread-safe; use one instance per rendering thread.
+ */
+public final class SweepTiming {
+
+    public static final int MAX_FRAME_RATE = 60;
+
+    private static final long ANCHOR_NANOS = 1_000_000_000L;
+    private static final long MAX_ANCHOR_SKEW_NANOS = 1_000_000L;
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    private double anchorSeconds;  // Seconds since local midnight at anchorNanos
+    private long anchorNanos;
+    private boolean anchored = false;
+
+    /**
+     * The lowest frame rate (1 to MAX_FRAME_RATE) at which a second hand tip at the given
+     * radius moves at most one pixel per frame
+     * @param tipRadiusPixels distance of the tip from the center, in device pixels
+     */
+    public static int frameRate(double tipRadiusPixels) {
+        double pixelsPerSecond = 2 * Math.PI * tipRadiusPixels / 60;
+        return (int) Math.max(1, Math.min(MAX_FRAME_RATE, Math.ceil(pixelsPerSecond)));
+    }
+
+    /**
+     * Seconds since local midnight at the given System.nanoTime, with a fractional part
+     */
+    public double secondsOfDay(long nanoTime) {
+        if (!anchored || nanoTime - anchorNanos >= ANCHOR_NANOS) {
+            anchor();
+        }
+        double seconds = anchorSeconds + (nanoTime - anchorNanos) / 1e9;
+        return seconds >= SECONDS_PER_DAY ? seconds - SECONDS_PER_DAY : Math.max(0, seconds);
+    }
+
+    /**
+     * Read the wall clock between two nanoTime samples and pair it with their midpoint.
+     * A wide bracket (the first read loads the time zone rules, or the thread was
+     * descheduled) would skew every interpolated frame, so it is read again.
+     */
+    private void anchor() {
+        for (int attempt = 0; ; attempt++) {
+            long before = System.nanoTime();
+            double seconds = LocalTime.now().toNanoOfDay() / 1e9;
+            long after = System.nanoTime();
+            if (after - before <= MAX_ANCHOR_SKEW_NANOS || attempt == 2) {
+                anchorSeconds = seconds;
+                anchorNanos = before + (after - before) / 2;
+                anchored = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Seconds since local midnight now
+     */
+    public double secondsOfDay() {
+        return secondsOfDay(System.nanoTime());
+    }
+
+    /**
+     * Forget the anchor; the next call reads the wall clock
+     */
+    public void reset() {
+        anchored = false;
+    }
+}
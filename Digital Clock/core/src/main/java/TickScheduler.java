@@ -0,0 +1,293 @@
+import java.time.Instant;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TickScheduler class that wakes at real wall-clock boundaries and dispatches ticks
+ * to registered listeners.
+ *
+ * Every wake-up targets an absolute boundary (e.g. the start of each second, or a
+ * sub-second phase of it) instead of sleeping a fixed interval after the work is done,
+ * so sleep overshoot never accumulates into drift and no second is skipped or shown twice.
+ * The time left is re-read from the wall clock after every park, and a boundary more than
+ * one period ahead is pulled back, so a wall clock stepped backward (NTP, a manual change)
+ * never freezes the ticks until it catches up again. A single daemon thread serves all listeners, so no pool thread is held hostage.
+ */
+public class TickScheduler {
+
+    /**
+     * Callback invoked on the scheduler thread at each boundary. Implementations must
+     * return quickly (e.g. by handing work to the EDT) so other listeners stay on time.
+     */
+    public interface TickListener {
+        void onTick(long boundaryMillis);
+    }
+
+    /**
+     * Handle of a registered listener; cancel it to stop receiving ticks
+     */
+    public final class Registration implements AutoCloseable {
+        private final TickListener listener;
+        private final long periodMillis;
+        private final long phaseMillis;
+        private volatile long nextBoundary;
+        private volatile boolean cancelled = false;
+
+        private Registration(TickListener listener, long periodMillis, long phaseMillis) {
+            this.listener = listener;
+            this.periodMillis = periodMillis;
+            this.phaseMillis = phaseMillis;
+            this.nextBoundary = boundaryAfter(System.currentTimeMillis());
+        }
+
+        /**
+         * First boundary strictly after the given wall-clock time
+         */
+        private long boundaryAfter(long timeMillis) {
+            return Math.floorDiv(timeMillis - phaseMillis, periodMillis) * periodMillis + periodMillis + phaseMillis;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            if (registrations.remove(this)) {
+                wakeSchedulerThread();
+            }
+        }
+
+        @Override
+        public void close() {
+            cancel();
+        }
+    }
+
+    private static final TickScheduler SHARED = new TickScheduler("TickScheduler");
+
+    // Wake up at most this much before a boundary and spin-wait the remainder
+    private static final long MAX_EARLY_WAKE_NANOS = 2_000_000L;
+
+    private final String threadName;
+    private final CopyOnWriteArrayList<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean rescheduleRequested = new AtomicBoolean(false);
+    private Thread schedulerThread;
+
+    // Running average of how late LockSupport.parkNanos() returns, used to wake up early
+    private volatile long earlyWakeNanos = 200_000L;
+
+    // Wake-up jitter statistics (absolute distance from the targeted boundary)
+    private long jitterSamples = 0;
+    private long jitterTotalNanos = 0;
+    private long jitterMaxNanos = 0;
+    private long jitterLastNanos = 0;
+
+    public TickScheduler(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * The scheduler shared by all clock widgets in the application
+     */
+    public static TickScheduler shared() {
+        return SHARED;
+    }
+
+    /**
+     * Register a listener to be called at each multiple of periodMillis since the epoch
+     */
+    public Registration register(TickListener listener, long periodMillis) {
+        return register(listener, periodMillis, 0);
+    }
+
+    /**
+     * Register a listener to be called at each multiple of periodMillis since the epoch,
+     * shifted by phaseMillis (e.g. period 1000, phase 500 ticks at every half second)
+     */
+    public Registration register(TickListener listener, long periodMillis, long phaseMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Tick period must be positive: " + periodMillis);
+        }
+        Registration registration = new Registration(listener, periodMillis, Math.floorMod(phaseMillis, periodMillis));
+        registrations.add(registration);
+        ensureStarted();
+        wakeSchedulerThread();
+        return registration;
+    }
+
+    /**
+     * Block the calling thread until the next multiple of periodMillis since the epoch.
+     * For dedicated threads that drive their own loop instead of registering a listener.
+     *
+     * @return the boundary that was reached, in epoch milliseconds
+     */
+    public long awaitNextBoundary(long periodMillis) throws InterruptedException {
+        while (true) {
+            long boundary = Math.floorDiv(System.currentTimeMillis(), periodMillis) * periodMillis + periodMillis;
+            boolean reached = waitUntil(boundary, periodMillis, false);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for tick boundary");
+            }
+            if (reached) {
+                return boundary;
+            }
+            // The wall clock stepped backward - wait for the boundary after the new time
+        }
+    }
+
+    private synchronized void ensureStarted() {
+        if (schedulerThread == null) {
+            schedulerThread = new Thread(this::runLoop, threadName);
+            schedulerThread.setDaemon(true);
+            schedulerThread.setPriority(Thread.NORM_PRIORITY + 1);
+            schedulerThread.start();
+        }
+    }
+
+    private void wakeSchedulerThread() {
+        rescheduleRequested.set(true);
+        Thread thread;
+        synchronized (this) {
+            thread = schedulerThread;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runLoop() {
+        while (true) {
+            rescheduleRequested.set(false);
+            long now = System.currentTimeMillis();
+            long target = Long.MAX_VALUE;
+            long targetPeriod = 0;
+            for (Registration registration : registrations) {
+                if (registration.nextBoundary - now > registration.periodMillis) {
+                    // The wall clock stepped backward - realign instead of waiting for it to catch up
+                    registration.nextBoundary = registration.boundaryAfter(now);
+                }
+                if (registration.nextBoundary < target) {
+                    target = registration.nextBoundary;
+                    targetPeriod = registration.periodMillis;
+                } else if (registration.nextBoundary == target) {
+                    targetPeriod = Math.max(targetPeriod, registration.periodMillis);
+                }
+            }
+
+            if (target == Long.MAX_VALUE) {
+                // Nothing registered - park without a timeout until register() wakes us
+                LockSupport.park(this);
+                continue;
+            }
+
+            if (!waitUntil(target, targetPeriod, true)) {
+                continue; // Registrations or the wall clock changed while waiting - recompute the next boundary
+            }
+
+            now = System.currentTimeMillis();
+            for (Registration registration : registrations) {
+                if (registration.nextBoundary <= target && !registration.cancelled) {
+                    // After a long stall (e.g. system suspend) skip missed ticks instead of bursting
+                    registration.nextBoundary = registration.boundaryAfter(Math.max(target, now));
+                    dispatch(registration, target);
+                }
+            }
+        }
+    }
+
+    private void dispatch(Registration registration, long boundaryMillis) {
+        try {
+            registration.listener.onTick(boundaryMillis);
+        } catch (RuntimeException e) {
+            System.err.println("Error in tick listener: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Wait until the wall clock reaches targetMillis. Parks until shortly before the
+     * boundary (learned park overshoot), then spin-waits the last few microseconds.
+     * The time left is taken from the wall clock again after every park.
+     *
+     * @param periodMillis period of the boundary; more time left than this means the
+     *                     wall clock stepped backward
+     * @return false if the scheduler thread was woken because registrations changed,
+     *         the wall clock stepped backward or the calling thread was interrupted
+     */
+    private boolean waitUntil(long targetMillis, long periodMillis, boolean schedulerLoop) {
+        long targetWallNanos = targetMillis * 1_000_000L;
+
+        while (true) {
+            if (schedulerLoop && rescheduleRequested.get()) {
+                return false;
+            }
+            if (!schedulerLoop && Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+
+            long remaining = targetWallNanos - currentTimeNanos();
+            if (remaining > periodMillis * 1_000_000L) {
+                return false;
+            }
+            long deadline = System.nanoTime() + remaining;
+            long earlyWake = earlyWakeNanos;
+            if (remaining > earlyWake) {
+                long parkNanos = remaining - earlyWake;
+                long parkStart = System.nanoTime();
+                LockSupport.parkNanos(this, parkNanos);
+                long overshoot = (System.nanoTime() - parkStart) - parkNanos;
+                if (overshoot > 0) {
+                    // Exponential moving average, bounded so we never spin for long
+                    earlyWakeNanos = Math.min(MAX_EARLY_WAKE_NANOS, (earlyWake * 7 + overshoot) / 8);
+                }
+                continue;
+            }
+
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            recordJitter(Math.abs(currentTimeNanos() - targetWallNanos));
+            return true;
+        }
+    }
+
+    private static long currentTimeNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private synchronized void recordJitter(long jitterNanos) {
+        jitterSamples++;
+        jitterTotalNanos += jitterNanos;
+        jitterLastNanos = jitterNanos;
+        if (jitterNanos > jitterMaxNanos) {
+            jitterMaxNanos = jitterNanos;
+        }
+    }
+
+    public synchronized long getTickCount() {
+        return jitterSamples;
+    }
+
+    public synchronized long getLastJitterMicros() {
+        return jitterLastNanos / 1000;
+    }
+
+    public synchronized long getMeanJitterMicros() {
+        return jitterSamples == 0 ? 0 : jitterTotalNanos / jitterSamples / 1000;
+    }
+
+    public synchronized long getMaxJitterMicros() {
+        return jitterMaxNanos / 1000;
+    }
+
+    /**
+     * Human-readable summary of the measured wake-up jitter
+     */
+    public synchronized String getJitterReport() {
+        return String.format("%d ticks, jitter last %d us, mean %d us, max %d us",
+            jitterSamples, getLastJitterMicros(), getMeanJitterMicros(), getMaxJitterMicros());
+    }
+}
@@ -0,0 +1,141 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TimeService class that samples the clock once per tick and broadcasts the same
+ * immutable snapshot to every subscriber (digital label, analog panel, world clocks,
+ * alarms, stopwatch), so all widgets agree on the same instant and nobody reads
+ * the clock on its own.
+ *
+ * Subscribers with the same period share one TickScheduler registration and one snapshot.
+ */
+public class TimeService {
+
+    /**
+     * Receives the snapshot of each tick on the scheduler thread
+     */
+    public interface Subscriber {
+        void onTime(Snapshot snapshot);
+    }
+
+    /**
+     * Immutable view of one sampled instant, with its local time
+     */
+    public static final class Snapshot {
+        private final Instant instant;
+        private final long nanoTime;
+        private final ZonedDateTime local;
+
+        private Snapshot(Instant instant, long nanoTime, ZonedDateTime local) {
+            this.instant = instant;
+            this.nanoTime = nanoTime;
+            this.local = local;
+        }
+
+        public Instant getInstant() { return instant; }
+        public long getEpochMillis() { return instant.toEpochMilli(); }
+        public long getNanoTime() { return nanoTime; }
+        public ZonedDateTime getLocal() { return local; }
+    }
+
+    /**
+     * Handle of a subscriber; close it to stop receiving snapshots
+     */
+    public final class Subscription implements AutoCloseable {
+        private final Channel channel;
+        private final Subscriber subscriber;
+
+        private Subscription(Channel channel, Subscriber subscriber) {
+            this.channel = channel;
+            this.subscriber = subscriber;
+        }
+
+        public void cancel() {
+            unsubscribe(channel, subscriber);
+        }
+
+        @Override
+        public void close() {
+            cancel();
+        }
+    }
+
+    private final TickScheduler scheduler;
+    private final Map<Long, Channel> channels = new HashMap<>();
+
+    public TimeService(TickScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Subscribe to snapshots taken at every multiple of periodMillis since the epoch
+     */
+    public synchronized Subscription subscribe(Subscriber subscriber, long periodMillis) {
+        Channel channel = channels.get(periodMillis);
+        if (channel == null) {
+            channel = new Channel(periodMillis);
+            channels.put(periodMillis, channel);
+        }
+        channel.subscribers.add(subscriber);
+        if (channel.registration == null) {
+            channel.registration = scheduler.register(channel, periodMillis);
+        }
+        return new Subscription(channel, subscriber);
+    }
+
+    private synchronized void unsubscribe(Channel channel, Subscriber subscriber) {
+        channel.subscribers.remove(subscriber);
+        if (channel.subscribers.isEmpty() && channel.registration != null) {
+            channel.registration.cancel();
+            channel.registration = null;
+            channels.remove(channel.periodMillis);
+        }
+    }
+
+    /**
+     * Sample the clock immediately (for initial display, outside the tick cycle)
+     */
+    public Snapshot now() {
+        return sample(System.currentTimeMillis());
+    }
+
+    private Snapshot sample(long epochMillis) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        return new Snapshot(instant, System.nanoTime(), instant.atZone(ZoneId.systemDefault()));
+    }
+
+    /**
+     * All subscribers of one period, fed from a single TickScheduler registration
+     */
+    private final class Channel implements TickScheduler.TickListener {
+        private final long periodMillis;
+        private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private TickScheduler.Registration registration;
+
+        private Channel(long periodMillis) {
+            this.periodMillis = periodMillis;
+        }
+
+        @Override
+        public void onTick(long boundaryMillis) {
+            // Sample at the boundary itself so the displayed second is exact even after a late wake-up
+            Snapshot snapshot = sample(boundaryMillis);
+            for (Subscriber subscriber : subscribers) {
+                try {
+                    subscriber.onTime(snapshot);
+                } catch (RuntimeException e) {
+                    System.err.println("Error in time subscriber: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,531 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * WeatherJsonReader class - pulls weather reports out of JSON in the OpenWeatherMap
+ * "current weather" format, straight from a character stream and without a JSON tree.
+ *
+ * Only name, main.temp, main.humidity and weather[0].description are kept; every other
+ * value is skipped as it streams past, without being decoded (skipped values are only
+ * checked for balanced brackets and terminated strings). Skipping does not recurse, so
+ * deeply nested input cannot overflow the stack. Besides a single city object, a batch
+ * is read one city at a time: either a group response {"cnt": N, "list": [city, ...]}
+ * or a bare array of cities.
+ *
+ * Malformed input, missing fields and oversized strings or numbers fail with an
+ * IOException giving the character offset; no other exception escapes. Not thread-safe.
+ */
+public final class WeatherJsonReader {
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final int MAX_TEXT_LENGTH = 256;  // Longest name or description kept
+    private static final int MAX_NUMBER_LENGTH = 64;
+
+    /**
+     * The wanted fields of the city being read
+     */
+    private static final class Fields {
+        private String name;
+        private double temperature;
+        private boolean hasTemperature;
+        private int humidity;
+        private boolean hasHumidity;
+        private String description;
+        private boolean any;
+
+        private void reset() {
+            name = null;
+            description = null;
+            hasTemperature = false;
+            hasHumidity = false;
+            any = false;
+        }
+    }
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long consumed; // Characters before the buffer, for error offsets
+    private final char[] text = new char[MAX_TEXT_LENGTH + 1]; // Last string read, truncated
+    private int textLength;
+    private final char[] number = new char[MAX_NUMBER_LENGTH];
+    private final Fields outer = new Fields();
+    private final Fields element = new Fields();
+
+    public WeatherJsonReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Read one city object; the stream must contain nothing else
+     */
+    public static WeatherReport read(Reader in) throws IOException {
+        return new WeatherJsonReader(in).readReport();
+    }
+
+    /**
+     * Read a city object, a group response or an array of cities, passing each report
+     * to the consumer as soon as it is complete
+     * @return the number of reports read
+     */
+    public static int readAll(Reader in, Consumer<WeatherReport> consumer) throws IOException {
+        return new WeatherJsonReader(in).readReports(consumer);
+    }
+
+    public WeatherReport readReport() throws IOException {
+        if (nextNonWhitespace() != '{') {
+            throw syntax("Expected a city object");
+        }
+        readCity(outer);
+        expectEnd();
+        return toReport(outer);
+    }
+
+    public int readReports(Consumer<WeatherReport> consumer) throws IOException {
+        int count;
+        int c = nextNonWhitespace();
+        if (c == '[') {
+            count = readCityArray(consumer);
+        } else if (c == '{') {
+            count = readCityOrGroup(consumer);
+        } else {
+            throw syntax("Expected an object or an array");
+        }
+        expectEnd();
+        return count;
+    }
+
+    // Structure of the weather format
+
+    /**
+     * Members of a top-level object: city fields, a "list" of cities, or both
+     */
+    private int readCityOrGroup(Consumer<WeatherReport> consumer) throws IOException {
+        outer.reset();
+        int count = 0;
+        if (hasMember('}')) {
+            do {
+                readKey();
+                if (keyIs("list") && peekNonWhitespace() == '[') {
+                    next();
+                    count += readCityArray(consumer);
+                } else {
+                    readCityMember(outer);
+                }
+            } while (nextMember('}'));
+        }
+        if (outer.any) {
+            consumer.accept(toReport(outer));
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Elements of an array of city objects, after the '['
+     */
+    private int readCityArray(Consumer<WeatherReport> consumer) throws IOException {
+        int count = 0;
+        if (hasMember(']')) {
+            do {
+                if (nextNonWhitespace() != '{') {
+                    throw syntax("Expected a city object");
+                }
+                readCity(element);
+                consumer.accept(toReport(element));
+                count++;
+            } while (nextMember(']'));
+        }
+        return count;
+    }
+
+    /**
+     * Members of a city object, after the '{'
+     */
+    private void readCity(Fields fields) throws IOException {
+        fields.reset();
+        if (hasMember('}')) {
+            do {
+                readKey();
+                readCityMember(fields);
+            } while (nextMember('}'));
+        }
+    }
+
+    private void readCityMember(Fields fields) throws IOException {
+        if (keyIs("name")) {
+            fields.name = readText();
+            fields.any = true;
+        } else if (keyIs("main")) {
+            readMain(fields);
+            fields.any = true;
+        } else if (keyIs("weather")) {
+            readConditions(fields);
+            fields.any = true;
+        } else {
+            skipValue();
+        }
+    }
+
+    /**
+     * "main": {"temp": 22.5, "humidity": 65, ...}
+     */
+    private void readMain(Fields fields) throws IOException {
+        if (nextNonWhitespace() != '{') {
+            throw syntax("Expected an object for main");
+        }
+        if (hasMember('}')) {
+            do {
+                readKey();
+                if (keyIs("temp")) {
+                    fields.temperature = readNumber();
+                    fields.hasTemperature = true;
+                } else if (keyIs("humidity")) {
+                    fields.humidity = (int) Math.round(readNumber());
+                    fields.hasHumidity = true;
+                } else {
+                    skipValue();
+                }
+            } while (nextMember('}'));
+        }
+    }
+
+    /**
+     * "weather": [{"description": "clear sky", ...}, ...]; only the first condition is kept
+     */
+    private void readConditions(Fields fields) throws IOException {
+        if (nextNonWhitespace() != '[') {
+            throw syntax("Expected an array for weather");
+        }
+        if (!hasMember(']')) {
+            return;
+        }
+        if (nextNonWhitespace() != '{') {
+            throw syntax("Expected a condition object");
+        }
+        if (hasMember('}')) {
+            do {
+                readKey();
+                if (keyIs("description")) {
+                    fields.description = readText();
+                } else {
+                    skipValue();
+                }
+            } while (nextMember('}'));
+        }
+        while (nextMember(']')) {
+            skipValue();
+        }
+    }
+
+    private WeatherReport toReport(Fields fields) throws IOException {
+        if (fields.name == null) {
+            throw syntax("Missing name");
+        }
+        if (!fields.hasTemperature) {
+            throw syntax("Missing main.temp of " + fields.name);
+        }
+        if (!fields.hasHumidity) {
+            throw syntax("Missing main.humidity of " + fields.name);
+        }
+        if (fields.description == null) {
+            throw syntax("Missing weather[0].description of " + fields.name);
+        }
+        return new WeatherReport(fields.name, fields.temperature, fields.humidity, fields.description);
+    }
+
+    // JSON tokens
+
+    /**
+     * After an opening bracket: false if the container is empty (the closing bracket is consumed)
+     */
+    private boolean hasMember(char close) throws IOException {
+        if (peekNonWhitespace() == close) {
+            next();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * After a member: true if another one follows, false at the closing bracket
+     */
+    private boolean nextMember(char close) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ',') {
+            return true;
+        }
+        if (c == close) {
+            return false;
+        }
+        throw syntax("Expected ',' or '" + close + "'");
+    }
+
+    /**
+     * Read a member name and its ':' into text
+     */
+    private void readKey() throws IOException {
+        if (nextNonWhitespace() != '"') {
+            throw syntax("Expected a member name");
+        }
+        readString();
+        if (nextNonWhitespace() != ':') {
+            throw syntax("Expected ':'");
+        }
+    }
+
+    private boolean keyIs(String key) {
+        if (key.length() != textLength) {
+            return false;
+        }
+        for (int i = 0; i < textLength; i++) {
+            if (key.charAt(i) != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A string value to keep
+     */
+    private String readText() throws IOException {
+        if (nextNonWhitespace() != '"') {
+            throw syntax("Expected a string");
+        }
+        readString();
+        if (textLength > MAX_TEXT_LENGTH) {
+            throw syntax("String longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return new String(text, 0, textLength);
+    }
+
+    /**
+     * Decode a string after its opening quote into text. Only MAX_TEXT_LENGTH + 1
+     * characters are kept, enough to tell that a value is too long or a key unknown.
+     * Runs of plain characters are copied straight from the buffer.
+     */
+    private void readString() throws IOException {
+        textLength = 0;
+        while (true) {
+            int start = position;
+            int end = limit;
+            int p = start;
+            char c = 0;
+            while (p < end && (c = buffer[p]) != '"' && c != '\\' && c >= 0x20) {
+                p++;
+            }
+            appendText(buffer, start, p - start);
+            position = p;
+            if (p == end) {
+                if (!fill()) {
+                    throw syntax("Unterminated string");
+                }
+                continue;
+            }
+            position++;
+            if (c == '"') {
+                return;
+            }
+            if (c != '\\') {
+                throw syntax("Control character in string");
+            }
+            int escaped = readEscape();
+            if (textLength < text.length) {
+                text[textLength++] = (char) escaped;
+            }
+        }
+    }
+
+    private void appendText(char[] characters, int offset, int length) {
+        int copied = Math.min(length, text.length - textLength);
+        System.arraycopy(characters, offset, text, textLength, copied);
+        textLength += copied;
+    }
+
+    private int readEscape() throws IOException {
+        int c = next();
+        switch (c) {
+            case '"': case '\\': case '/':
+                return c;
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw syntax("Malformed \\u escape");
+                    }
+                    value = value << 4 | digit;
+                }
+                return value;
+            default:
+                throw syntax("Malformed escape");
+        }
+    }
+
+    private double readNumber() throws IOException {
+        int c = nextNonWhitespace();
+        int length = 0;
+        while (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+            if (length == MAX_NUMBER_LENGTH) {
+                throw syntax("Number longer than " + MAX_NUMBER_LENGTH + " characters");
+            }
+            number[length++] = (char) c;
+            c = next();
+        }
+        if (c >= 0) {
+            position--; // Not part of the number
+        }
+        if (length == 0) {
+            throw syntax("Expected a number");
+        }
+        double value;
+        try {
+            value = Double.parseDouble(new String(number, 0, length));
+        } catch (NumberFormatException e) {
+            throw syntax("Malformed number");
+        }
+        if (Double.isInfinite(value)) {
+            throw syntax("Number out of range");
+        }
+        return value;
+    }
+
+    /**
+     * Skip one value of any type without decoding it
+     */
+    private void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int c = nextNonWhitespace();
+            switch (c) {
+                case -1:
+                    throw syntax("Unexpected end of input");
+                case '"':
+                    skipString();
+                    break;
+                case '{': case '[':
+                    depth++;
+                    break;
+                case '}': case ']':
+                    if (--depth < 0) {
+                        throw syntax("Expected a value");
+                    }
+                    break;
+                case ',': case ':':
+                    if (depth == 0) {
+                        throw syntax("Expected a value");
+                    }
+                    break;
+                default:
+                    if (!isLiteral(c)) {
+                        throw syntax("Unexpected character");
+                    }
+                    skipLiteral();
+            }
+        } while (depth > 0);
+    }
+
+    private void skipString() throws IOException {
+        while (true) {
+            int end = limit;
+            int p = position;
+            char c = 0;
+            while (p < end && (c = buffer[p]) != '"' && c != '\\') {
+                p++;
+            }
+            position = p;
+            if (p == end) {
+                if (!fill()) {
+                    throw syntax("Unterminated string");
+                }
+                continue;
+            }
+            position++;
+            if (c == '"') {
+                return;
+            }
+            if (next() < 0) {
+                throw syntax("Unterminated string");
+            }
+        }
+    }
+
+    /**
+     * Skip the rest of a number, true, false or null
+     */
+    private void skipLiteral() throws IOException {
+        while (true) {
+            int end = limit;
+            int p = position;
+            while (p < end && isLiteral(buffer[p])) {
+                p++;
+            }
+            position = p;
+            if (p < end || !fill()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Characters of numbers, true, false and null
+     */
+    private static boolean isLiteral(int c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+            || c == '-' || c == '+' || c == '.';
+    }
+
+    private void expectEnd() throws IOException {
+        if (nextNonWhitespace() >= 0) {
+            throw syntax("Unexpected data after the JSON value");
+        }
+    }
+
+    // Character stream
+
+    private int next() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[position++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c = nextNonWhitespace();
+        if (c >= 0) {
+            position--;
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        consumed += limit;
+        position = 0;
+        limit = Math.max(0, in.read(buffer, 0, buffer.length));
+        return limit > 0;
+    }
+
+    private IOException syntax(String message) {
+        return new IOException("Malformed weather JSON at character " + (consumed + position) + ": " + message);
+    }
+}
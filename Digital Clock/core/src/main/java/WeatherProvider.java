@@ -0,0 +1,29 @@
+import java.io.IOException;
+
+/**
+ * WeatherProvider interface - a source of current weather reports.
+ *
+ * Implementations may block (network I/O); WeatherService calls them from its own
+ * executor, never from the clock threads or the EDT, and no faster than the
+ * provider's request rate.
+ */
+public interface WeatherProvider {
+
+    /**
+     * Fetch the current weather of a city
+     * @throws IOException if the weather cannot be fetched or is malformed
+     */
+    WeatherReport fetch(String city) throws IOException;
+
+    /**
+     * Short name for logs and reports
+     */
+    String getName();
+
+    /**
+     * Most requests per second the provider accepts (e.g. an API quota); 0 for no limit
+     */
+    default double getRequestsPerSecond() {
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+import java.util.Locale;
+
+/**
+ * WeatherReport class - the current weather of one city.
+ *
+ * Weather data is exchanged in a simple line format:
+ * CITY:London|TEMP:22.5|HUMIDITY:65|DESC:Clear Sky
+ */
+public final class WeatherReport {
+
+    private static final String[] SIMULATED_CONDITIONS = {
+        "Clear Sky", "Few Clouds", "Scattered Clouds", "Broken Clouds", "Light Rain", "Sunny"
+    };
+
+    private final String city;
+    private final double temperature; // Degrees Celsius
+    private final int humidity;       // Percent
+    private final String description;
+
+    public WeatherReport(String city, double temperature, int humidity, String description) {
+        this.city = city;
+        this.temperature = temperature;
+        this.humidity = humidity;
+        this.description = description;
+    }
+
+    public String getCity() { return city; }
+    public double getTemperature() { return temperature; }
+    public int getHumidity() { return humidity; }
+    public String getDescription() { return description; }
+
+    /**
+     * Simulate weather data for demo purposes, in the line format
+     */
+    public static String simulateData(String city) {
+        // Simulate different weather for different cities
+        double temp = 15 + (city.hashCode() % 20); // Temperature between 15-35°C
+        int humidity = 40 + (Math.abs(city.hashCode()) % 40); // Humidity between 40-80%
+        String condition = SIMULATED_CONDITIONS[Math.abs(city.hashCode()) % SIMULATED_CONDITIONS.length];
+
+        // Locale.ROOT keeps the decimal point parseable in every locale
+        return String.format(Locale.ROOT, "CITY:%s|TEMP:%.1f|HUMIDITY:%d|DESC:%s",
+                           city, temp, humidity, condition);
+    }
+
+    /**
+     * Parse weather data in the line format
+     * @throws IllegalArgumentException if the data is not in the line format
+     */
+    public static WeatherReport parse(String weatherData) {
+        if (!weatherData.startsWith("CITY:")) {
+            throw new IllegalArgumentException("Unknown weather data format: " + weatherData);
+        }
+        try {
+            String[] parts = weatherData.split("\\|");
+            String cityName = parts[0].substring(5); // Remove "CITY:"
+            double temperature = Double.parseDouble(parts[1].substring(5)); // Remove "TEMP:"
+            int humidity = Integer.parseInt(parts[2].substring(9)); // Remove "HUMIDITY:"
+            String description = parts[3].substring(5); // Remove "DESC:"
+            return new WeatherReport(cityName, temperature, humidity, description);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed weather data: " + weatherData, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s %.1f°C %d%% %s", city, temperature, humidity, description);
+    }
+}
@@ -0,0 +1,385 @@
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WeatherService class - cached, coalescing access to a WeatherProvider.
+ *
+ * Each city's last report is cached. Within the TTL it is returned as is; after the TTL,
+ * and for up to the stale window more, it is still returned immediately while a refresh
+ * runs in the background (stale-while-revalidate). Older or missing reports are fetched.
+ * Concurrent requests for the same city share one fetch (single flight).
+ *
+ * Fetches run on the service's own small executor with a bounded queue, so slow I/O
+ * never occupies the clock threads; when the queue is full the request fails fast with
+ * a RejectedExecutionException. Fetches wait for the provider's rate limit, if it has
+ * one. getAll fetches many cities through a fixed number of lanes, so even hundreds of
+ * cities use the same few threads and never overflow the queue. Listeners only hear about
+ * background refreshes of stale reports, which no caller waits for; a requested report is
+ * delivered once, through its future or batch listener. Safe to use from any thread.
+ */
+public final class WeatherService implements AutoCloseable {
+
+    /**
+     * Callback invoked on a weather thread after each successful background refresh
+     */
+    public interface WeatherListener {
+        void onWeather(String city, WeatherReport report);
+    }
+
+    /**
+     * Callback invoked once per city of a batch, with either the report or the error;
+     * on a weather thread, or on the calling thread for cached reports
+     */
+    public interface BatchListener {
+        void onResult(String city, WeatherReport report, Throwable error);
+    }
+
+    public static final long DEFAULT_TTL_MILLIS = 5 * 60_000;
+    public static final long DEFAULT_STALE_MILLIS = 30 * 60_000;
+    public static final int DEFAULT_THREADS = 2;
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int MAX_BATCH_LANES = QUEUE_CAPACITY / 2; // Leaves room in the queue for single requests
+
+    // How a cached entry may be used
+    private static final int FRESH = 0;
+    private static final int STALE = 1;
+    private static final int EXPIRED = 2;
+
+    /**
+     * A cached report and when it was fetched
+     */
+    private static final class Entry {
+        private final WeatherReport report;
+        private final long fetchedNanos;
+
+        private Entry(WeatherReport report, long fetchedNanos) {
+            this.report = report;
+            this.fetchedNanos = fetchedNanos;
+        }
+    }
+
+    /**
+     * A fetch in flight; a background refresh stops being one when a request joins it
+     */
+    private static final class Flight extends CompletableFuture<WeatherReport> {
+        private volatile boolean background;
+
+        private Flight(boolean background) {
+            this.background = background;
+        }
+    }
+
+    private final WeatherProvider provider;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final ThreadPoolExecutor executor;
+    private final RateLimiter rateLimiter; // null if the provider has no limit
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final List<WeatherListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder staleCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder fetchCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public WeatherService(WeatherProvider provider) {
+        this(provider, DEFAULT_TTL_MILLIS, DEFAULT_STALE_MILLIS, DEFAULT_THREADS);
+    }
+
+    /**
+     * @param ttlMillis   how long a report is fresh
+     * @param staleMillis how long after the TTL a report is still served while it is refreshed
+     * @param threads     maximum number of concurrent fetches
+     */
+    public WeatherService(WeatherProvider provider, long ttlMillis, long staleMillis, int threads) {
+        this.provider = provider;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(staleMillis);
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), new WeatherThreadFactory());
+        this.executor.allowCoreThreadTimeOut(true); // No idle threads between the 10-minute updates
+        double rate = provider.getRequestsPerSecond();
+        this.rateLimiter = rate > 0 ? new RateLimiter(rate, (int) Math.ceil(rate)) : null;
+    }
+
+    /**
+     * The weather of the city: completed at once from the cache (fresh or stale),
+     * otherwise when the fetch completes
+     */
+    public CompletableFuture<WeatherReport> get(String city) {
+        String key = key(city);
+        Entry entry = cache.get(key);
+        switch (freshness(entry)) {
+            case FRESH:
+                hitCount.increment();
+                return CompletableFuture.completedFuture(entry.report);
+            case STALE:
+                staleCount.increment();
+                fetch(city, key, true); // Listeners get the new report
+                return CompletableFuture.completedFuture(entry.report);
+            default:
+                missCount.increment();
+                return fetch(city, key, false);
+        }
+    }
+
+    /**
+     * Get the weather of many cities with at most maxLanes fetches outstanding at a time.
+     * Duplicate cities (ignoring case and surrounding spaces) are fetched and reported once.
+     * Results stream to the listener as they arrive, cached ones right away; stale ones are
+     * reported from the cache and refreshed within the lanes (listeners get the new report).
+     * @return completes after the last city has been reported
+     */
+    public CompletableFuture<Void> getAll(Collection<String> cities, int maxLanes, BatchListener listener) {
+        Map<String, String> distinct = new LinkedHashMap<>();
+        for (String city : cities) {
+            distinct.putIfAbsent(key(city), city.trim());
+        }
+        Batch batch = new Batch(distinct.values(), listener);
+        if (distinct.isEmpty()) {
+            batch.done.complete(null);
+        }
+        int lanes = Math.max(1, Math.min(Math.min(maxLanes, MAX_BATCH_LANES), distinct.size()));
+        for (int i = 0; i < lanes; i++) {
+            batch.runLane();
+        }
+        return batch.done;
+    }
+
+    /**
+     * Fetch the city's weather now, ignoring the cache (still joining a fetch in flight)
+     */
+    public CompletableFuture<WeatherReport> refresh(String city) {
+        return fetch(city, key(city), false);
+    }
+
+    /**
+     * The cached report of the city if it is fresh or stale, otherwise null; never fetches
+     */
+    public WeatherReport getCached(String city) {
+        Entry entry = cache.get(key(city));
+        if (entry == null || System.nanoTime() - entry.fetchedNanos - ttlNanos >= staleNanos) {
+            return null;
+        }
+        return entry.report;
+    }
+
+    public void addListener(WeatherListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(WeatherListener listener) {
+        listeners.remove(listener);
+    }
+
+    public WeatherProvider getProvider() {
+        return provider;
+    }
+
+    public long getHitCount() { return hitCount.sum(); }
+    public long getStaleCount() { return staleCount.sum(); }
+    public long getMissCount() { return missCount.sum(); }
+    public long getFetchCount() { return fetchCount.sum(); }
+    public long getCoalescedCount() { return coalescedCount.sum(); }
+    public long getFailureCount() { return failureCount.sum(); }
+    public long getRejectedCount() { return rejectedCount.sum(); }
+
+    public long getRateLimitedCount() {
+        return rateLimiter == null ? 0 : rateLimiter.getWaitCount();
+    }
+
+    public String getReport() {
+        return provider.getName() + ": " + getHitCount() + " hits, " + getStaleCount() + " stale, "
+            + getMissCount() + " misses, " + getFetchCount() + " fetches, " + getCoalescedCount() + " coalesced, "
+            + getFailureCount() + " failed, " + getRejectedCount() + " rejected, " + getRateLimitedCount() + " rate limited";
+    }
+
+    /**
+     * Stop the weather threads; fetches in flight complete with a CancellationException
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (Flight future : inFlight.values()) {
+            future.completeExceptionally(new CancellationException("Weather service closed"));
+        }
+        inFlight.clear();
+    }
+
+    /**
+     * Start a fetch of the city, or join the one in flight
+     * @param background true to refresh a stale report for the listeners, with no caller waiting
+     */
+    private CompletableFuture<WeatherReport> fetch(String city, String key, boolean background) {
+        Flight future = new Flight(background);
+        Flight existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCount.increment();
+            if (!background) {
+                existing.background = false; // The requester shows the report, so the listeners must not
+            }
+            return existing;
+        }
+        try {
+            executor.execute(() -> runFetch(city, key, future));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void runFetch(String city, String key, Flight future) {
+        fetchCount.increment();
+        WeatherReport report;
+        try {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            report = provider.fetch(city);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt(); // Shutting down
+            }
+            failureCount.increment();
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            return;
+        }
+        cache.put(key, new Entry(report, System.nanoTime()));
+        // Leave the flight before completing, so callbacks that ask again hit the cache
+        inFlight.remove(key, future);
+        future.complete(report);
+        if (!future.background) {
+            return; // A caller shows it
+        }
+        for (WeatherListener listener : listeners) {
+            try {
+                listener.onWeather(city, report);
+            } catch (RuntimeException e) {
+                System.err.println("Weather listener failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private int freshness(Entry entry) {
+        if (entry == null) {
+            return EXPIRED;
+        }
+        long age = System.nanoTime() - entry.fetchedNanos;
+        if (age < ttlNanos) {
+            return FRESH;
+        }
+        return age - ttlNanos < staleNanos ? STALE : EXPIRED;
+    }
+
+    /**
+     * Cities of one getAll call; each lane takes the next city whenever its fetch completes
+     */
+    private final class Batch {
+        private final Iterator<String> pending;
+        private final BatchListener listener;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Batch(Collection<String> cities, BatchListener listener) {
+            this.pending = cities.iterator();
+            this.listener = listener;
+            this.remaining = new AtomicInteger(cities.size());
+        }
+
+        private String next() {
+            synchronized (pending) {
+                return pending.hasNext() ? pending.next() : null;
+            }
+        }
+
+        /**
+         * Report cached cities until one needs a fetch, then continue when that fetch completes
+         */
+        private void runLane() {
+            String city;
+            while ((city = next()) != null) {
+                String key = key(city);
+                Entry entry = cache.get(key);
+                int freshness = freshness(entry);
+                if (freshness == FRESH) {
+                    hitCount.increment();
+                    report(city, entry.report, null);
+                    continue;
+                }
+                boolean stale = freshness == STALE;
+                if (stale) {
+                    staleCount.increment();
+                    report(city, entry.report, null);
+                } else {
+                    missCount.increment();
+                }
+                CompletableFuture<WeatherReport> future = fetch(city, key, stale);
+                String laneCity = city;
+                if (future.isDone()) {
+                    if (!stale) {
+                        future.whenComplete((report, error) -> report(laneCity, report, error));
+                    }
+                    continue;
+                }
+                future.whenComplete((report, error) -> {
+                    if (!stale) {
+                        report(laneCity, report, error);
+                    }
+                    runLane();
+                });
+                return;
+            }
+        }
+
+        private void report(String city, WeatherReport report, Throwable error) {
+            try {
+                listener.onResult(city, report, error);
+            } catch (RuntimeException e) {
+                System.err.println("Weather batch listener failed: " + e.getMessage());
+                e.printStackTrace();
+            }
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+    }
+
+    private static String key(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class WeatherThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "WeatherService-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ZoneOffsetCache class that remembers, for each zone, its current UTC offset and the
+ * instant of its next offset transition (DST change or rule change).
+ *
+ * Until that transition the offset is returned without consulting ZoneRules, so the
+ * time of any zone is just the shared instant plus a cached number of seconds; a lookup
+ * at or after the transition replaces the entry, so a caller that looks up at least once
+ * a minute sees a DST change on the minute it happens. Entries are immutable and replaced atomically, so the cache is safe from any thread.
+ */
+public final class ZoneOffsetCache {
+
+    /**
+     * Offset of one zone and the period of time it is valid for
+     */
+    private static final class Entry {
+        private final ZoneOffset offset;
+        private final long validFromSecond;  // Inclusive, epoch seconds
+        private final long validUntilSecond; // Exclusive: the next transition, or Long.MAX_VALUE
+
+        private Entry(ZoneOffset offset, long validFromSecond, long validUntilSecond) {
+            this.offset = offset;
+            this.validFromSecond = validFromSecond;
+            this.validUntilSecond = validUntilSecond;
+        }
+    }
+
+    private final ConcurrentHashMap<ZoneId, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Offset of the zone at the given instant
+     */
+    public ZoneOffset offsetAt(ZoneId zone, Instant instant) {
+        long second = instant.getEpochSecond();
+        Entry entry = entries.get(zone);
+        if (entry == null || second < entry.validFromSecond || second >= entry.validUntilSecond) {
+            entry = compute(zone, instant);
+            entries.put(zone, entry);
+        }
+        return entry.offset;
+    }
+
+    /**
+     * Offset in seconds of the zone at the given instant
+     */
+    public int offsetSecondsAt(ZoneId zone, Instant instant) {
+        return offsetAt(zone, instant).getTotalSeconds();
+    }
+
+    /**
+     * Forget the zone, e.g. when no city shows it any more
+     */
+    public void remove(ZoneId zone) {
+        entries.remove(zone);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private Entry compute(ZoneId zone, Instant instant) {
+        ZoneRules rules = zone.getRules();
+        ZoneOffset offset = rules.getOffset(instant);
+        if (rules.isFixedOffset()) {
+            return new Entry(offset, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long from = previous != null ? previous.getInstant().getEpochSecond() : Long.MIN_VALUE;
+        long until = next != null ? next.getInstant().getEpochSecond() : Long.MAX_VALUE;
+        return new Entry(offset, from, until);
+    }
+}
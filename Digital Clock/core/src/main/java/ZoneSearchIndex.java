@@ -0,0 +1,390 @@
+import java.text.Normalizer;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * ZoneSearchIndex class - an immutable search index over time zone IDs and city names.
+ *
+ * Every name is normalized once (lower case, accents removed, '_', '/' and '-' as spaces)
+ * and split into tokens. Short query words are looked up in a prefix trie over the
+ * tokens; longer ones through trigram postings whose candidates are then verified as
+ * substrings. Each query word narrows the candidates by sorted-array intersection, so
+ * a query never touches more than the entries that can match it.
+ */
+public final class ZoneSearchIndex {
+
+    /**
+     * One searchable name and the zone it stands for
+     */
+    public static final class Entry {
+        private final String name;
+        private final String zoneId;
+        private final boolean alias;
+        private final String normalized;
+
+        private Entry(String name, String zoneId, boolean alias) {
+            this.name = name;
+            this.zoneId = zoneId;
+            this.alias = alias;
+            this.normalized = normalize(name);
+        }
+
+        public String getName() { return name; }
+        public String getZoneId() { return zoneId; }
+
+        /** True for city aliases, false for names derived from zone IDs */
+        public boolean isAlias() { return alias; }
+    }
+
+    /** Queries shorter than this (after normalization) return no results */
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    // Well-known cities whose names do not appear in any zone ID
+    private static final String[][] CITY_ALIASES = {
+        {"New Delhi", "Asia/Kolkata"}, {"Mumbai", "Asia/Kolkata"}, {"Bangalore", "Asia/Kolkata"},
+        {"Beijing", "Asia/Shanghai"}, {"Washington", "America/New_York"}, {"Boston", "America/New_York"},
+        {"Miami", "America/New_York"}, {"San Francisco", "America/Los_Angeles"}, {"Seattle", "America/Los_Angeles"},
+        {"Houston", "America/Chicago"}, {"Dallas", "America/Chicago"}, {"Montreal", "America/Toronto"},
+        {"Rio de Janeiro", "America/Sao_Paulo"}, {"Munich", "Europe/Berlin"}, {"Frankfurt", "Europe/Berlin"},
+        {"Milan", "Europe/Rome"}, {"Barcelona", "Europe/Madrid"}, {"Geneva", "Europe/Zurich"},
+        {"Saint Petersburg", "Europe/Moscow"}, {"Abu Dhabi", "Asia/Dubai"}, {"Osaka", "Asia/Tokyo"},
+        {"Hanoi", "Asia/Bangkok"}, {"Cape Town", "Africa/Johannesburg"}, {"Melbourne", "Australia/Melbourne"},
+        {"Wellington", "Pacific/Auckland"}, {"Dhaka", "Asia/Dhaka"}, {"Chittagong", "Asia/Dhaka"}
+    };
+
+    private static final class DefaultHolder {
+        private static final ZoneSearchIndex INSTANCE = build(aliasMap(CITY_ALIASES));
+    }
+
+    private final Entry[] entries;
+    private final TrieNode trieRoot;
+    private final Map<Long, int[]> trigramPostings;
+    private final int[] allEntries;
+
+    private ZoneSearchIndex(Entry[] entries, TrieNode trieRoot, Map<Long, int[]> trigramPostings) {
+        this.entries = entries;
+        this.trieRoot = trieRoot;
+        this.trigramPostings = trigramPostings;
+        this.allEntries = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            allEntries[i] = i;
+        }
+    }
+
+    /**
+     * Index of all available zone IDs and the built-in city aliases, built on first use
+     */
+    public static ZoneSearchIndex getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Build an index of all available zone IDs plus the given city name to zone ID aliases
+     */
+    public static ZoneSearchIndex build(Map<String, String> cityAliases) {
+        List<Entry> list = new ArrayList<>();
+        List<String> zoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        Collections.sort(zoneIds);
+        for (String zoneId : zoneIds) {
+            list.add(new Entry(formatZoneId(zoneId), zoneId, false));
+        }
+        for (Map.Entry<String, String> alias : cityAliases.entrySet()) {
+            list.add(new Entry(alias.getKey(), alias.getValue(), true));
+        }
+        Entry[] entries = list.toArray(new Entry[0]);
+
+        TrieBuilder trie = new TrieBuilder();
+        Map<Long, IntList> trigrams = new HashMap<>();
+        for (int id = 0; id < entries.length; id++) {
+            String normalized = entries[id].normalized;
+            for (String token : normalized.split(" ")) {
+                if (!token.isEmpty()) {
+                    trie.add(token, id);
+                }
+            }
+            for (int i = 0; i + 3 <= normalized.length(); i++) {
+                trigrams.computeIfAbsent(trigramKey(normalized, i), k -> new IntList()).addUnique(id);
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(trigrams.size() * 2);
+        for (Map.Entry<Long, IntList> trigram : trigrams.entrySet()) {
+            postings.put(trigram.getKey(), trigram.getValue().toArray());
+        }
+        return new ZoneSearchIndex(entries, trie.freeze(), postings);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Entries matching every word of the query, best matches first
+     */
+    public List<Entry> search(String query, int limit) {
+        List<Entry> results = search(query, limit, () -> false);
+        return results != null ? results : Collections.emptyList();
+    }
+
+    /**
+     * Entries matching every word of the query, best matches first
+     *
+     * @param cancelled polled between steps; when it returns true the search stops
+     * @return the matches, or null if the search was cancelled
+     */
+    public List<Entry> search(String query, int limit, BooleanSupplier cancelled) {
+        String normalized = normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            return Collections.emptyList();
+        }
+
+        int[] candidates = allEntries;
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            candidates = intersect(candidates, lookup(word));
+            if (candidates.length == 0) {
+                return Collections.emptyList();
+            }
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+        }
+
+        // Trigram candidates only share the word's trigrams; verify the word really occurs
+        Integer[] ranked = new Integer[candidates.length];
+        int count = 0;
+        for (int id : candidates) {
+            if (matchesAllWords(entries[id], normalized)) {
+                ranked[count++] = id;
+            }
+        }
+        if (cancelled.getAsBoolean()) {
+            return null;
+        }
+
+        Integer[] matches = Arrays.copyOf(ranked, count);
+        Arrays.sort(matches, (a, b) -> {
+            int byRank = Integer.compare(rank(entries[a], normalized), rank(entries[b], normalized));
+            return byRank != 0 ? byRank : entries[a].name.compareTo(entries[b].name);
+        });
+
+        List<Entry> results = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && results.size() < limit; i++) {
+            results.add(entries[matches[i]]);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Ids of the entries that can contain the word: trie prefix lookup for short words,
+     * trigram posting intersection for longer ones
+     */
+    private int[] lookup(String word) {
+        if (word.length() < 3) {
+            TrieNode node = trieRoot;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.child(word.charAt(i));
+            }
+            return node != null ? node.postings : new int[0];
+        }
+
+        int[] result = null;
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            int[] postings = trigramPostings.get(trigramKey(word, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            result = result == null ? postings : intersect(result, postings);
+        }
+        return result;
+    }
+
+    private static boolean matchesAllWords(Entry entry, String normalizedQuery) {
+        for (String word : normalizedQuery.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() < 3 ? !hasTokenPrefix(entry.normalized, word) : !entry.normalized.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTokenPrefix(String normalized, String prefix) {
+        int from = 0;
+        while (from <= normalized.length()) {
+            if (normalized.startsWith(prefix, from)) {
+                return true;
+            }
+            int space = normalized.indexOf(' ', from);
+            if (space < 0) {
+                return false;
+            }
+            from = space + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Lower is better: exact name, name prefix, word prefix, substring; aliases win ties
+     */
+    private static int rank(Entry entry, String normalizedQuery) {
+        int rank;
+        if (entry.normalized.equals(normalizedQuery)) {
+            rank = 0;
+        } else if (entry.normalized.startsWith(normalizedQuery)) {
+            rank = 2;
+        } else if (hasTokenPrefix(entry.normalized, normalizedQuery)) {
+            rank = 4;
+        } else {
+            rank = 6;
+        }
+        return entry.alias ? rank : rank + 1;
+    }
+
+    /**
+     * Lower case, accents removed, separators as single spaces
+     */
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c) || c == '+') {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true; // '_', '/', '-', spaces and punctuation separate words
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Display name of a zone ID, e.g. "America - New York"
+     */
+    public static String formatZoneId(String zoneId) {
+        return zoneId.replace("_", " ").replace("/", " - ");
+    }
+
+    private static long trigramKey(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        if (a == b) {
+            return a;
+        }
+        int[] out = new int[Math.min(a.length, b.length)];
+        int n = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static Map<String, String> aliasMap(String[][] pairs) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String[] pair : pairs) {
+            map.put(pair[0], pair[1]);
+        }
+        return map;
+    }
+
+    /**
+     * Frozen trie node: sorted child characters and the ids of every entry with a
+     * token starting with this node's prefix
+     */
+    private static final class TrieNode {
+        private final char[] keys;
+        private final TrieNode[] children;
+        private final int[] postings;
+
+        private TrieNode(char[] keys, TrieNode[] children, int[] postings) {
+            this.keys = keys;
+            this.children = children;
+            this.postings = postings;
+        }
+
+        TrieNode child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    /**
+     * Mutable trie used while building the index
+     */
+    private static final class TrieBuilder {
+        private final TreeMap<Character, TrieBuilder> children = new TreeMap<>();
+        private final IntList postings = new IntList();
+
+        void add(String token, int id) {
+            TrieBuilder node = this;
+            for (int i = 0; i < token.length(); i++) {
+                node = node.children.computeIfAbsent(token.charAt(i), k -> new TrieBuilder());
+                node.postings.addUnique(id);
+            }
+        }
+
+        TrieNode freeze() {
+            char[] keys = new char[children.size()];
+            TrieNode[] frozen = new TrieNode[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, TrieBuilder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                frozen[i] = child.getValue().freeze();
+                i++;
+            }
+            return new TrieNode(keys, frozen, postings.toArray());
+        }
+    }
+
+    /**
+     * Growable int array; ids are added in increasing order, so the result stays sorted
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void addUnique(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,26 +1,22 @@
 import javax.swing.*;
-import javax.swing.Timer;
 import javax.swing.plaf.basic.BasicButtonUI;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.text.SimpleDateFormat;
+import java.awt.image.BufferedImage;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -36,7 +32,7 @@ import java.util.concurrent.TimeUnit;
 public class AdvancedDigitalClock extends JFrame {
     
     // GUI Components
-    private JLabel digitalClockLabel;
+    private GlowTimeLabel digitalClockLabel;
     private JLabel dateLabel;
     private JLabel millisecondLabel;
     private JLabel alarmStatusLabel;
@@ -49,28 +45,23 @@ public class AdvancedDigitalClock extends JFrame {
     private ClockPanel analogClockPanel;
     
     // World clock components
-    private JPanel worldClockPanel;
+    private WorldClockGrid worldClockGrid;
     private JScrollPane worldScrollPane;
-    private Map<String, CityClockDisplay> cityClocks = new LinkedHashMap<>();
-    private Future<?> worldClockTaskHandle;
     
     // Alarm components
-    private List<AlarmTime> alarms = new ArrayList<>();
+    private final AlarmEngine alarmEngine = new AlarmEngine(this::onAlarm);
     private volatile boolean isAlarmRinging = false;
     
     // Stopwatch components
-    private JLabel stopwatchLabel;
+    private DigitDisplay stopwatchLabel;
     private JButton stopwatchStartButton;
     private JButton stopwatchStopButton;
     private JButton stopwatchResetButton;
     private JButton stopwatchLapButton;
     private JList<String> lapTimesList;
     private DefaultListModel<String> lapTimesModel;
-    private volatile boolean stopwatchRunning = false;
-    private long stopwatchStartTime = 0;
-    private long stopwatchElapsedTime = 0;
-    private List<Long> lapTimes = new ArrayList<>();
-    private Future<?> stopwatchTask;
+    private final StopwatchEngine stopwatch = new StopwatchEngine();
+    private TimeService.Subscription stopwatchTask;
     
     // Weather components
     private JLabel weatherLocationLabel;
@@ -79,20 +70,32 @@ public class AdvancedDigitalClock extends JFrame {
     private JLabel weatherHumidityLabel;
     private JButton weatherRefreshButton;
     private JTextField weatherCityField;
-    private String currentWeatherCity = "London"; // Default city
-    private Future<?> weatherTask;
-    private static final String WEATHER_API_KEY = "your-api-key"; // Replace with actual API key
+    private volatile String currentWeatherCity = "London"; // Default city
+    private static final long WEATHER_PERIOD_MILLIS = 10 * 60_000; // Weather refresh, at 10-minute boundaries
+    // Cached, coalesced weather; fetches run on the service's own threads, not on the clock threads
+    private final WeatherService weatherService = new WeatherService(createWeatherProvider());
+    private static final int WEATHER_BATCH_LANES = 4; // World clock cities fetched at a time
+    // World clock weather arriving from the weather threads, applied on the EDT in batches
+    private final ConcurrentLinkedQueue<Map.Entry<String, WeatherReport>> cityWeatherQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean cityWeatherDrainPosted = new AtomicBoolean();
     
-    // Thread management with ExecutorService
-    private ScheduledExecutorService executorService;
-    private Future<?> clockTask;
-    private Future<?> millisTask;
+    // Second-aligned ticks come from the shared TickScheduler through the TimeService,
+    // which samples the clock once per tick for every widget
+    private final TickScheduler tickScheduler = TickScheduler.shared();
+    private final TimeService timeService = new TimeService(tickScheduler);
     
-    private volatile boolean isRunning = false;
-    private volatile boolean isPaused = false;
-    private SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
-    private SimpleDateFormat dateFormat = new SimpleDateFormat("EEEE, MMMM d, yyyy");
-    private SimpleDateFormat millisecondFormat = new SimpleDateFormat("");
+    // Stopped / running / paused; owns every scheduled task, so a paused clock schedules nothing
+    private final ClockLifecycle lifecycle = new ClockLifecycle();
+    // Thread-safe, allocation-free formatting (replaces the shared SimpleDateFormat instances)
+    private final ClockFormatter clockFormatter = new ClockFormatter();
+    // What a clock or stopwatch tick shows, and where (EDT only)
+    private final TickDisplays tickDisplays = new TickDisplays(clockFormatter);
+    
+    // Latest-value-wins handoff to the EDT: at most one pending runnable per display
+    private final UiUpdateChannel<TimeService.Snapshot> clockDisplay = new UiUpdateChannel<>("clock", this::applyClockDisplay);
+    private final UiUpdateChannel<TimeService.Snapshot> worldClockDisplay = new UiUpdateChannel<>("world clocks", this::applyWorldClocks);
+    // The stopwatch channel carries the engine; the EDT reads the elapsed time when it applies it
+    private final UiUpdateChannel<StopwatchEngine> stopwatchDisplay = new UiUpdateChannel<>("stopwatch", this::applyStopwatchDisplay);
     
     public AdvancedDigitalClock() {
         setTitle("🌟 Modern Digital Clock Dashboard 🌟");
@@ -104,8 +107,17 @@ public class AdvancedDigitalClock extends JFrame {
             }
         });
 
-        initializeThreadPool();
+        // Background refreshes of stale reports arrive here; requested reports are shown by
+        // their callers (updateWeather, addCity, updateCityWeather)
+        weatherService.addListener((city, report) -> {
+            if (city.trim().equalsIgnoreCase(currentWeatherCity.trim())) {
+                displayWeather(report);
+            }
+            postCityWeather(city, report); // Ignored unless it is a world clock city
+        });
+        SoundManager.preloadAlarmSoundsAsync(); // Decode alarm sounds while the GUI is built
         initializeGUI(); // This method should set up all UI components
+        initializeLifecycle();
         updateAlarmStatus(); // Update alarm status label
 
         pack();
@@ -113,9 +125,39 @@ public class AdvancedDigitalClock extends JFrame {
         setVisible(true);
     }
     
-    private void initializeThreadPool() {
-        executorService = Executors.newScheduledThreadPool(4); // Added weather task
-        System.out.println("Thread pool initialized.");
+    /**
+     * Register the work that runs only while the clock is running; pausing or stopping
+     * deschedules all of it and starting or resuming re-arms it at the next boundary
+     */
+    private void initializeLifecycle() {
+        lifecycle.addParticipant(ClockLifecycle.subscription(timeService, new ClockTask(), 1000));
+        // World clocks only show HH:mm, so they tick at minute boundaries (and on zone changes)
+        lifecycle.addParticipant(ClockLifecycle.subscription(timeService, this::updateWorldClocks, 60_000));
+        lifecycle.addParticipant(ClockLifecycle.subscription(timeService, snapshot -> updateWeather(), WEATHER_PERIOD_MILLIS));
+        lifecycle.addParticipant(new ClockLifecycle.Participant() {
+            @Override
+            public void arm(boolean resumed) {
+                // Alarms fire from their own heap-ordered engine, once per occurrence
+                alarmEngine.start();
+                SwingUtilities.invokeLater(digitalClockLabel::startGlow);
+            }
+            
+            @Override
+            public void disarm(boolean stopped) {
+                alarmEngine.stop();
+                SwingUtilities.invokeLater(() -> {
+                    digitalClockLabel.stopGlow();
+                    analogClockPanel.holdTime(); // A sweeping second hand stops with the clock
+                });
+            }
+        });
+        lifecycle.addListener((previous, current) -> {
+            if (current == ClockLifecycle.State.PAUSED) {
+                System.out.println("Clock paused");
+            } else if (previous == ClockLifecycle.State.PAUSED && current == ClockLifecycle.State.RUNNING) {
+                System.out.println("Clock resumed from pause");
+            }
+        });
     }
     
     private void initializeGUI() {
@@ -190,6 +232,17 @@ public class AdvancedDigitalClock extends JFrame {
         analogClockPanel = new ClockPanel();
         analogClockPanel.setPreferredSize(new Dimension(400, 400));
         analogClockPanel.setOpaque(false);
+        // Sweeping second hand: click the dial to toggle, or start with -Dclock.analog.sweep=true
+        analogClockPanel.setSweep(Boolean.getBoolean("clock.analog.sweep"));
+        analogClockPanel.setToolTipText("Click to switch between a ticking and a sweeping second hand");
+        analogClockPanel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                analogClockPanel.setSweep(!analogClockPanel.isSweep());
+                System.out.println("Analog dial: " + (analogClockPanel.isSweep()
+                    ? "sweep at " + analogClockPanel.getSweepFrameRate() + " fps" : "ticking once a second"));
+            }
+        });
         
         // Create digital display panel (center top) with enhanced spacing for larger display
         JPanel digitalPanel = new JPanel(new GridLayout(5, 1, 15, 15)); // Increased spacing from 12 to 15
@@ -198,128 +251,7 @@ public class AdvancedDigitalClock extends JFrame {
         digitalPanel.setPreferredSize(new Dimension(520, 700)); // Increased from 450x600 to 520x700 for bigger display
         
         // Main time display with advanced pulsing glow animation
-        digitalClockLabel = new JLabel("--:--:--", SwingConstants.CENTER) {
-            private Timer glowTimer;
-            private float glowIntensity = 0.0f;
-            private boolean glowIncreasing = true;
-            
-            {
-                // Initialize glow animation timer
-                glowTimer = new Timer(50, e -> {
-                    if (glowIncreasing) {
-                        glowIntensity += 0.03f;
-                        if (glowIntensity >= 1.0f) {
-                            glowIntensity = 1.0f;
-                            glowIncreasing = false;
-                        }
-                    } else {
-                        glowIntensity -= 0.03f;
-                        if (glowIntensity <= 0.3f) {
-                            glowIntensity = 0.3f;
-                            glowIncreasing = true;
-                        }
-                    }
-                    repaint();
-                });
-                glowTimer.start();
-            }
-            
-            @Override
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2d = (Graphics2D) g;
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-                g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-                
-                // Paint enhanced rounded background with animated gradient
-                int arc = 20;
-                float bgOpacity = 0.8f + (glowIntensity * 0.2f);
-                Color bg1 = new Color(25, 25, 60, (int)(180 * bgOpacity));
-                Color bg2 = new Color(15, 15, 40, (int)(220 * bgOpacity));
-                GradientPaint bgGradient = new GradientPaint(0, 0, bg1, 0, getHeight(), bg2);
-                g2d.setPaint(bgGradient);
-                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), arc, arc);
-                
-                // Multiple animated glowing borders with different intensities
-                for (int i = 0; i < 3; i++) {
-                    int alpha = (int)(60 * glowIntensity) - (i * 15);
-                    if (alpha > 0) {
-                        g2d.setColor(new Color(0, 255, 127, alpha));
-                        g2d.setStroke(new BasicStroke(2 + i));
-                        g2d.drawRoundRect(i, i, getWidth()-(2*i)-1, getHeight()-(2*i)-1, arc-i, arc-i);
-                    }
-                }
-                
-                // Create advanced text glow effect with multiple layers
-                String text = getText();
-                FontMetrics fm = g2d.getFontMetrics();
-                int x = (getWidth() - fm.stringWidth(text)) / 2;
-                int y = (getHeight() + fm.getAscent()) / 2;
-                
-                // Outer glow with animation
-                int glowRadius = (int)(15 * glowIntensity);
-                for (int i = glowRadius; i > 0; i--) {
-                    int alpha = Math.max(0, (int)(30 * glowIntensity) - (i * 2));
-                    g2d.setColor(new Color(0, 255, 127, alpha));
-                    for (int dx = -1; dx <= 1; dx++) {
-                        for (int dy = -1; dy <= 1; dy++) {
-                            if (dx != 0 || dy != 0) {
-                                g2d.drawString(text, x + (dx * i), y + (dy * i));
-                            }
-                        }
-                    }
-                }
-                
-                // Inner glow for depth
-                for (int i = 3; i > 0; i--) {
-                    int alpha = (int)(80 * glowIntensity);
-                    g2d.setColor(new Color(100, 255, 200, alpha));
-                    g2d.drawString(text, x + i, y);
-                    g2d.drawString(text, x - i, y);
-                    g2d.drawString(text, x, y + i);
-                    g2d.drawString(text, x, y - i);
-                }
-                
-                // Draw holographic scan lines for cyber effect
-                for (int i = 0; i < getHeight(); i += 3) {
-                    int alpha = 10 + (int)(5 * glowIntensity);
-                    if (i % 6 == 0) alpha = 25 + (int)(10 * glowIntensity);
-                    g2d.setColor(new Color(0, 255, 200, alpha));
-                    g2d.drawLine(0, i, getWidth(), i);
-                }
-                
-                // Main text with enhanced gradient and glow
-                // Create a metallic gradient for the text
-                LinearGradientPaint textGradient = new LinearGradientPaint(
-                    x, y - fm.getHeight(),
-                    x, y,
-                    new float[]{0.0f, 0.3f, 0.7f, 1.0f},
-                    new Color[]{
-                        new Color(200, 255, 200), // Top: lighter cyan-green
-                        new Color(0, 255, 200),   // Upper mid: bright cyan
-                        new Color(0, 220, 180),   // Lower mid: medium cyan
-                        new Color(0, 180, 160)    // Bottom: deeper cyan
-                    }
-                );
-                
-                g2d.setPaint(textGradient);
-                g2d.drawString(text, x, y);
-                
-                // Additional high-tech digital artifacts
-                if (Math.random() < 0.05) { // Occasionally show digital artifacts
-                    g2d.setColor(new Color(0, 255, 255, 180));
-                    int glitchX = (int)(Math.random() * getWidth());
-                    int glitchWidth = (int)(Math.random() * 20) + 5;
-                    int glitchHeight = (int)(Math.random() * 3) + 1;
-                    g2d.fillRect(glitchX, (int)(Math.random() * getHeight()), 
-                                glitchWidth, glitchHeight);
-                }
-                
-                // Highlight effect on top with animated glow
-                g2d.setColor(new Color(255, 255, 255, (int)(120 * glowIntensity)));
-                g2d.drawString(text, x, y - 1);
-            }
-        };
+        digitalClockLabel = new GlowTimeLabel("--:--:--");
         digitalClockLabel.setFont(new Font("Orbitron", Font.BOLD, 84)); // Changed to Orbitron for more tech look
         digitalClockLabel.setForeground(new Color(0, 255, 200)); // Changed to bright cyan
         digitalClockLabel.setOpaque(false);
@@ -335,11 +267,16 @@ public class AdvancedDigitalClock extends JFrame {
         alarmStatusLabel = createStyledLabel("No alarms set", new Color(255, 165, 0), 22); // Increased from 18 to 22
         
         // Stopwatch display with enhanced magenta glow and bigger font
-        stopwatchLabel = new JLabel("00:00:00.000", SwingConstants.CENTER);
+        stopwatchLabel = new DigitDisplay("00:00:00.000", "00:00:00.000"); // Repaints only, 100 times a second while running
         stopwatchLabel.setFont(new Font("Segoe UI", Font.BOLD, 32)); // Increased from 28 to 32
         stopwatchLabel.setForeground(new Color(255, 20, 147));
         stopwatchLabel.setOpaque(false);
         
+        tickDisplays.timeLabel = digitalClockLabel;
+        tickDisplays.dateLabel = dateLabel;
+        tickDisplays.analogClock = analogClockPanel;
+        tickDisplays.stopwatchLabel = stopwatchLabel;
+        
         // Weather display panel with modern styling
         JPanel weatherPanel = createWeatherPanel();
         
@@ -351,7 +288,7 @@ public class AdvancedDigitalClock extends JFrame {
         digitalPanel.add(weatherPanel);
         
         // Create world clock panel
-        worldScrollPane = createWorldClockPanel();
+        JPanel worldClockPanel = createWorldClockPanel();
         
         // Create center panel to hold analog clock on top
         JPanel centerPanel = new JPanel(new BorderLayout(6, 8));
@@ -361,7 +298,7 @@ public class AdvancedDigitalClock extends JFrame {
         // Add components to main display panel - Digital clock on left, analog clock in center, world clocks on right
         displayPanel.add(digitalPanel, BorderLayout.WEST);
         displayPanel.add(centerPanel, BorderLayout.CENTER);
-        displayPanel.add(worldScrollPane, BorderLayout.EAST);
+        displayPanel.add(worldClockPanel, BorderLayout.EAST);
         
         return displayPanel;
     }
@@ -369,7 +306,7 @@ public class AdvancedDigitalClock extends JFrame {
     /**
      * Create the world clock panel showing time in different cities
      */
-    private JScrollPane createWorldClockPanel() {
+    private JPanel createWorldClockPanel() {
         // Main container panel with BorderLayout
         JPanel worldContainer = new JPanel(new BorderLayout()) {
             @Override
@@ -389,13 +326,8 @@ public class AdvancedDigitalClock extends JFrame {
         };
         worldContainer.setOpaque(false);
         
-        // Create the cities panel with more compact layout
-        JPanel worldPanel = new JPanel();
-        worldPanel.setOpaque(false);
-        worldPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 8, 6));
-        
-        // Store the reference to worldClockPanel
-        worldClockPanel = worldPanel;
+        // A single painted grid holds every city; only visible cells are drawn
+        worldClockGrid = new WorldClockGrid(clockFormatter);
         
         // Add the default cities
         addCity("London", ZoneId.of("Europe/London"));
@@ -403,7 +335,57 @@ public class AdvancedDigitalClock extends JFrame {
         addCity("Tokyo", ZoneId.of("Asia/Tokyo"));
         
         // Create the modern "+" button
-        JButton addCityButton = new JButton("+") {
+        JButton addCityButton = createWorldButton("+", 24, "Add new city");
+        
+        // Add functionality to add new cities using TimeZoneSelector
+        addCityButton.addActionListener(e -> {
+            TimeZoneSelector selector = new TimeZoneSelector(AdvancedDigitalClock.this);
+            selector.setVisible(true);
+            
+            // Process the selected time zones if any
+            if (selector.isSelectionMade()) {
+                for (TimeZoneSelector.TimeZoneItem item : selector.getSelectedTimeZones()) {
+                    addCity(item.getName(), ZoneId.of(item.getZoneId()));
+                }
+            }
+        });
+        
+        // Create button panel
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 15, 15));
+        buttonPanel.setOpaque(false);
+        buttonPanel.add(addCityButton);
+        
+        // Toggle between text cells and analog mini dials
+        JButton dialsButton = createWorldButton("Dial", 11, "Show analog dials");
+        dialsButton.setMargin(new Insets(0, 0, 0, 0));
+        dialsButton.addActionListener(e -> {
+            boolean miniDials = !worldClockGrid.isMiniDials();
+            worldClockGrid.setMiniDials(miniDials);
+            dialsButton.setText(miniDials ? "Text" : "Dial");
+            dialsButton.setToolTipText(miniDials ? "Show digital times" : "Show analog dials");
+        });
+        buttonPanel.add(dialsButton);
+        
+        // Wrap the grid in a scroll pane; the grid fills its height and scrolls sideways
+        worldScrollPane = new JScrollPane(worldClockGrid);
+        worldScrollPane.setBorder(null);
+        worldScrollPane.setOpaque(false);
+        worldScrollPane.getViewport().setOpaque(false);
+        worldScrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        worldScrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
+        
+        // Add panels to container
+        worldContainer.add(worldScrollPane, BorderLayout.CENTER);
+        worldContainer.add(buttonPanel, BorderLayout.EAST);
+        
+        return worldContainer;
+    }
+    
+    /**
+     * A round gradient button for the world clock panel
+     */
+    private JButton createWorldButton(String text, int fontSize, String toolTip) {
+        JButton button = new JButton(text) {
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2d = (Graphics2D) g;
@@ -425,71 +407,46 @@ public class AdvancedDigitalClock extends JFrame {
                 super.paintComponent(g);
             }
         };
-        addCityButton.setFont(new Font("Segoe UI", Font.BOLD, 24));
-        addCityButton.setForeground(Color.WHITE);
-        addCityButton.setFocusPainted(false);
-        addCityButton.setBorderPainted(false);
-        addCityButton.setContentAreaFilled(false);
-        addCityButton.setPreferredSize(new Dimension(50, 50));
-        addCityButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        addCityButton.setToolTipText("Add new city");
+        button.setFont(new Font("Segoe UI", Font.BOLD, fontSize));
+        button.setForeground(Color.WHITE);
+        button.setFocusPainted(false);
+        button.setBorderPainted(false);
+        button.setContentAreaFilled(false);
+        button.setPreferredSize(new Dimension(50, 50));
+        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setToolTipText(toolTip);
         
         // Add hover effect to the button
-        addCityButton.addMouseListener(new MouseAdapter() {
+        button.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseEntered(MouseEvent e) {
-                addCityButton.repaint();
+                button.repaint();
             }
             
             @Override
             public void mouseExited(MouseEvent e) {
-                addCityButton.repaint();
-            }
-        });
-        
-        // Add functionality to add new cities using TimeZoneSelector
-        addCityButton.addActionListener(_ -> {
-            TimeZoneSelector selector = new TimeZoneSelector(AdvancedDigitalClock.this);
-            selector.setVisible(true);
-            
-            // Process the selected time zones if any
-            if (selector.isSelectionMade()) {
-                for (TimeZoneSelector.TimeZoneItem item : selector.getSelectedTimeZones()) {
-                    addCity(item.getName(), ZoneId.of(item.getZoneId()));
-                }
-                // Update layout after adding cities
-                worldClockPanel.revalidate();
-                worldClockPanel.repaint();
+                button.repaint();
             }
         });
-        
-        // Create button panel
-        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 15, 15));
-        buttonPanel.setOpaque(false);
-        buttonPanel.add(addCityButton);
-        
-        // Add panels to container
-        worldContainer.add(worldPanel, BorderLayout.CENTER);
-        worldContainer.add(buttonPanel, BorderLayout.EAST);
-        
-        // Wrap the container in a scroll pane
-        worldScrollPane = new JScrollPane(worldContainer);
-        worldScrollPane.setBorder(null);
-        worldScrollPane.setOpaque(false);
-        worldScrollPane.getViewport().setOpaque(false);
-        worldScrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
-        worldScrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
-        
-        return worldScrollPane;
+        return button;
     }
     
     /**
      * Add a new city clock to the world panel
      */
     private void addCity(String cityName, ZoneId zoneId) {
-        CityClockDisplay cityDisplay = new CityClockDisplay(cityName, zoneId);
-        cityClocks.put(cityName, cityDisplay);
-        worldClockPanel.add(cityDisplay.getPanel());
+        if (worldClockGrid.addCity(cityName, zoneId)) {
+            worldClockGrid.update(timeService.now().getInstant()); // Initialize with current time
+            if (lifecycle.isRunning()) {
+                weatherService.get(cityName).whenComplete((report, error) -> {
+                    if (error == null) {
+                        postCityWeather(cityName, report);
+                    } else {
+                        System.err.println("Weather unavailable for " + cityName + ": " + error.getMessage());
+                    }
+                });
+            }
+        }
     }
     
     /**
@@ -596,42 +553,23 @@ public class AdvancedDigitalClock extends JFrame {
     }
     
     private void setupEventHandlers() {
-        startButton.addActionListener(_ -> startClock());
-        pauseButton.addActionListener(_ -> pauseClock());
-        stopButton.addActionListener(_ -> stopClock());
-        alarmButton.addActionListener(_ -> showAlarmDialog());
-        stopwatchButton.addActionListener(_ -> showStopwatchDialog());
-        weatherRefreshButton.addActionListener(_ -> showWeatherDialog());
-        exitButton.addActionListener(_ -> exitApplication());
+        startButton.addActionListener(e -> startClock());
+        pauseButton.addActionListener(e -> pauseClock());
+        stopButton.addActionListener(e -> stopClock());
+        alarmButton.addActionListener(e -> showAlarmDialog());
+        stopwatchButton.addActionListener(e -> showStopwatchDialog());
+        weatherRefreshButton.addActionListener(e -> showWeatherDialog());
+        exitButton.addActionListener(e -> exitApplication());
     }
     
     private void startClock() {
-        if (executorService == null || executorService.isShutdown()) {
-            initializeThreadPool(); // Re-initialize if it was shut down
-        }
-        
-        if (!isRunning) {
-            isRunning = true;
-            isPaused = false;
-            
-            // Schedule the main clock task, 1-second interval
-            clockTask = executorService.scheduleAtFixedRate(
-                new ClockTask(), 0, 1, TimeUnit.SECONDS);
-            
-            // Millisecond task removed to simplify display
-            
-            // Start world clock updates
-            worldClockTaskHandle = executorService.scheduleAtFixedRate(
-                this::updateWorldClocks, 0, 1, TimeUnit.SECONDS);
-            
-            // Start weather updates (every 10 minutes)
-            weatherTask = executorService.scheduleAtFixedRate(
-                this::updateWeather, 0, 10, TimeUnit.MINUTES);
-            
-            updateButtonStates(false, true, true);
-        } else if (isPaused) {
-            isPaused = false; // Tasks will resume checking this flag
-            System.out.println("Clock resumed from pause");
+        if (lifecycle.start()) {
+            // Show the time at once (also catching up on minutes missed while paused);
+            // the re-armed subscriptions tick from the next boundary
+            TimeService.Snapshot now = timeService.now();
+            clockDisplay.publish(now);
+            worldClockDisplay.publish(now);
+            updateWeather();
         }
         updateButtonStates(false, true, true);
         if (analogClockPanel != null) {
@@ -640,42 +578,22 @@ public class AdvancedDigitalClock extends JFrame {
     }
     
     private void pauseClock() {
-        if (isRunning && !isPaused) {
-            isPaused = true;
-            // Tasks will see isPaused = true and skip their main logic
-            System.out.println("Clock paused");
+        if (lifecycle.pause()) {
             updateButtonStates(true, false, true);
         }
     }
     
     private void stopClock() {
-        if (isRunning) {
-            isRunning = false;
-            isPaused = false;
-            
-            // Cancel all running tasks
-            if (clockTask != null) {
-                clockTask.cancel(true);
-                clockTask = null;
-            }
-            
-            // Millisecond task removed
-            
-            if (worldClockTaskHandle != null) {
-                worldClockTaskHandle.cancel(true);
-                worldClockTaskHandle = null;
-            }
-            
-            if (weatherTask != null) {
-                weatherTask.cancel(true);
-                weatherTask = null;
-            }
+        if (lifecycle.stop()) {
+            System.out.println("Tick scheduler: " + tickScheduler.getJitterReport());
+            System.out.println("UI channel " + clockDisplay.getReport());
+            System.out.println("UI channel " + worldClockDisplay.getReport());
             
             // Reset display
             digitalClockLabel.setText("--:--:--");
             dateLabel.setText("Clock Stopped");
             // millisecondLabel.setText(""); // Millisecond display removed
-            analogClockPanel.repaint();
+            analogClockPanel.clearTime();
             
             updateButtonStates(true, false, false);
         }
@@ -684,12 +602,14 @@ public class AdvancedDigitalClock extends JFrame {
     /**
      * Update all world clock displays
      */
-    private void updateWorldClocks() {
-        if (!isRunning || isPaused) return;
-        
-        for (CityClockDisplay cityDisplay : cityClocks.values()) {
-            cityDisplay.update();
-        }
+    private void updateWorldClocks(TimeService.Snapshot snapshot) {
+        if (!lifecycle.isRunning()) return;
+        worldClockDisplay.publish(snapshot);
+    }
+    
+    private void applyWorldClocks(TimeService.Snapshot snapshot) {
+        // City offsets come from a transition-aware cache; only cells whose minute changed repaint
+        worldClockGrid.update(snapshot.getInstant(), snapshot.getLocal().getZone());
     }
     
     private void updateButtonStates(boolean start, boolean pause, boolean stop) {
@@ -717,37 +637,7 @@ public class AdvancedDigitalClock extends JFrame {
         button.setOpaque(false);
         
         // Create a custom painted button with gradient
-        button.setUI(new BasicButtonUI() {
-            @Override
-            public void paint(Graphics g, JComponent c) {
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                
-                int w = c.getWidth();
-                int h = c.getHeight();
-                
-                // Create gradient paint
-                GradientPaint gp = new GradientPaint(
-                    0, 0, topColor,
-                    0, h, bottomColor);
-                
-                g2d.setPaint(gp);
-                g2d.fillRoundRect(0, 0, w, h, 12, 12);
-                
-                // Draw border
-                g2d.setColor(bottomColor.darker());
-                g2d.setStroke(new BasicStroke(2));
-                g2d.drawRoundRect(0, 0, w - 1, h - 1, 12, 12);
-                
-                // Add shine effect
-                g2d.setColor(new Color(255, 255, 255, 50));
-                g2d.fillRoundRect(2, 2, w - 4, h / 2 - 2, 10, 10);
-                
-                g2d.dispose();
-                
-                super.paint(g, c);
-            }
-        });
+        button.setUI(new GradientButtonUI(topColor, bottomColor));
         
         // Add hover effect
         button.addMouseListener(new MouseAdapter() {
@@ -824,19 +714,16 @@ public class AdvancedDigitalClock extends JFrame {
     private void exitApplication() {
         stopClock(); // Stop tasks before exiting
         
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-            try {
-                if (!executorService.awaitTermination(2, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                    System.out.println("Force shutdown of thread pool");
-                } else {
-                    System.out.println("Thread pool shutdown gracefully");
-                }
-            } catch (InterruptedException e) {
-                executorService.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
+        System.out.println("Clock lifecycle: " + lifecycle.getReport());
+        analogClockPanel.closeRenderer();
+        System.out.println(analogClockPanel.getRenderReport());
+        weatherService.close();
+        if (weatherService.getFetchCount() > 0) {
+            System.out.println("Weather " + weatherService.getReport());
+        }
+        
+        if (SoundManager.getPlayCount() > 0) {
+            System.out.println("Sound: " + SoundManager.getLatencyReport());
         }
         
         // Dispose the JFrame
@@ -844,135 +731,91 @@ public class AdvancedDigitalClock extends JFrame {
         System.exit(0);
     }
     
-    private String formatTime(ZonedDateTime zonedDateTime) {
-        return timeFormat.format(Date.from(zonedDateTime.toInstant()));
-    }
-
-    private String formatDate(ZonedDateTime zonedDateTime) {
-        return dateFormat.format(Date.from(zonedDateTime.toInstant()));
-    }
-
-    private String formatMillisecond(ZonedDateTime zonedDateTime) {
-        // Get milliseconds from the ZonedDateTime
-        int millis = zonedDateTime.getNano() / 1_000_000;
-        return String.format(".%03d", millis);
+    /**
+     * Weather provider: the HTTP endpoint in the clock.weather.url system property
+     * (e.g. a WeatherStubServer), otherwise simulated weather
+     */
+    private static WeatherProvider createWeatherProvider() {
+        String url = System.getProperty("clock.weather.url");
+        if (url != null && !url.isBlank()) {
+            double rate = Double.parseDouble(System.getProperty("clock.weather.rate", "5")); // Requests per second
+            return new HttpWeatherProvider(URI.create(url.trim()), Duration.ofSeconds(5), rate);
+        }
+        return new SimulatedWeatherProvider();
     }
     
     /**
-     * Update weather information from API
+     * Update weather information from the weather service
      */
     private void updateWeather() {
-        if (!isRunning || isPaused) return;
+        if (!lifecycle.isRunning()) return;
         
-        executorService.submit(() -> {
-            try {
-                String weatherData = fetchWeatherData(currentWeatherCity);
-                if (weatherData != null) {
-                    parseAndDisplayWeather(weatherData);
-                }
-            } catch (Exception e) {
-                SwingUtilities.invokeLater(() -> {
-                    weatherDescriptionLabel.setText("Weather unavailable");
-                    weatherTemperatureLabel.setText("--°C");
-                    weatherHumidityLabel.setText("--% humidity");
-                });
-                System.err.println("Weather update failed: " + e.getMessage());
+        // Completes at once from the cache; a fetch never blocks the clock threads
+        weatherService.get(currentWeatherCity).whenComplete((report, error) -> {
+            if (error == null) {
+                displayWeather(report);
+                return;
             }
+            SwingUtilities.invokeLater(() -> {
+                weatherDescriptionLabel.setText("Weather unavailable");
+                weatherTemperatureLabel.setText("--°C");
+                weatherHumidityLabel.setText("--% humidity");
+            });
+            System.err.println("Weather update failed: " + error.getMessage());
         });
+        
+        SwingUtilities.invokeLater(this::updateCityWeather);
     }
     
     /**
-     * Fetch weather data from OpenWeatherMap API
+     * Fetch the weather of every world clock city as one batch (EDT; does not block).
+     * Reports stream into the grid as they arrive, a few cities at a time. The batch is the
+     * only delivery of a city's report; the service listener only brings later refreshes of
+     * stale ones.
      */
-    private String fetchWeatherData(String city) {
-        try {
-            // Note: Replace "your-api-key" with an actual OpenWeatherMap API key
-            // For demo purposes, we'll simulate weather data
-            return simulateWeatherData(city);
-            
-            /* Uncomment this section when you have a real API key:
-            String apiUrl = "http://api.openweathermap.org/data/2.5/weather?q=" + 
-                           city + "&appid=" + WEATHER_API_KEY + "&units=metric";
-            
-            URI uri = URI.create(apiUrl);
-            URL url = uri.toURL();
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(5000);
-            connection.setReadTimeout(5000);
-            
-            int responseCode = connection.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-                StringBuilder response = new StringBuilder();
-                String line;
-                
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-                reader.close();
-                
-                return response.toString();
+    private void updateCityWeather() {
+        List<String> cities = worldClockGrid.getCityNames();
+        AtomicInteger failures = new AtomicInteger();
+        weatherService.getAll(cities, WEATHER_BATCH_LANES, (city, report, error) -> {
+            if (error == null) {
+                postCityWeather(city, report);
             } else {
-                System.err.println("Weather API error: " + responseCode);
-                return null;
+                failures.incrementAndGet();
             }
-            */
-        } catch (Exception e) {
-            System.err.println("Error fetching weather data: " + e.getMessage());
-            return null;
-        }
+        }).thenRun(() -> {
+            if (failures.get() > 0) {
+                System.err.println("Weather unavailable for " + failures.get() + " of " + cities.size() + " world clock cities");
+            }
+        });
     }
     
     /**
-     * Simulate weather data for demo purposes
+     * Queue a world clock city's weather (from any thread); one EDT event applies everything queued
      */
-    private String simulateWeatherData(String city) {
-        // Simulate different weather for different cities
-        double temp = 15 + (city.hashCode() % 20); // Temperature between 15-35°C
-        int humidity = 40 + (Math.abs(city.hashCode()) % 40); // Humidity between 40-80%
-        String[] conditions = {"Clear Sky", "Few Clouds", "Scattered Clouds", "Broken Clouds", "Light Rain", "Sunny"};
-        String condition = conditions[Math.abs(city.hashCode()) % conditions.length];
-        
-        return String.format("CITY:%s|TEMP:%.1f|HUMIDITY:%d|DESC:%s", 
-                           city, temp, humidity, condition);
+    private void postCityWeather(String city, WeatherReport report) {
+        cityWeatherQueue.add(Map.entry(city, report));
+        if (cityWeatherDrainPosted.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                cityWeatherDrainPosted.set(false);
+                Map.Entry<String, WeatherReport> weather;
+                while ((weather = cityWeatherQueue.poll()) != null) {
+                    worldClockGrid.setWeather(weather.getKey(), weather.getValue());
+                }
+            });
+        }
     }
     
     /**
-     * Parse weather data and update display (simplified format)
+     * Show a weather report (from any thread)
      */
-    private void parseAndDisplayWeather(String weatherData) {
-        try {
-            if (weatherData.startsWith("CITY:")) {
-                // Parse our simulated format: CITY:London|TEMP:22.5|HUMIDITY:65|DESC:Clear Sky
-                String[] parts = weatherData.split("\\|");
-                String cityName = parts[0].substring(5); // Remove "CITY:"
-                double temperature = Double.parseDouble(parts[1].substring(5)); // Remove "TEMP:"
-                int humidity = Integer.parseInt(parts[2].substring(9)); // Remove "HUMIDITY:"
-                String description = parts[3].substring(5); // Remove "DESC:"
-                
-                // Update UI on EDT
-                SwingUtilities.invokeLater(() -> {
-                    weatherLocationLabel.setText(cityName);
-                    weatherTemperatureLabel.setText(String.format("%.1f°C", temperature));
-                    weatherDescriptionLabel.setText(description);
-                    weatherHumidityLabel.setText(humidity + "% humidity");
-                });
-            }
-            
-            /* For real JSON data, you would use a JSON library:
-            JSONObject json = new JSONObject(jsonData);
-            JSONObject main = json.getJSONObject("main");
-            JSONObject weather = json.getJSONArray("weather").getJSONObject(0);
-            // ... parse as before
-            */
-            
-        } catch (Exception e) {
-            System.err.println("Error parsing weather data: " + e.getMessage());
-            SwingUtilities.invokeLater(() -> {
-                weatherDescriptionLabel.setText("Data error");
-            });
-        }
+    private void displayWeather(WeatherReport report) {
+        // Update UI on EDT
+        SwingUtilities.invokeLater(() -> {
+            weatherLocationLabel.setText(report.getCity());
+            weatherTemperatureLabel.setText(String.format("%.1f°C", report.getTemperature()));
+            weatherDescriptionLabel.setText(capitalizeWords(report.getDescription())); // JSON providers send "broken clouds"
+            weatherHumidityLabel.setText(report.getHumidity() + "% humidity");
+        });
     }
     
     /**
@@ -1046,7 +889,7 @@ public class AdvancedDigitalClock extends JFrame {
         panel.add(cancelButton, gbc);
         
         // Event handlers
-        updateButton.addActionListener(_ -> {
+        updateButton.addActionListener(e -> {
             String newCity = weatherCityField.getText().trim();
             if (!newCity.isEmpty()) {
                 currentWeatherCity = newCity;
@@ -1055,10 +898,10 @@ public class AdvancedDigitalClock extends JFrame {
             }
         });
         
-        cancelButton.addActionListener(_ -> weatherDialog.dispose());
+        cancelButton.addActionListener(e -> weatherDialog.dispose());
         
         // Enter key support
-        weatherCityField.addActionListener(_ -> updateButton.doClick());
+        weatherCityField.addActionListener(e -> updateButton.doClick());
         
         weatherDialog.add(panel);
         weatherDialog.setVisible(true);
@@ -1079,16 +922,14 @@ public class AdvancedDigitalClock extends JFrame {
         // Create animated main panel with cyber gradient background
         JPanel mainPanel = new JPanel(new BorderLayout(20, 20)) {
             private float animationPhase = 0.0f;
-            private Timer animationTimer;
             
             {
-                // Start background animation
-                animationTimer = new Timer(50, e -> {
-                    animationPhase += 0.02f;
+                // Background animation; unregistered automatically when the dialog is disposed
+                AnimationDriver.getDefault().register(this, elapsedSeconds -> {
+                    animationPhase += (float) (0.4 * elapsedSeconds);
                     if (animationPhase > 2 * Math.PI) animationPhase = 0.0f;
                     repaint();
                 });
-                animationTimer.start();
             }
             
             @Override
@@ -1178,7 +1019,7 @@ public class AdvancedDigitalClock extends JFrame {
         
         // Enhanced alarm list with cyber styling
         DefaultListModel<AlarmTime> listModel = new DefaultListModel<>();
-        for (AlarmTime alarm : alarms) {
+        for (AlarmTime alarm : alarmEngine.getAlarms()) {
             listModel.addElement(alarm);
         }
         
@@ -1302,7 +1143,7 @@ public class AdvancedDigitalClock extends JFrame {
                 LocalTime time = LocalTime.parse(timeStr);
                 int soundNumber = soundComboBox.getSelectedIndex() + 1; // Convert 0-based index to 1-based sound number
                 AlarmTime newAlarm = new AlarmTime(time, label, enabledBox.isSelected(), repeatBox.isSelected(), soundNumber);
-                alarms.add(newAlarm);
+                alarmEngine.add(newAlarm);
                 listModel.addElement(newAlarm);
                 updateAlarmStatus();
                 
@@ -1315,9 +1156,7 @@ public class AdvancedDigitalClock extends JFrame {
                 
                 // Visual feedback
                 addButton.setBackground(new Color(0, 255, 100, 200));
-                Timer resetTimer = new Timer(200, evt -> addButton.setBackground(new Color(0, 255, 100)));
-                resetTimer.setRepeats(false);
-                resetTimer.start();
+                AnimationDriver.getDefault().schedule(200, () -> addButton.setBackground(new Color(0, 255, 100)));
                 
             } catch (Exception ex) {
                 // Create custom cyber-styled error dialog
@@ -1329,44 +1168,16 @@ public class AdvancedDigitalClock extends JFrame {
         removeButton.addActionListener(e -> {
             int selected = alarmList.getSelectedIndex();
             if (selected >= 0) {
-                alarms.remove(selected);
-                listModel.remove(selected);
+                alarmEngine.remove(listModel.remove(selected));
                 updateAlarmStatus();
                 
                 // Visual feedback
                 removeButton.setBackground(new Color(255, 50, 50, 200));
-                Timer resetTimer = new Timer(200, evt -> removeButton.setBackground(new Color(255, 50, 50)));
-                resetTimer.setRepeats(false);
-                resetTimer.start();
+                AnimationDriver.getDefault().schedule(200, () -> removeButton.setBackground(new Color(255, 50, 50)));
             }
         });
         
-        closeButton.addActionListener(e -> {
-            // Stop the animation timer to prevent memory leaks
-            if (mainPanel instanceof JPanel) {
-                Component[] components = mainPanel.getComponents();
-                for (Component comp : components) {
-                    if (comp instanceof JPanel) {
-                        // Stop any running timers in the animated panel
-                        try {
-                            java.lang.reflect.Field[] fields = comp.getClass().getDeclaredFields();
-                            for (java.lang.reflect.Field field : fields) {
-                                if (field.getType() == Timer.class) {
-                                    field.setAccessible(true);
-                                    Timer timer = (Timer) field.get(comp);
-                                    if (timer != null && timer.isRunning()) {
-                                        timer.stop();
-                                    }
-                                }
-                            }
-                        } catch (Exception ignored) {
-                            // Safely ignore reflection errors
-                        }
-                    }
-                }
-            }
-            alarmDialog.dispose();
-        });
+        closeButton.addActionListener(e -> alarmDialog.dispose());
         
         buttonPanel.add(addButton);
         buttonPanel.add(removeButton);
@@ -1384,25 +1195,8 @@ public class AdvancedDigitalClock extends JFrame {
         mainPanel.add(bottomContainer, BorderLayout.SOUTH);
         alarmDialog.add(mainPanel);
         
-        // Set up proper window closing behavior
+        // Disposing the dialog also stops its background animation
         alarmDialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        alarmDialog.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                // Stop animation timer when window is closed
-                try {
-                    java.lang.reflect.Field animationTimerField = mainPanel.getClass().getDeclaredField("animationTimer");
-                    animationTimerField.setAccessible(true);
-                    Timer animationTimer = (Timer) animationTimerField.get(mainPanel);
-                    if (animationTimer != null && animationTimer.isRunning()) {
-                        animationTimer.stop();
-                    }
-                } catch (Exception ignored) {
-                    // Safely ignore reflection errors
-                }
-                alarmDialog.dispose();
-            }
-        });
         
         alarmDialog.setOpacity(0.98f);
         alarmDialog.setVisible(true);
@@ -1458,7 +1252,7 @@ public class AdvancedDigitalClock extends JFrame {
         titlePanel.add(titleLabel, BorderLayout.CENTER);
         
         // Large stopwatch display
-        JLabel displayLabel = new JLabel("00:00:00.000", SwingConstants.CENTER);
+        DigitDisplay displayLabel = new DigitDisplay("00:00:00.000", "00:00:00.000");
         displayLabel.setFont(new Font("Consolas", Font.BOLD, 36));
         displayLabel.setForeground(Color.WHITE);
         displayLabel.setOpaque(true);
@@ -1498,6 +1292,9 @@ public class AdvancedDigitalClock extends JFrame {
         ));
         
         lapTimesModel = new DefaultListModel<>();
+        for (int i = 0; i < stopwatch.getLapCount(); i++) {
+            lapTimesModel.addElement(formatLap(i + 1, stopwatch.getLapTotalNanos(i), stopwatch.getLapSplitNanos(i)));
+        }
         lapTimesList = new JList<>(lapTimesModel);
         lapTimesList.setFont(new Font("Consolas", Font.PLAIN, 14));
         lapTimesList.setBackground(new Color(20, 20, 20));
@@ -1518,11 +1315,11 @@ public class AdvancedDigitalClock extends JFrame {
         closePanel.add(closeButton);
         
         // Event handlers
-        stopwatchStartButton.addActionListener(_ -> startStopwatch(displayLabel));
-        stopwatchStopButton.addActionListener(_ -> stopStopwatch());
-        stopwatchResetButton.addActionListener(_ -> resetStopwatch(displayLabel));
-        stopwatchLapButton.addActionListener(_ -> recordLap());
-        closeButton.addActionListener(_ -> {
+        stopwatchStartButton.addActionListener(e -> startStopwatch());
+        stopwatchStopButton.addActionListener(e -> stopStopwatch());
+        stopwatchResetButton.addActionListener(e -> resetStopwatch());
+        stopwatchLapButton.addActionListener(e -> recordLap());
+        closeButton.addActionListener(e -> {
             stopStopwatch();
             stopwatchDialog.dispose();
         });
@@ -1541,14 +1338,16 @@ public class AdvancedDigitalClock extends JFrame {
         
         stopwatchDialog.add(mainPanel);
         stopwatchDialog.setOpacity(0.98f);
-        stopwatchDialog.setVisible(true);
         
-        // Start updating the display if stopwatch is already running
-        if (stopwatchRunning) {
-            startStopwatchDisplayUpdate(displayLabel);
-        } else {
-            updateStopwatchDisplay(displayLabel);
+        // Show the current elapsed time, and keep updating it if the stopwatch is already running
+        tickDisplays.stopwatchDialogLabel = displayLabel;
+        displayLabel.setText(formatStopwatchTime(stopwatch.getElapsedMillis()));
+        if (stopwatch.isRunning()) {
+            startStopwatchDisplayUpdate();
         }
+        
+        stopwatchDialog.setVisible(true); // Modal - returns once the dialog is closed
+        tickDisplays.stopwatchDialogLabel = null;
     }
     
     /**
@@ -1607,18 +1406,15 @@ public class AdvancedDigitalClock extends JFrame {
     /**
      * Start the stopwatch
      */
-    private void startStopwatch(JLabel displayLabel) {
-        if (!stopwatchRunning) {
-            stopwatchRunning = true;
-            stopwatchStartTime = System.currentTimeMillis() - stopwatchElapsedTime;
-            
+    private void startStopwatch() {
+        if (stopwatch.start()) {
             // Update button states
             stopwatchStartButton.setEnabled(false);
             stopwatchStopButton.setEnabled(true);
             stopwatchLapButton.setEnabled(true);
             
             // Start the display update task
-            startStopwatchDisplayUpdate(displayLabel);
+            startStopwatchDisplayUpdate();
             
             System.out.println("Stopwatch started");
         }
@@ -1628,15 +1424,13 @@ public class AdvancedDigitalClock extends JFrame {
      * Stop the stopwatch
      */
     private void stopStopwatch() {
-        if (stopwatchRunning) {
-            stopwatchRunning = false;
-            stopwatchElapsedTime = System.currentTimeMillis() - stopwatchStartTime;
-            
+        if (stopwatch.stop()) {
             // Cancel the update task
             if (stopwatchTask != null) {
-                stopwatchTask.cancel(true);
+                stopwatchTask.cancel();
                 stopwatchTask = null;
             }
+            updateStopwatchDisplay(); // Show the exact time at which it stopped
             
             // Update button states
             stopwatchStartButton.setEnabled(true);
@@ -1644,18 +1438,16 @@ public class AdvancedDigitalClock extends JFrame {
             stopwatchLapButton.setEnabled(false);
             
             System.out.println("Stopwatch stopped");
+            System.out.println("UI channel " + stopwatchDisplay.getReport());
         }
     }
     
     /**
      * Reset the stopwatch
      */
-    private void resetStopwatch(JLabel displayLabel) {
+    private void resetStopwatch() {
         stopStopwatch(); // Stop if running
-        
-        stopwatchElapsedTime = 0;
-        stopwatchStartTime = 0;
-        lapTimes.clear();
+        stopwatch.reset();
         
         // Clear lap times display
         if (lapTimesModel != null) {
@@ -1663,7 +1455,7 @@ public class AdvancedDigitalClock extends JFrame {
         }
         
         // Update display
-        updateStopwatchDisplay(displayLabel);
+        updateStopwatchDisplay();
         
         // Reset button states
         stopwatchStartButton.setEnabled(true);
@@ -1677,16 +1469,13 @@ public class AdvancedDigitalClock extends JFrame {
      * Record a lap time
      */
     private void recordLap() {
-        if (stopwatchRunning) {
-            long currentTime = System.currentTimeMillis() - stopwatchStartTime;
-            lapTimes.add(currentTime);
+        StopwatchEngine.Lap lap = stopwatch.lap();
+        if (lap != null) {
+            String lapTimeStr = formatStopwatchTime(lap.getTotalNanos() / 1_000_000);
             
             // Add to display list
             if (lapTimesModel != null) {
-                int lapNumber = lapTimes.size();
-                String lapTimeStr = formatStopwatchTime(currentTime);
-                String lapDisplay = String.format("Lap %d: %s", lapNumber, lapTimeStr);
-                lapTimesModel.addElement(lapDisplay);
+                lapTimesModel.addElement(formatLap(lap.getNumber(), lap.getTotalNanos(), lap.getSplitNanos()));
                 
                 // Auto-scroll to the latest lap
                 if (lapTimesList != null) {
@@ -1694,58 +1483,51 @@ public class AdvancedDigitalClock extends JFrame {
                 }
             }
             
-            System.out.println("Lap recorded: " + formatStopwatchTime(currentTime));
+            System.out.println("Lap recorded: " + lapTimeStr);
         }
     }
     
+    /**
+     * Lap list entry: "Lap n: total  (+split)"
+     */
+    private String formatLap(int number, long totalNanos, long splitNanos) {
+        return "Lap " + number + ": " + formatStopwatchTime(totalNanos / 1_000_000)
+            + "  (+" + formatStopwatchTime(splitNanos / 1_000_000) + ")";
+    }
+    
     /**
      * Start the stopwatch display update task
      */
-    private void startStopwatchDisplayUpdate(JLabel displayLabel) {
-        if (executorService != null && !executorService.isShutdown()) {
-            stopwatchTask = executorService.scheduleAtFixedRate(() -> {
-                if (stopwatchRunning) {
-                    updateStopwatchDisplay(displayLabel);
-                }
-            }, 0, 10, TimeUnit.MILLISECONDS); // Update every 10ms for smooth display
+    private void startStopwatchDisplayUpdate() {
+        if (stopwatchTask != null) {
+            stopwatchTask.cancel();
         }
+        // The tick only paces the display; the elapsed time itself comes from the engine
+        stopwatchTask = timeService.subscribe(snapshot -> {
+            if (stopwatch.isRunning()) {
+                updateStopwatchDisplay();
+            }
+        }, 10); // Update every 10ms for smooth display
     }
     
     /**
      * Update the stopwatch display
      */
-    private void updateStopwatchDisplay(JLabel displayLabel) {
-        long currentElapsed;
-        if (stopwatchRunning) {
-            currentElapsed = System.currentTimeMillis() - stopwatchStartTime;
-        } else {
-            currentElapsed = stopwatchElapsedTime;
-        }
-        
-        String timeString = formatStopwatchTime(currentElapsed);
-        
-        SwingUtilities.invokeLater(() -> {
-            if (displayLabel != null) {
-                displayLabel.setText(timeString);
-            }
-            
-            // Also update the main stopwatch label on the main window
-            if (stopwatchLabel != null) {
-                stopwatchLabel.setText(timeString);
-            }
-        });
+    private void updateStopwatchDisplay() {
+        stopwatchDisplay.publish(stopwatch);
+    }
+    
+    private void applyStopwatchDisplay(StopwatchEngine engine) {
+        tickDisplays.applyStopwatch(engine.getElapsedMillis());
     }
     
     /**
-     * Format time in milliseconds to HH:MM:SS.mmm format
+     * Format time in milliseconds to HH:MM:SS.mmm format (for lap text; ticks use TickDisplays)
      */
-    private String formatStopwatchTime(long timeInMillis) {
-        long hours = timeInMillis / 3600000;
-        long minutes = (timeInMillis % 3600000) / 60000;
-        long seconds = (timeInMillis % 60000) / 1000;
-        long millis = timeInMillis % 1000;
-        
-        return String.format("%02d:%02d:%02d.%03d", hours, minutes, seconds, millis);
+    private static String formatStopwatchTime(long timeInMillis) {
+        char[] chars = new char[24];
+        int length = ClockFormatter.writeStopwatch(chars, 0, timeInMillis);
+        return new String(chars, 0, length);
     }
     
     /**
@@ -1904,68 +1686,33 @@ public class AdvancedDigitalClock extends JFrame {
      */
     private void updateAlarmStatus() {
         SwingUtilities.invokeLater(() -> {
-            if (alarms.isEmpty()) {
+            int alarmCount = alarmEngine.getAlarmCount();
+            int activeAlarms = alarmEngine.getEnabledCount();
+            if (alarmCount == 0) {
                 alarmStatusLabel.setText("No alarms set");
                 alarmStatusLabel.setForeground(Color.ORANGE);
+            } else if (activeAlarms == 0) {
+                alarmStatusLabel.setText(alarmCount + " alarm(s) - All disabled");
+                alarmStatusLabel.setForeground(Color.GRAY);
             } else {
-                long activeAlarms = alarms.stream().filter(alarm -> alarm.isEnabled()).count();
-                if (activeAlarms == 0) {
-                    alarmStatusLabel.setText(alarms.size() + " alarm(s) - All disabled");
-                    alarmStatusLabel.setForeground(Color.GRAY);
+                AlarmTime nextAlarm = alarmEngine.getNextAlarm();
+                if (nextAlarm != null) {
+                    alarmStatusLabel.setText("Next: " + nextAlarm.getLabel() + " at " + nextAlarm.getTimeString());
                 } else {
-                    AlarmTime nextAlarm = getNextAlarm();
-                    if (nextAlarm != null) {
-                        alarmStatusLabel.setText("Next: " + nextAlarm.getLabel() + " at " + nextAlarm.getTimeString());
-                        alarmStatusLabel.setForeground(Color.GREEN);
-                    } else {
-                        alarmStatusLabel.setText(activeAlarms + " alarm(s) active");
-                        alarmStatusLabel.setForeground(Color.GREEN);
-                    }
+                    alarmStatusLabel.setText(activeAlarms + " alarm(s) active");
                 }
+                alarmStatusLabel.setForeground(Color.GREEN);
             }
         });
     }
     
     /**
-     * Get the next alarm that will trigger
-     */
-    private AlarmTime getNextAlarm() {
-        LocalTime now = LocalTime.now();
-        return alarms.stream()
-            .filter(AlarmTime::isEnabled)
-            .min((a1, a2) -> {
-                LocalTime t1 = a1.getTime();
-                LocalTime t2 = a2.getTime();
-                
-                // Calculate minutes until each alarm
-                int mins1 = t1.isAfter(now) ? 
-                    (int)java.time.Duration.between(now, t1).toMinutes() :
-                    (int)java.time.Duration.between(now, t1.plusHours(24)).toMinutes();
-                    
-                int mins2 = t2.isAfter(now) ? 
-                    (int)java.time.Duration.between(now, t2).toMinutes() :
-                    (int)java.time.Duration.between(now, t2.plusHours(24)).toMinutes();
-                
-                return Integer.compare(mins1, mins2);
-            })
-            .orElse(null);
-    }
-    
-    /**
-     * Check if any alarms should trigger
+     * Called by the alarm engine exactly once per alarm occurrence
      */
-    private void checkAlarms(ZonedDateTime now) {
-        LocalTime currentTime = now.toLocalTime();
-        LocalTime currentMinute = LocalTime.of(currentTime.getHour(), currentTime.getMinute());
-        
-        for (AlarmTime alarm : alarms) {
-            if (alarm.isEnabled() && alarm.getTime().equals(currentMinute)) {
-                triggerAlarm(alarm);
-                if (!alarm.isRepeating()) {
-                    alarm.setEnabled(false);
-                    updateAlarmStatus();
-                }
-            }
+    private void onAlarm(AlarmTime alarm, Instant fireTime) {
+        triggerAlarm(alarm);
+        if (!alarm.isRepeating()) {
+            updateAlarmStatus(); // The engine has disabled the one-shot alarm
         }
     }
     
@@ -2022,8 +1769,8 @@ public class AdvancedDigitalClock extends JFrame {
             alarmNotification.setVisible(true);
         });
         
-        // Play alarm sound in background
-        executorService.submit(() -> playAlarmSound(alarm.getSoundNumber()));
+        // Starts a preloaded, pooled clip and returns, so the alarm thread is not held up
+        playAlarmSound(alarm.getSoundNumber());
     }
     
     /**
@@ -2036,14 +1783,7 @@ public class AdvancedDigitalClock extends JFrame {
         } catch (Exception e) {
             System.err.println("Error playing alarm sound: " + e.getMessage());
             // Fallback to system beep if sound file fails
-            try {
-                for (int i = 0; i < 3 && isAlarmRinging; i++) {
-                    java.awt.Toolkit.getDefaultToolkit().beep();
-                    Thread.sleep(500);
-                }
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-            }
+            java.awt.Toolkit.getDefaultToolkit().beep();
         }
     }
     
@@ -2060,134 +1800,509 @@ public class AdvancedDigitalClock extends JFrame {
             playAlarmSound();
         }
     }
-
+    
     /**
-     * Inner class to represent an alarm time
+     * Button UI painting a rounded vertical gradient with a border and a shine effect
      */
-    private static class AlarmTime {
-        private LocalTime time;
-        private String label;
-        private boolean enabled;
-        private boolean repeating;
-        private int soundNumber; // Sound number (1-8) for alarm sound selection
+    static class GradientButtonUI extends BasicButtonUI {
+        private final Color topColor;
+        private final Color bottomColor;
         
-        public AlarmTime(LocalTime time, String label, boolean enabled, boolean repeating) {
-            this.time = time;
-            this.label = label;
-            this.enabled = enabled;
-            this.repeating = repeating;
-            this.soundNumber = 1; // Default to alarm1.wav
+        GradientButtonUI(Color topColor, Color bottomColor) {
+            this.topColor = topColor;
+            this.bottomColor = bottomColor;
         }
         
-        public AlarmTime(LocalTime time, String label, boolean enabled, boolean repeating, int soundNumber) {
-            this.time = time;
-            this.label = label;
-            this.enabled = enabled;
-            this.repeating = repeating;
-            this.soundNumber = (soundNumber >= 1 && soundNumber <= 8) ? soundNumber : 1; // Validate sound number
+        @Override
+        public void paint(Graphics g, JComponent c) {
+            Graphics2D g2d = (Graphics2D) g.create();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            
+            int w = c.getWidth();
+            int h = c.getHeight();
+            
+            // Create gradient paint
+            GradientPaint gp = new GradientPaint(
+                0, 0, topColor,
+                0, h, bottomColor);
+            
+            g2d.setPaint(gp);
+            g2d.fillRoundRect(0, 0, w, h, 12, 12);
+            
+            // Draw border
+            g2d.setColor(bottomColor.darker());
+            g2d.setStroke(new BasicStroke(2));
+            g2d.drawRoundRect(0, 0, w - 1, h - 1, 12, 12);
+            
+            // Add shine effect
+            g2d.setColor(new Color(255, 255, 255, 50));
+            g2d.fillRoundRect(2, 2, w - 4, h / 2 - 2, 10, 10);
+            
+            g2d.dispose();
+            
+            super.paint(g, c);
+        }
+    }
+    
+    /**
+     * Main time display with advanced pulsing glow animation.
+     * The text glow is one DigitGlowAtlas image per text and glow step, the other text layers
+     * are composited from DigitAtlas images, and new text only repaints.
+     */
+    static class GlowTimeLabel extends DigitDisplay {
+        private static final float GLOW_SPEED = 0.6f; // Intensity change per second
+        private static final int ARC = 20;
+        
+        // The background, glowing border and scan lines depend only on the glow intensity and
+        // the size, so they are pre-rendered once per glow level. Levels are 1/60 of intensity
+        // apart, the resolution of the border and scan line alphas, so those stay exact and the
+        // background alpha is off by less than one unit.
+        private static final int GLOW_LEVELS = 61;
+        
+        // Every layer is uniform along x except within EDGE pixels of the rounded ends, so the
+        // background sprite holds both ends and one middle column that is stretched to the width
+        private static final int EDGE = ARC;
+        
+        private AnimationDriver.Registration glowAnimation; // null while the glow is stopped
+        private float glowIntensity = 0.0f;
+        private boolean glowIncreasing = true;
+        
+        // Sprites for the current size and HiDPI scale, rendered lazily per glow level
+        private final Image[] backgroundSprites = new Image[GLOW_LEVELS]; // Ends and middle column of background and border
+        private final Image[] scanLineSprites = new Image[GLOW_LEVELS];   // One column of scan lines
+        private int spriteWidth;
+        private int spriteHeight;
+        private double spriteScale;
+        
+        // Text layers as atlas images, re-rendered when the text, font or scale changes;
+        // the highlight is then one image blit with its alpha as composite alpha
+        private static final Color OUTER_GLOW_COLOR = new Color(0, 255, 127);
+        private static final Color INNER_GLOW_COLOR = new Color(100, 255, 200);
+        private static final int MAIN_TEXT = 0;
+        private static final int HIGHLIGHT = 1;
+        private final DigitAtlas[] layerAtlases = new DigitAtlas[2];
+        private final BufferedImage[] layerLines = new BufferedImage[2];
+        private final StringBuilder layerText = new StringBuilder(); // Text the layer lines show
+        
+        // Outer and inner text glow as one image, re-rendered when the text, glow step, font or
+        // scale changes; the glow step changes about every other frame while the glow pulses
+        private DigitGlowAtlas glowAtlas;
+        private BufferedImage glowLine;
+        private final StringBuilder glowText = new StringBuilder(); // Text the glow line shows
+        private int glowStep = -1;
+        private Font gradientFont;
+        private LinearGradientPaint textGradient; // Relative to the baseline origin
+        
+        GlowTimeLabel(String text) {
+            super(text, "88:88:88");
         }
         
-        public LocalTime getTime() { return time; }
-        public String getLabel() { return label; }
-        public boolean isEnabled() { return enabled; }
-        public boolean isRepeating() { return repeating; }
-        public int getSoundNumber() { return soundNumber; }
+        /**
+         * Pulse with the shared animation driver (which skips it while the window is hidden)
+         */
+        void startGlow() {
+            if (glowAnimation == null || !glowAnimation.isActive()) {
+                glowAnimation = AnimationDriver.getDefault().register(this, this::advanceGlow);
+            }
+        }
         
-        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        /**
+         * One 50 ms step of the pulsing glow animation
+         */
+        void advanceGlow() {
+            advanceGlow(0.05);
+        }
         
-        public String getTimeString() {
-            return String.format("%02d:%02d", time.getHour(), time.getMinute());
+        /**
+         * Advance the pulsing glow animation by the elapsed time
+         */
+        void advanceGlow(double elapsedSeconds) {
+            float step = (float) (GLOW_SPEED * elapsedSeconds);
+            if (glowIncreasing) {
+                glowIntensity += step;
+                if (glowIntensity >= 1.0f) {
+                    glowIntensity = 1.0f;
+                    glowIncreasing = false;
+                }
+            } else {
+                glowIntensity -= step;
+                if (glowIntensity <= 0.3f) {
+                    glowIntensity = 0.3f;
+                    glowIncreasing = true;
+                }
+            }
+            repaint();
         }
         
-        @Override
-        public String toString() {
-            return String.format("%s - %s %s%s", 
-                getTimeString(), 
-                label, 
-                enabled ? "[ON]" : "[OFF]",
-                repeating ? " (Repeat)" : "");
+        /**
+         * Stop the glow animation; the glow stays at its current intensity
+         */
+        void stopGlow() {
+            if (glowAnimation != null) {
+                glowAnimation.cancel();
+                glowAnimation = null;
+            }
         }
-    }
-    
-    /**
-     * Main clock update task - runs every second
-     */
-    private class ClockTask implements Runnable {
+        
+        /**
+         * Discard the cached sprites so they are re-rendered on the next paint
+         */
+        void invalidateSprites() {
+            for (int i = 0; i < GLOW_LEVELS; i++) {
+                if (backgroundSprites[i] != null) {
+                    backgroundSprites[i].flush();
+                    backgroundSprites[i] = null;
+                }
+                if (scanLineSprites[i] != null) {
+                    scanLineSprites[i].flush();
+                    scanLineSprites[i] = null;
+                }
+            }
+        }
+        
         @Override
-        public void run() {
-            while (isRunning && !Thread.currentThread().isInterrupted()) {
-                if (!isPaused) {
-                    try {
-                        ZonedDateTime now = ZonedDateTime.now(); // Uses system default time zone
-                        String timeStr = AdvancedDigitalClock.this.formatTime(now);
-                        String dateStr = AdvancedDigitalClock.this.formatDate(now);
-
-                        SwingUtilities.invokeLater(() -> {
-                            if (digitalClockLabel != null) digitalClockLabel.setText(timeStr);
-                            if (dateLabel != null) dateLabel.setText(dateStr);
-                            if (analogClockPanel != null) analogClockPanel.repaint();
-                        });
-                        
-                        // Check for alarms
-                        checkAlarms(now);
-                        Thread.sleep(1000); 
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt(); // Preserve interrupt status
-                        System.out.println("ClockTask interrupted during sleep or pause wait");
-                        break; 
-                    } catch (Exception e) {
-                        System.err.println("Error in ClockTask: " + e.getMessage());
-                        e.printStackTrace(); 
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2d = (Graphics2D) g;
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            
+            // Pre-rendered rounded background with animated gradient and glowing borders
+            int level = (int)(glowIntensity * (GLOW_LEVELS - 1));
+            validateSprites(g2d);
+            if (backgroundSprites[level] == null) {
+                renderSprites(level);
+            }
+            // The sprites are drawn 1:1 or stretched along uniform rows: no interpolation needed
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            drawBackgroundSprite(g2d, backgroundSprites[level]);
+            
+            // Create advanced text glow effect with multiple layers
+            CharSequence text = getTextView();
+            g2d.setFont(getFont());
+            FontMetrics fm = g2d.getFontMetrics();
+            int x = (getWidth() - textWidth(fm)) / 2;
+            int y = (getHeight() + fm.getAscent()) / 2;
+            boolean atlasText = DigitAtlas.canDraw(g2d) && DigitAtlas.supports(text);
+            if (atlasText) {
+                prepareTextLayers(g2d, text, fm);
+            }
+            Composite composite = g2d.getComposite();
+            
+            if (atlasText) {
+                // Outer and inner glow, pre-composited for this text and glow step
+                prepareGlowLine(g2d, text);
+                glowAtlas.drawLine(g2d, glowLine, x, y);
+            } else {
+                // Outer glow with animation
+                int glowRadius = (int)(15 * glowIntensity);
+                for (int i = glowRadius; i > 0; i--) {
+                    int alpha = Math.max(0, (int)(30 * glowIntensity) - (i * 2));
+                    for (int dx = -1; dx <= 1; dx++) {
+                        for (int dy = -1; dy <= 1; dy++) {
+                            if (dx != 0 || dy != 0) {
+                                drawTextPass(g2d, OUTER_GLOW_COLOR, alpha, text, x + (dx * i), y + (dy * i));
+                            }
+                        }
                     }
-                } else {
-                    // If paused, sleep for a short duration to make the loop non-blocking
-                    try {
-                        Thread.sleep(200); // Check pause state periodically
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        System.out.println("ClockTask interrupted during pause");
-                        break;
+                }
+                
+                // Inner glow for depth
+                for (int i = 3; i > 0; i--) {
+                    int alpha = (int)(80 * glowIntensity);
+                    drawTextPass(g2d, INNER_GLOW_COLOR, alpha, text, x + i, y);
+                    drawTextPass(g2d, INNER_GLOW_COLOR, alpha, text, x - i, y);
+                    drawTextPass(g2d, INNER_GLOW_COLOR, alpha, text, x, y + i);
+                    drawTextPass(g2d, INNER_GLOW_COLOR, alpha, text, x, y - i);
+                }
+            }
+            
+            // Pre-rendered holographic scan lines for cyber effect
+            g2d.drawImage(scanLineSprites[level], 0, 0, getWidth(), getHeight(), null);
+            
+            // Main text with enhanced gradient and glow
+            if (atlasText) {
+                layerAtlases[MAIN_TEXT].drawLine(g2d, layerLines[MAIN_TEXT], x, y);
+            } else {
+                g2d.translate(x, y);
+                g2d.setPaint(getTextGradient(fm));
+                g2d.drawString(getText(), 0, 0);
+                g2d.translate(-x, -y);
+            }
+            
+            // Additional high-tech digital artifacts
+            if (Math.random() < 0.05) { // Occasionally show digital artifacts
+                g2d.setColor(new Color(0, 255, 255, 180));
+                int glitchX = (int)(Math.random() * getWidth());
+                int glitchWidth = (int)(Math.random() * 20) + 5;
+                int glitchHeight = (int)(Math.random() * 3) + 1;
+                g2d.fillRect(glitchX, (int)(Math.random() * getHeight()), 
+                            glitchWidth, glitchHeight);
+            }
+            
+            // Highlight effect on top with animated glow
+            drawTextLayer(g2d, atlasText, HIGHLIGHT, Color.WHITE, (int)(120 * glowIntensity), text, x, y - 1);
+            g2d.setComposite(composite);
+        }
+        
+        /**
+         * Draw one pass of a text layer in its color with the given alpha, from the atlas
+         * image (alpha applied as composite) or with drawString
+         */
+        private void drawTextLayer(Graphics2D g2d, boolean atlasText, int layer, Color color, int alpha,
+                                   CharSequence text, int x, int y) {
+            if (alpha <= 0) {
+                return; // Fully transparent pass
+            }
+            if (atlasText) {
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha / 255f));
+                layerAtlases[layer].drawLine(g2d, layerLines[layer], x, y);
+            } else {
+                drawTextPass(g2d, color, alpha, text, x, y);
+            }
+        }
+        
+        /**
+         * Draw one pass of text in the color with the given alpha using drawString
+         */
+        private void drawTextPass(Graphics2D g2d, Color color, int alpha, CharSequence text, int x, int y) {
+            if (alpha <= 0) {
+                return; // Fully transparent pass
+            }
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha));
+            g2d.drawString(text.toString(), x, y);
+        }
+        
+        /**
+         * Render the text of each layer from its atlas, unless text, font and scale are unchanged
+         */
+        private void prepareTextLayers(Graphics2D g2d, CharSequence text, FontMetrics fm) {
+            Font font = getFont();
+            DigitAtlas main = DigitAtlas.get(font, getTextGradient(fm), g2d);
+            DigitAtlas highlight = DigitAtlas.get(font, Color.WHITE, g2d);
+            if (CharSequence.compare(text, layerText) == 0
+                    && layerAtlases[MAIN_TEXT] == main && layerAtlases[HIGHLIGHT] == highlight) {
+                return;
+            }
+            layerAtlases[MAIN_TEXT] = main;
+            layerAtlases[HIGHLIGHT] = highlight;
+            for (int i = 0; i < layerLines.length; i++) {
+                layerLines[i] = layerAtlases[i].renderLine(text, layerLines[i]);
+            }
+            layerText.setLength(0);
+            layerText.append(text);
+        }
+        
+        /**
+         * Render the glow line from the glow atlas, unless text, glow step, font and scale are unchanged
+         */
+        private void prepareGlowLine(Graphics2D g2d, CharSequence text) {
+            DigitGlowAtlas atlas = DigitGlowAtlas.get(getFont(), OUTER_GLOW_COLOR, INNER_GLOW_COLOR, g2d);
+            int step = DigitGlowAtlas.step(glowIntensity);
+            if (CharSequence.compare(text, glowText) == 0 && glowStep == step && glowAtlas == atlas) {
+                return;
+            }
+            glowAtlas = atlas;
+            glowStep = step;
+            glowLine = atlas.renderLine(text, step, glowLine);
+            glowText.setLength(0);
+            glowText.append(text);
+        }
+        
+        /**
+         * Metallic gradient for the main text, from the top of the line to the baseline.
+         * Kept per font so the gradient atlas is found again in the atlas cache.
+         */
+        private LinearGradientPaint getTextGradient(FontMetrics fm) {
+            if (textGradient == null || !fm.getFont().equals(gradientFont)) {
+                textGradient = new LinearGradientPaint(
+                    0, -fm.getHeight(),
+                    0, 0,
+                    new float[]{0.0f, 0.3f, 0.7f, 1.0f},
+                    new Color[]{
+                        new Color(200, 255, 200), // Top: lighter cyan-green
+                        new Color(0, 255, 200),   // Upper mid: bright cyan
+                        new Color(0, 220, 180),   // Lower mid: medium cyan
+                        new Color(0, 180, 160)    // Bottom: deeper cyan
                     }
+                );
+                gradientFont = fm.getFont();
+            }
+            return textGradient;
+        }
+        
+        /**
+         * Drop the sprites if the size or the HiDPI scale changed since they were rendered
+         */
+        private void validateSprites(Graphics2D g2d) {
+            double scale = g2d.getTransform().getScaleX();
+            if (spriteWidth != getWidth() || spriteHeight != getHeight() || spriteScale != scale) {
+                invalidateSprites();
+                spriteWidth = getWidth();
+                spriteHeight = getHeight();
+                spriteScale = scale;
+            }
+        }
+        
+        /**
+         * Draw the ends of the background sprite at the label's ends and stretch its middle column
+         */
+        private void drawBackgroundSprite(Graphics2D g2d, Image sprite) {
+            int width = getWidth();
+            int height = getHeight();
+            if (width <= 2 * EDGE + 1) {
+                g2d.drawImage(sprite, 0, 0, width, height, null); // Narrow label: the sprite is the full width
+                return;
+            }
+            int imageWidth = sprite.getWidth(null);
+            int imageHeight = sprite.getHeight(null);
+            int edge = (int) Math.round(EDGE * spriteScale);
+            g2d.drawImage(sprite, 0, 0, EDGE, height, 0, 0, edge, imageHeight, null);
+            g2d.drawImage(sprite, EDGE, 0, width - EDGE, height, edge, 0, edge + 1, imageHeight, null);
+            g2d.drawImage(sprite, width - EDGE, 0, width, height, imageWidth - edge, 0, imageWidth, imageHeight, null);
+        }
+        
+        /**
+         * Render the background and scan line sprites of one glow level at device resolution
+         */
+        private void renderSprites(int level) {
+            float intensity = (float) level / (GLOW_LEVELS - 1);
+            int width = Math.min(spriteWidth, 2 * EDGE + 1);
+            int height = spriteHeight;
+            double scale = spriteScale;
+            
+            BufferedImage background = createSprite((int) Math.ceil(width * scale), (int) Math.ceil(height * scale));
+            Graphics2D layer = background.createGraphics();
+            Stroke stroke = layer.getStroke();
+            try {
+                layer.scale(scale, scale);
+                layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                layer.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                
+                float bgOpacity = 0.8f + (intensity * 0.2f);
+                Color bg1 = new Color(25, 25, 60, (int)(180 * bgOpacity));
+                Color bg2 = new Color(15, 15, 40, (int)(220 * bgOpacity));
+                layer.setPaint(new GradientPaint(0, 0, bg1, 0, height, bg2));
+                layer.fillRoundRect(0, 0, width, height, ARC, ARC);
+                
+                // Multiple glowing borders with different intensities
+                for (int i = 0; i < 3; i++) {
+                    int alpha = level - (i * 15); // (int)(60 * intensity) - (i * 15)
+                    if (alpha > 0) {
+                        stroke = new BasicStroke(2 + i);
+                        layer.setColor(new Color(0, 255, 127, alpha));
+                        layer.setStroke(stroke);
+                        layer.drawRoundRect(i, i, width-(2*i)-1, height-(2*i)-1, ARC-i, ARC-i);
+                    }
+                }
+            } finally {
+                layer.dispose();
+            }
+            
+            // Scan lines are uniform along x, so one device pixel column stretched to the width
+            // reproduces them. They keep the stroke the border loop ended with, as before.
+            BufferedImage scanLines = createSprite(1, (int) Math.ceil(height * scale));
+            layer = scanLines.createGraphics();
+            try {
+                layer.scale(scale, scale);
+                layer.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                layer.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                layer.setStroke(stroke);
+                for (int i = 0; i < height; i += 3) {
+                    int alpha = 10 + level / 12;              // 10 + (int)(5 * intensity)
+                    if (i % 6 == 0) alpha = 25 + level / 6;   // 25 + (int)(10 * intensity)
+                    layer.setColor(new Color(0, 255, 200, alpha));
+                    layer.drawLine(-8, i, 8, i); // Extend past the column so it sees no line caps
                 }
+            } finally {
+                layer.dispose();
             }
-            System.out.println("ClockTask terminated");
+            
+            backgroundSprites[level] = background;
+            scanLineSprites[level] = scanLines;
+        }
+        
+        private BufferedImage createSprite(int width, int height) {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            return gc != null
+                ? gc.createCompatibleImage(Math.max(1, width), Math.max(1, height), Transparency.TRANSLUCENT)
+                : new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB_PRE);
         }
     }
-
+    
     /**
-     * High-frequency millisecond update task
+     * Main clock update task - receives the TimeService snapshot at every second boundary
      */
-    private class MillisecondTask implements Runnable {
+    private class ClockTask implements TimeService.Subscriber {
         @Override
-        public void run() {
-            while (isRunning && !Thread.currentThread().isInterrupted()) {
-                if (!isPaused) {
-                    try {
-                        ZonedDateTime now = ZonedDateTime.now(); // Uses system default time zone
-                        String millisecondStr = AdvancedDigitalClock.this.formatMillisecond(now);
-                        SwingUtilities.invokeLater(() -> {
-                            if (millisecondLabel != null) millisecondLabel.setText(millisecondStr);
-                        });
-                        Thread.sleep(50); 
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        System.out.println("MillisecondTask interrupted during sleep or pause wait");
-                        break;
-                    } catch (Exception e) {
-                        System.err.println("Error in MillisecondTask: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                } else {
-                    try {
-                        Thread.sleep(200); 
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        System.out.println("MillisecondTask interrupted during pause");
-                        break;
-                    }
-                }
+        public void onTime(TimeService.Snapshot snapshot) {
+            if (!lifecycle.isRunning()) return; // A tick racing with pause or stop
+            
+            clockDisplay.publish(snapshot);
+        }
+    }
+    
+    /**
+     * Apply the newest clock snapshot to the digital, date and analog displays (EDT)
+     */
+    private void applyClockDisplay(TimeService.Snapshot snapshot) {
+        if (!lifecycle.isRunning()) return; // Stopped or paused after the snapshot was published
+        
+        ZonedDateTime now = snapshot.getLocal();
+        if (worldClockGrid != null && worldClockGrid.getLocalZone() != null
+                && !worldClockGrid.getLocalZone().equals(now.getZone())) {
+            worldClockDisplay.publish(snapshot); // System zone changed - refresh the time differences now
+        }
+        tickDisplays.applyClock(now);
+    }
+    
+    /**
+     * The displays a clock or stopwatch tick updates, and the buffers their text is written
+     * to, so a tick creates no Strings. Displays not (yet) created are null and skipped.
+     * Package-private so TickAllocationCheck runs this code headless, where the frame
+     * itself cannot be created. EDT only.
+     */
+    static final class TickDisplays {
+        private final ClockFormatter formatter;
+        private final char[] timeChars = new char[ClockFormatter.TIME_LENGTH];
+        private final char[] stopwatchChars = new char[24];
+        GlowTimeLabel timeLabel;
+        JLabel dateLabel;
+        ClockPanel analogClock;
+        DigitDisplay stopwatchLabel;
+        DigitDisplay stopwatchDialogLabel; // Display label of the open stopwatch dialog
+        
+        TickDisplays(ClockFormatter formatter) {
+            this.formatter = formatter;
+        }
+        
+        /**
+         * Show the local time of a clock tick on the digital, date and analog displays
+         */
+        void applyClock(ZonedDateTime now) {
+            if (timeLabel != null) {
+                int length = ClockFormatter.writeTime(timeChars, 0, now.getHour(), now.getMinute(), now.getSecond());
+                timeLabel.setText(timeChars, 0, length);
+            }
+            if (dateLabel != null) {
+                dateLabel.setText(formatter.date(now)); // Cached until the local date changes
+            }
+            if (analogClock != null) {
+                analogClock.setTime(now.getHour(), now.getMinute(), now.getSecond());
+            }
+        }
+        
+        /**
+         * Show the elapsed time of a stopwatch tick on the dialog's and the main window's display
+         */
+        void applyStopwatch(long elapsedMillis) {
+            int length = ClockFormatter.writeStopwatch(stopwatchChars, 0, elapsedMillis);
+            if (stopwatchDialogLabel != null) {
+                stopwatchDialogLabel.setText(stopwatchChars, 0, length);
+            }
+            if (stopwatchLabel != null) {
+                stopwatchLabel.setText(stopwatchChars, 0, length);
             }
-            System.out.println("MillisecondTask terminated");
         }
     }
     
@@ -2196,7 +2311,7 @@ public class AdvancedDigitalClock extends JFrame {
      * Demonstrates graphics programming with threading
      * Enhanced with graphite gray and neon cyan gaming aesthetic
      */
-    private class ClockPanel extends JPanel {
+    static class ClockPanel extends JPanel {
         private static final int CLOCK_SIZE = 400;
         
         // Futuristic Gaming color scheme - Graphite Gray & Neon Cyan
@@ -2212,46 +2327,427 @@ public class AdvancedDigitalClock extends JFrame {
         private static final Color BRIGHT_CYAN = new Color(100, 255, 255);           // Bright Cyan
         private static final Color DEEP_GRAPHITE = new Color(20, 20, 20);            // Deep Graphite
         private static final Color SHADOW_COLOR = new Color(0, 0, 0, 100);
+        private static final Color PALE_CYAN = new Color(200, 255, 255);
+        private static final Color BRIGHT_CYAN_GLOW = new Color(100, 255, 255, 200);
+        private static final Color ELECTRIC_BLUE_LIGHT = ELECTRIC_BLUE.brighter();
+        private static final Color ELECTRIC_BLUE_DARK = ELECTRIC_BLUE.darker();
+        private static final Color HOUR_HAND_HIGHLIGHT = new Color(100, 170, 255);
+        private static final Color MINUTE_HAND_SHINE = new Color(100, 200, 255);
+        private static final Color MINUTE_HAND_EDGE = new Color(180, 220, 255);
+        private static final Color MINUTE_COUNTERWEIGHT = new Color(0, 80, 150, 150);
+        private static final Color MINUTE_MARKER_GLOW = new Color(0, 200, 255, 60);
+        
+        private static final String[] ROMAN_NUMBERS = {"XII", "III", "VI", "IX"};
+        
+        // Metallic gradient of the 12, 3, 6 and 9 markers and numbers
+        private static final float[] METALLIC_STOPS = {0.0f, 0.3f, 0.7f, 1.0f};
+        private static final Color[] METALLIC_COLORS = {CYBER_ACCENT, NEON_CYAN, BRIGHT_CYAN, ELECTRIC_BLUE};
+
+        // Gradient stops of the hands and the center core, shared by every frame
+        private static final float[] HOUR_HAND_STOPS = {0.0f, 0.4f, 0.8f, 1.0f};
+        private static final Color[] HOUR_HAND_COLORS = {ELECTRIC_BLUE_LIGHT, ELECTRIC_BLUE, ELECTRIC_BLUE_DARK, CYBER_ACCENT};
+        private static final float[] HOUR_TIP_STOPS = {0.0f, 0.4f, 0.8f, 1.0f};
+        private static final Color[] HOUR_TIP_COLORS = {DialPalette.white(200), BRIGHT_CYAN, NEON_CYAN, CYBER_ACCENT};
+        private static final float[] MINUTE_HAND_STOPS = {0.0f, 0.5f, 1.0f};
+        private static final Color[] MINUTE_HAND_COLORS = {ELECTRIC_BLUE, MINUTE_HAND_SHINE, ELECTRIC_BLUE};
+        private static final float[] SECOND_TIP_STOPS = {0.0f, 0.4f, 0.8f, 1.0f};
+        private static final Color[] SECOND_TIP_COLORS = {DialPalette.white(220), BRIGHT_CYAN, NEON_CYAN, CYBER_ACCENT};
+        private static final float[] CORE_RING_STOPS = {0.0f, 0.3f, 0.7f, 1.0f};
+        private static final Color[] CORE_RING_COLORS = {DialPalette.cyan(200), NEON_CYAN, ELECTRIC_BLUE, GRAPHITE_DARK};
+        private static final float[] CORE_MID_STOPS = {0.0f, 0.4f, 0.8f, 1.0f};
+        private static final Color[] CORE_MID_COLORS = {BRIGHT_CYAN, NEON_CYAN, ELECTRIC_BLUE, GRAPHITE_BACKGROUND};
+        private static final float[] CORE_INNER_STOPS = {0.0f, 0.6f, 1.0f};
+        private static final Color[] CORE_INNER_COLORS = {GRAPHITE_LIGHT, GRAPHITE_BACKGROUND, GRAPHITE_DARK};
+        private static final float[] CORE_DOT_STOPS = {0.0f, 0.5f, 1.0f};
+        private static final Color[] CORE_DOT_COLORS = {DialPalette.white(220), BRIGHT_CYAN, NEON_CYAN};
+        
+        // Frames are rendered off the EDT by the render worker; paintComponent only draws
+        // the newest finished frame. The frame covers the dial and its outer glow.
+        private static final int DIAL_GLOW_EXTENT = 26; // 15 glow rings beyond the 10px bezel rim
+        private final DialRenderWorker<DialFrame> renderWorker;
+        private int frameWidth;     // Panel size and scale of the last requested frame
+        private int frameHeight;
+        private double frameScale;
+        
+        // Offscreen image holding the time-invariant layers (bezel, face, markers, numbers, logo).
+        // Owned by the rendering thread; rebuilt only when the frame bounds, the HiDPI scale or
+        // the look and feel changes.
+        private Image dialLayer;
+        private Rectangle dialLayerBounds;
+        private double dialLayerScale;
+        private volatile boolean dialLayerStale;
+        private DialGeometry geometry; // Tick endpoints for the dial center, owned by the rendering thread
+        
+        // Hand positions of the last displayed time in DialGeometry steps (tenths of a degree from
+        // 12 o'clock), used to repaint only the regions the hands sweep
+        private static final int HOUR_HAND_PAD = 15;   // 16px glow stroke, 4px shadow offset, 13px tip glow
+        private static final int MINUTE_HAND_PAD = 12; // 9px glow stroke, 3px shadow offset, 10px diamond tip
+        private static final int SECOND_HAND_PAD = 12; // 7px shadow stroke, 3px shadow offset, 11px tip glow
+        private boolean hasTime = false;
+        private double hourStep;
+        private double minuteStep;
+        private double secondStep;
+        
+        // Sweep mode: the second hand moves every frame while the clock runs, at the lowest
+        // frame rate that keeps its tip within one pixel per frame
+        private final SweepTiming sweepTiming = new SweepTiming();
+        private AnimationDriver.Registration sweepAnimation;
+        private boolean sweep = false;
+        private boolean live = false; // Time is advancing (not stopped or paused)
+        
+        /**
+         * What one frame shows; a snapshot handed from the EDT to the render worker
+         */
+        private static final class DialFrame {
+            private final int width;
+            private final int height;
+            private final GraphicsConfiguration gc;
+            private final boolean hasTime;
+            private final double hourStep;
+            private final double minuteStep;
+            private final double secondStep;
+            
+            private DialFrame(int width, int height, GraphicsConfiguration gc, boolean hasTime,
+                              double hourStep, double minuteStep, double secondStep) {
+                this.width = width;
+                this.height = height;
+                this.gc = gc;
+                this.hasTime = hasTime;
+                this.hourStep = hourStep;
+                this.minuteStep = minuteStep;
+                this.secondStep = secondStep;
+            }
+        }
+        
+        ClockPanel() {
+            this(false);
+        }
+        
+        /**
+         * @param synchronousRendering render frames on the EDT when they are requested
+         *                             instead of on the render worker thread
+         */
+        ClockPanel(boolean synchronousRendering) {
+            renderWorker = new DialRenderWorker<>("Analog dial renderer", this, this::paintDial, synchronousRendering);
+        }
+        
+        @Override
+        public void updateUI() {
+            super.updateUI();
+            invalidateDialLayer(); // Theme changed - static layers must be redrawn
+            requestFrame(null);
+        }
+        
+        /**
+         * Discard the cached dial layer so it is re-rendered with the next frame
+         */
+        void invalidateDialLayer() {
+            dialLayerStale = true;
+        }
+        
+        /**
+         * Move the hands to the given time, repainting only the union of the
+         * old and new bounds of each hand that actually moved. While sweeping, the
+         * hands follow the sweep clock instead and this only marks the time as advancing.
+         */
+        void setTime(int hours, int minutes, int seconds) {
+            live = true;
+            if (sweep) {
+                if (sweepAnimation == null) {
+                    sweepTo(sweepTiming.secondsOfDay());
+                    updateSweepAnimation();
+                }
+                return;
+            }
+            setSteps((hours % 12) * 300 + minutes * 5, minutes * 60, seconds * 60);
+        }
+        
+        /**
+         * Sweep the hands to the given time (seconds since midnight); the second hand
+         * takes the fractional part
+         */
+        void sweepTo(double secondsOfDay) {
+            long minutes = (long) secondsOfDay / 60;
+            setSteps((minutes / 60 % 12) * 300 + (minutes % 60) * 5, (minutes % 60) * 60, (secondsOfDay % 60) * 60);
+        }
+        
+        private void setSteps(double newHourStep, double newMinuteStep, double newSecondStep) {
+            if (!hasTime) {
+                hourStep = newHourStep;
+                minuteStep = newMinuteStep;
+                secondStep = newSecondStep;
+                hasTime = true;
+                requestFrame(null);
+                return;
+            }
+            
+            int centerX = getWidth() / 2;
+            int centerY = getHeight() / 2;
+            int radius = getRadius();
+            
+            Rectangle dirty = null;
+            if (newHourStep != hourStep) {
+                dirty = union(dirty, handBounds(centerX, centerY, hourStep, radius - 80, 35, HOUR_HAND_PAD));
+                dirty = union(dirty, handBounds(centerX, centerY, newHourStep, radius - 80, 35, HOUR_HAND_PAD));
+                hourStep = newHourStep;
+            }
+            if (newMinuteStep != minuteStep) {
+                dirty = union(dirty, handBounds(centerX, centerY, minuteStep, radius - 45, 25, MINUTE_HAND_PAD));
+                dirty = union(dirty, handBounds(centerX, centerY, newMinuteStep, radius - 45, 25, MINUTE_HAND_PAD));
+                minuteStep = newMinuteStep;
+            }
+            if (newSecondStep != secondStep) {
+                // A sweeping tip that has not reached another pixel needs no repaint
+                int length = radius - 30;
+                if (dirty != null || (int) (length * DialGeometry.cos(newSecondStep)) != (int) (length * DialGeometry.cos(secondStep))
+                        || (int) (length * DialGeometry.sin(newSecondStep)) != (int) (length * DialGeometry.sin(secondStep))) {
+                    dirty = union(dirty, handBounds(centerX, centerY, secondStep, length, 0, SECOND_HAND_PAD));
+                    dirty = union(dirty, handBounds(centerX, centerY, newSecondStep, length, 0, SECOND_HAND_PAD));
+                }
+                secondStep = newSecondStep;
+            }
+            
+            if (dirty != null) {
+                requestFrame(dirty);
+            }
+        }
+        
+        /**
+         * Keep the hands where they are (clock paused)
+         */
+        void holdTime() {
+            live = false;
+            updateSweepAnimation();
+        }
+        
+        /**
+         * Remove the hands (clock stopped)
+         */
+        void clearTime() {
+            hasTime = false;
+            live = false;
+            updateSweepAnimation();
+            requestFrame(null);
+        }
+        
+        boolean isSweep() {
+            return sweep;
+        }
+        
+        /**
+         * Sweep the second hand smoothly instead of ticking it once a second
+         */
+        void setSweep(boolean sweep) {
+            if (this.sweep == sweep) {
+                return;
+            }
+            this.sweep = sweep;
+            sweepTiming.reset();
+            if (!sweep && hasTime) {
+                // Back on a whole second until the next tick
+                setSteps(hourStep, minuteStep, Math.floor(secondStep / DialGeometry.STEPS_PER_TICK) * DialGeometry.STEPS_PER_TICK);
+            }
+            updateSweepAnimation();
+        }
+        
+        /**
+         * Frame rate of the sweep at the current size and screen scale
+         */
+        int getSweepFrameRate() {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            double scale = gc != null ? gc.getDefaultTransform().getScaleX() : 1;
+            return SweepTiming.frameRate((getRadius() - 30) * scale);
+        }
+        
+        private void updateSweepAnimation() {
+            boolean animate = sweep && hasTime && live;
+            if (animate && sweepAnimation == null) {
+                sweepAnimation = AnimationDriver.getDefault().register(this, elapsedSeconds -> {
+                    int frameRate = getSweepFrameRate();
+                    if (frameRate != sweepAnimation.getFrameRate()) {
+                        sweepAnimation.setFrameRate(frameRate); // Resized or moved to another screen
+                    }
+                    sweepTo(sweepTiming.secondsOfDay());
+                });
+                sweepAnimation.setFrameRate(getSweepFrameRate());
+            } else if (!animate && sweepAnimation != null) {
+                sweepAnimation.cancel();
+                sweepAnimation = null;
+            }
+        }
+        
+        private int getRadius() {
+            return Math.min(CLOCK_SIZE / 2, Math.min(getWidth() / 2, getHeight() / 2) - 15);
+        }
+        
+        /**
+         * Frames requested, rendered and shown by the render worker
+         */
+        String getRenderReport() {
+            return renderWorker.getReport();
+        }
+        
+        /**
+         * Stop the render worker thread (application exit)
+         */
+        void closeRenderer() {
+            renderWorker.close();
+        }
+        
+        /**
+         * Bounding box of a hand from its counterbalance to its tip, grown by its glow and shadow
+         */
+        private Rectangle handBounds(int centerX, int centerY, double step, int length, int counterLength, int pad) {
+            double cos = DialGeometry.cos(step);
+            double sin = DialGeometry.sin(step);
+            int tipX = centerX + (int) (length * cos);
+            int tipY = centerY + (int) (length * sin);
+            int tailX = centerX - (int) (counterLength * cos);
+            int tailY = centerY - (int) (counterLength * sin);
+            
+            int minX = Math.min(tipX, tailX);
+            int minY = Math.min(tipY, tailY);
+            int maxX = Math.max(tipX, tailX);
+            int maxY = Math.max(tipY, tailY);
+            return new Rectangle(minX - pad, minY - pad, maxX - minX + 2 * pad + 1, maxY - minY + 2 * pad + 1);
+        }
+        
+        private Rectangle union(Rectangle dirty, Rectangle bounds) {
+            return dirty == null ? bounds : dirty.union(bounds);
+        }
+        
+        /**
+         * Ask the render worker for a frame of the current state
+         * @param dirty region that changed, or null to repaint the whole dial
+         */
+        private void requestFrame(Rectangle dirty) {
+            if (renderWorker == null) {
+                return; // updateUI from the JPanel constructor
+            }
+            int width = getWidth();
+            int height = getHeight();
+            if (width <= 0 || height <= 0) {
+                return; // Not laid out yet - the first paint requests the frame
+            }
+            if (width != frameWidth || height != frameHeight || frameScale == 0) {
+                GraphicsConfiguration gc = getGraphicsConfiguration();
+                frameWidth = width;
+                frameHeight = height;
+                frameScale = gc != null ? gc.getDefaultTransform().getScaleX() : 1;
+                dirty = null;
+            }
+            
+            int extent = getRadius() + DIAL_GLOW_EXTENT;
+            Rectangle bounds = new Rectangle(width / 2 - extent, height / 2 - extent, extent * 2, extent * 2)
+                .intersection(new Rectangle(0, 0, width, height));
+            DialFrame frame = new DialFrame(width, height, getGraphicsConfiguration(), hasTime,
+                hourStep, minuteStep, secondStep);
+            renderWorker.request(frame, bounds, frameScale, frame.gc, dirty);
+        }
         
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
-            Graphics2D g2d = (Graphics2D) g;
             
+            double scale = ((Graphics2D) g).getTransform().getScaleX();
+            if (getWidth() != frameWidth || getHeight() != frameHeight || scale != frameScale) {
+                // Resized or moved to a screen with another scale
+                frameWidth = getWidth();
+                frameHeight = getHeight();
+                frameScale = scale;
+                requestFrame(null);
+            }
+            
+            // The newest finished frame, rendered off the EDT; until the first one is ready
+            // (or while a resized one renders) the previous frame or nothing is shown
+            renderWorker.paint(g);
+        }
+        
+        /**
+         * Render one frame of the dial; runs on the render worker thread and uses only the
+         * frame snapshot and the dial layer
+         */
+        private void paintDial(Graphics2D g2d, DialFrame frame) {
             // Enable high-quality rendering for futuristic finish
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
-            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            applyRenderingHints(g2d);
             
-            int width = getWidth();
-            int height = getHeight();
-            int centerX = width / 2;
-            int centerY = height / 2;
+            int centerX = frame.width / 2;
+            int centerY = frame.height / 2;
             int radius = Math.min(CLOCK_SIZE / 2, Math.min(centerX, centerY) - 15);
+            geometry = DialGeometry.at(geometry, centerX, centerY);
             
-            // Draw futuristic gaming-style watch
-            drawCyberBezel(g2d, centerX, centerY, radius);
-            drawCyberDialFace(g2d, centerX, centerY, radius);
-            drawCyberHourMarkers(g2d, centerX, centerY, radius);
-            drawCyberNumbers(g2d, centerX, centerY, radius);
-            drawCyberLogo(g2d, centerX, centerY, radius);
+            // Draw futuristic gaming-style watch from the cached static layer
+            Rectangle bounds = g2d.getClipBounds();
+            g2d.drawImage(getDialLayer(g2d, frame, bounds), bounds.x, bounds.y, bounds.width, bounds.height, null);
             
-            // Draw hands only if clock is running
-            if (isRunning) {
-                drawCyberHands(g2d, centerX, centerY, radius);
+            // Draw hands only while a time is set (cleared when the clock stops)
+            if (frame.hasTime) {
+                drawCyberHands(g2d, centerX, centerY, radius, frame.hourStep, frame.minuteStep, frame.secondStep);
             }
             
             // Draw center core
             drawCyberCenter(g2d, centerX, centerY);
         }
         
+        private void applyRenderingHints(Graphics2D g2d) {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        }
+        
+        /**
+         * Return the cached static dial layer covering the frame bounds, rendering it first
+         * if the bounds or scale changed. The image is rendered at device resolution so it
+         * stays sharp on HiDPI screens.
+         */
+        private Image getDialLayer(Graphics2D g2d, DialFrame frame, Rectangle bounds) {
+            double scale = g2d.getTransform().getScaleX();
+            if (dialLayer != null && !dialLayerStale && bounds.equals(dialLayerBounds) && dialLayerScale == scale) {
+                return dialLayer;
+            }
+            
+            dialLayerStale = false;
+            if (dialLayer != null) {
+                dialLayer.flush();
+            }
+            int imageWidth = Math.max(1, (int) Math.ceil(bounds.width * scale));
+            int imageHeight = Math.max(1, (int) Math.ceil(bounds.height * scale));
+            GraphicsConfiguration gc = frame.gc;
+            BufferedImage image = gc != null
+                ? gc.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT)
+                : new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            
+            Graphics2D layer = image.createGraphics();
+            try {
+                layer.scale(scale, scale);
+                layer.translate(-bounds.x, -bounds.y);
+                applyRenderingHints(layer);
+                
+                int centerX = frame.width / 2;
+                int centerY = frame.height / 2;
+                int radius = Math.min(CLOCK_SIZE / 2, Math.min(centerX, centerY) - 15);
+                
+                drawCyberBezel(layer, centerX, centerY, radius);
+                drawCyberDialFace(layer, centerX, centerY, radius);
+                drawCyberHourMarkers(layer, centerX, centerY, radius);
+                drawCyberNumbers(layer, centerX, centerY, radius);
+                drawCyberLogo(layer, centerX, centerY, radius);
+            } finally {
+                layer.dispose();
+            }
+            
+            dialLayer = image;
+            dialLayerBounds = bounds;
+            dialLayerScale = scale;
+            return dialLayer;
+        }
         
         private void drawCyberBezel(Graphics2D g2d, int centerX, int centerY, int radius) {
             // Draw outer cyber glow shadow with multiple layers for depth
             for (int i = 15; i >= 0; i--) {
                 int alpha = (int) (30 - (i * 2));
-                g2d.setColor(new Color(0, 255, 255, alpha));
+                g2d.setColor(DialPalette.cyan(alpha));
                 g2d.fillOval(centerX - radius - 10 - i, centerY - radius - 10 - i, 
                            (radius + 10 + i) * 2, (radius + 10 + i) * 2);
             }
@@ -2282,25 +2778,19 @@ public class AdvancedDigitalClock extends JFrame {
                        45, 90);
             
             // Draw neon cyan bezel markings with enhanced glow
-            g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-            for (int i = 0; i < 60; i++) {
-                double angle = Math.toRadians(i * 6);
-                
+            DialGeometry.Ring outer = geometry.ring(radius + 3);
+            DialGeometry.Ring inner = geometry.ring(radius - 3);
+            for (int tick = 0; tick < DialGeometry.TICKS; tick++) {
                 // Create glow effect for each marking
                 for (int glow = 3; glow >= 0; glow--) {
-                    if (i % 5 == 0) {
-                        g2d.setColor(new Color(0, 255, 255, 120 - (glow * 30)));
-                        g2d.setStroke(new BasicStroke(2 + glow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    if (tick % 5 == 0) {
+                        g2d.setColor(DialPalette.cyan(120 - (glow * 30)));
+                        g2d.setStroke(DialPalette.round(2 + glow));
                     } else {
-                        g2d.setColor(new Color(0, 255, 255, 80 - (glow * 20)));
-                        g2d.setStroke(new BasicStroke(1 + glow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                        g2d.setColor(DialPalette.cyan(80 - (glow * 20)));
+                        g2d.setStroke(DialPalette.round(1 + glow));
                     }
-                    
-                    int x1 = centerX + (int) ((radius + 3) * Math.cos(angle));
-                    int y1 = centerY + (int) ((radius + 3) * Math.sin(angle));
-                    int x2 = centerX + (int) ((radius - 3) * Math.cos(angle));
-                    int y2 = centerY + (int) ((radius - 3) * Math.sin(angle));
-                    g2d.drawLine(x1, y1, x2, y2);
+                    g2d.drawLine(outer.x(tick), outer.y(tick), inner.x(tick), inner.y(tick));
                 }
             }
         }
@@ -2335,143 +2825,132 @@ public class AdvancedDigitalClock extends JFrame {
             g2d.setPaint(glassHighlight);
             g2d.fillOval(centerX - radius + 20, centerY - radius + 20, (radius - 20) * 2, (radius - 20) * 2);
             
-            // Enhanced cyber circuit pattern with depth
-            g2d.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            // Enhanced cyber circuit pattern with depth: a line every 12 degrees, from 3 o'clock
+            DialGeometry.Ring hub = geometry.ring(35);
+            DialGeometry.Ring rim = geometry.ring(radius - 25);
+            g2d.setStroke(DialPalette.round(1.5f));
             for (int i = 0; i < 360; i += 12) {
-                double angle = Math.toRadians(i);
+                int tick = (i / 6 + 15) % DialGeometry.TICKS;
                 
                 // Circuit shadow for depth
-                g2d.setColor(new Color(0, 0, 0, 80));
-                int sx1 = centerX + (int) (35 * Math.cos(angle)) + 1;
-                int sy1 = centerY + (int) (35 * Math.sin(angle)) + 1;
-                int sx2 = centerX + (int) ((radius - 25) * Math.cos(angle)) + 1;
-                int sy2 = centerY + (int) ((radius - 25) * Math.sin(angle)) + 1;
-                g2d.drawLine(sx1, sy1, sx2, sy2);
+                g2d.setColor(DialPalette.black(80));
+                g2d.drawLine(hub.x(tick) + 1, hub.y(tick) + 1, rim.x(tick) + 1, rim.y(tick) + 1);
                 
                 // Main circuit line with varying opacity
-                Color circuitColor = new Color(0, 255, 255, 50 + (i % 3) * 20);
-                g2d.setColor(circuitColor);
-                
-                int x1 = centerX + (int) (35 * Math.cos(angle));
-                int y1 = centerY + (int) (35 * Math.sin(angle));
-                int x2 = centerX + (int) ((radius - 25) * Math.cos(angle));
-                int y2 = centerY + (int) ((radius - 25) * Math.sin(angle));
-                g2d.drawLine(x1, y1, x2, y2);
+                g2d.setColor(DialPalette.cyan(50 + (i % 3) * 20));
+                g2d.drawLine(hub.x(tick), hub.y(tick), rim.x(tick), rim.y(tick));
             }
             
             // Enhanced glowing cyber rings with metallic effect
-            g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(3));
             
             // Outer ring with glow
-            g2d.setColor(new Color(0, 255, 255, 30));
+            g2d.setColor(DialPalette.cyan(30));
             g2d.drawOval(centerX - (radius / 2), centerY - (radius / 2), radius, radius);
             g2d.setColor(NEON_CYAN_GLOW);
-            g2d.setStroke(new BasicStroke(2));
+            g2d.setStroke(DialPalette.plain(2));
             g2d.drawOval(centerX - (radius / 2), centerY - (radius / 2), radius, radius);
             
             // Inner ring with stronger glow
-            g2d.setStroke(new BasicStroke(2.5f));
-            g2d.setColor(new Color(0, 255, 255, 60));
+            g2d.setStroke(DialPalette.plain(2.5f));
+            g2d.setColor(DialPalette.cyan(60));
             g2d.drawOval(centerX - (radius / 3), centerY - (radius / 3), (radius / 3) * 2, (radius / 3) * 2);
             g2d.setColor(BRIGHT_CYAN);
-            g2d.setStroke(new BasicStroke(1.5f));
+            g2d.setStroke(DialPalette.plain(1.5f));
             g2d.drawOval(centerX - (radius / 3), centerY - (radius / 3), (radius / 3) * 2, (radius / 3) * 2);
         }
         
         private void drawCyberHourMarkers(Graphics2D g2d, int centerX, int centerY, int radius) {
+            DialGeometry.Ring majorOuter = geometry.ring(radius - 30);
+            DialGeometry.Ring majorInner = geometry.ring(radius - 50);
+            DialGeometry.Ring hourOuter = geometry.ring(radius - 25);
+            DialGeometry.Ring hourInner = geometry.ring(radius - 40);
+            
             // Draw premium futuristic neon hour markers with metallic texture
             for (int i = 1; i <= 12; i++) {
-                double angle = Math.toRadians(i * 30 - 90);
+                int tick = i % 12 * 5;
                 
                 if (i % 3 == 0) {
                     // Draw enhanced metallic rectangular markers for 12, 3, 6, 9
                     int markerLength = 20;
                     int markerWidth = 6;
                     
-                    int x1 = centerX + (int) ((radius - 30) * Math.cos(angle));
-                    int y1 = centerY + (int) ((radius - 30) * Math.sin(angle));
-                    int x2 = centerX + (int) ((radius - 50) * Math.cos(angle));
-                    int y2 = centerY + (int) ((radius - 50) * Math.sin(angle));
+                    int x1 = majorOuter.x(tick);
+                    int y1 = majorOuter.y(tick);
+                    int x2 = majorInner.x(tick);
+                    int y2 = majorInner.y(tick);
                     
                     // Drop shadow for depth
-                    g2d.setColor(new Color(0, 0, 0, 120));
-                    g2d.setStroke(new BasicStroke(markerWidth + 2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setColor(DialPalette.black(120));
+                    g2d.setStroke(DialPalette.round(markerWidth + 2));
                     g2d.drawLine(x1 + 2, y1 + 2, x2 + 2, y2 + 2);
                     
                     // Metallic base with gradient effect
                     LinearGradientPaint metallicGradient = new LinearGradientPaint(
-                        x1, y1, x2, y2,
-                        new float[]{0.0f, 0.3f, 0.7f, 1.0f},
-                        new Color[]{
-                            CYBER_ACCENT,
-                            NEON_CYAN,
-                            BRIGHT_CYAN,
-                            ELECTRIC_BLUE
-                        }
-                    );
+                        x1, y1, x2, y2, METALLIC_STOPS, METALLIC_COLORS);
                     g2d.setPaint(metallicGradient);
-                    g2d.setStroke(new BasicStroke(markerWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(markerWidth));
                     g2d.drawLine(x1, y1, x2, y2);
                     
                     // Bright neon glow effect (multiple layers)
                     for (int glow = 8; glow >= 0; glow -= 2) {
-                        g2d.setColor(new Color(0, 255, 255, 80 - (glow * 10)));
-                        g2d.setStroke(new BasicStroke(markerWidth + glow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                        g2d.setColor(DialPalette.cyan(80 - (glow * 10)));
+                        g2d.setStroke(DialPalette.round(markerWidth + glow));
                         g2d.drawLine(x1, y1, x2, y2);
                     }
                     
                     // Final bright highlight
                     g2d.setColor(BRIGHT_CYAN);
-                    g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(2));
                     g2d.drawLine(x1, y1, x2, y2);
                     
                 } else {
                     // Enhanced smaller cyan markers for other hours
-                    int x1 = centerX + (int) ((radius - 25) * Math.cos(angle));
-                    int y1 = centerY + (int) ((radius - 25) * Math.sin(angle));
-                    int x2 = centerX + (int) ((radius - 40) * Math.cos(angle));
-                    int y2 = centerY + (int) ((radius - 40) * Math.sin(angle));
+                    int x1 = hourOuter.x(tick);
+                    int y1 = hourOuter.y(tick);
+                    int x2 = hourInner.x(tick);
+                    int y2 = hourInner.y(tick);
                     
                     // Shadow for depth
-                    g2d.setColor(new Color(0, 0, 0, 100));
-                    g2d.setStroke(new BasicStroke(5, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setColor(DialPalette.black(100));
+                    g2d.setStroke(DialPalette.round(5));
                     g2d.drawLine(x1 + 1, y1 + 1, x2 + 1, y2 + 1);
                     
                     // Main marker with metallic appearance
                     g2d.setColor(NEON_CYAN);
-                    g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(4));
                     g2d.drawLine(x1, y1, x2, y2);
                     
                     // Glow effect
                     g2d.setColor(NEON_CYAN_GLOW);
-                    g2d.setStroke(new BasicStroke(7, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(7));
                     g2d.drawLine(x1, y1, x2, y2);
                     
                     // Bright highlight core
                     g2d.setColor(BRIGHT_CYAN);
-                    g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(2));
                     g2d.drawLine(x1, y1, x2, y2);
                 }
             }
             
             // Enhanced cyber minute markers with better visibility
-            g2d.setStroke(new BasicStroke(1.5f));
-            for (int i = 0; i < 60; i++) {
-                if (i % 5 != 0) {
-                    double angle = Math.toRadians(i * 6 - 90);
-                    int x1 = centerX + (int) ((radius - 20) * Math.cos(angle));
-                    int y1 = centerY + (int) ((radius - 20) * Math.sin(angle));
-                    int x2 = centerX + (int) ((radius - 28) * Math.cos(angle));
-                    int y2 = centerY + (int) ((radius - 28) * Math.sin(angle));
+            DialGeometry.Ring minuteOuter = geometry.ring(radius - 20);
+            DialGeometry.Ring minuteInner = geometry.ring(radius - 28);
+            for (int tick = 0; tick < DialGeometry.TICKS; tick++) {
+                if (tick % 5 != 0) {
+                    int x1 = minuteOuter.x(tick);
+                    int y1 = minuteOuter.y(tick);
+                    int x2 = minuteInner.x(tick);
+                    int y2 = minuteInner.y(tick);
                     
                     // Subtle glow for minute markers
-                    g2d.setColor(new Color(0, 200, 255, 60));
-                    g2d.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setColor(MINUTE_MARKER_GLOW);
+                    g2d.setStroke(DialPalette.round(2.5f));
                     g2d.drawLine(x1, y1, x2, y2);
                     
                     // Main minute marker
                     g2d.setColor(CYBER_ACCENT);
-                    g2d.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                    g2d.setStroke(DialPalette.round(1.5f));
                     g2d.drawLine(x1, y1, x2, y2);
                 }
             }
@@ -2479,18 +2958,16 @@ public class AdvancedDigitalClock extends JFrame {
         
         private void drawCyberNumbers(Graphics2D g2d, int centerX, int centerY, int radius) {
             // Draw premium futuristic neon cyan numbers with enhanced effects
-            g2d.setFont(new Font("Impact", Font.BOLD, 22));
+            g2d.setFont(DialPalette.CYBER_NUMBERS);
             FontMetrics fm = g2d.getFontMetrics();
+            DialGeometry.Ring numberRing = geometry.ring(radius - 70);
             
-            String[] numbers = {"XII", "III", "VI", "IX"};
-            int[] positions = {12, 3, 6, 9};
-            
-            for (int i = 0; i < 4; i++) {
-                double angle = Math.toRadians(positions[i] * 30 - 90);
-                int x = centerX + (int) ((radius - 70) * Math.cos(angle));
-                int y = centerY + (int) ((radius - 70) * Math.sin(angle));
+            for (int i = 0; i < ROMAN_NUMBERS.length; i++) {
+                int tick = i * 15; // 12, 3, 6 and 9 o'clock
+                int x = numberRing.x(tick);
+                int y = numberRing.y(tick);
                 
-                String number = numbers[i];
+                String number = ROMAN_NUMBERS[i];
                 int stringWidth = fm.stringWidth(number);
                 int stringHeight = fm.getAscent();
                 
@@ -2500,14 +2977,14 @@ public class AdvancedDigitalClock extends JFrame {
                 // Multiple layer drop shadow for premium depth effect
                 for (int shadow = 5; shadow >= 1; shadow--) {
                     int shadowAlpha = 20 + (shadow * 15);
-                    g2d.setColor(new Color(0, 0, 0, shadowAlpha));
+                    g2d.setColor(DialPalette.black(shadowAlpha));
                     g2d.drawString(number, textX + shadow, textY + shadow);
                 }
                 
                 // Outer glow ring (largest)
                 for (int ring = 6; ring >= 0; ring--) {
                     int glowAlpha = 15 + (ring * 8);
-                    g2d.setColor(new Color(0, 255, 255, glowAlpha));
+                    g2d.setColor(DialPalette.cyan(glowAlpha));
                     for (int dx = -ring; dx <= ring; dx++) {
                         for (int dy = -ring; dy <= ring; dy++) {
                             if (dx * dx + dy * dy <= ring * ring) {
@@ -2519,42 +2996,34 @@ public class AdvancedDigitalClock extends JFrame {
                 
                 // Metallic base layer with gradient effect
                 LinearGradientPaint metallicText = new LinearGradientPaint(
-                    textX, textY - stringHeight/2, textX, textY + stringHeight/2,
-                    new float[]{0.0f, 0.3f, 0.7f, 1.0f},
-                    new Color[]{
-                        CYBER_ACCENT,
-                        NEON_CYAN,
-                        BRIGHT_CYAN,
-                        ELECTRIC_BLUE
-                    }
-                );
+                    textX, textY - stringHeight/2, textX, textY + stringHeight/2, METALLIC_STOPS, METALLIC_COLORS);
                 g2d.setPaint(metallicText);
                 g2d.drawString(number, textX, textY);
                 
                 // Inner bright glow
-                g2d.setColor(new Color(100, 255, 255, 200));
+                g2d.setColor(BRIGHT_CYAN_GLOW);
                 g2d.drawString(number, textX, textY);
                 
                 // Final bright highlight core
-                g2d.setColor(new Color(200, 255, 255, 255));
+                g2d.setColor(PALE_CYAN);
                 g2d.drawString(number, textX, textY);
                 
                 // Add premium glass reflection effect on top edge
-                g2d.setColor(new Color(255, 255, 255, 120));
-                g2d.setFont(new Font("Impact", Font.BOLD, 20));
+                g2d.setColor(DialPalette.white(120));
+                g2d.setFont(DialPalette.CYBER_NUMBERS_REFLECTION);
                 FontMetrics fmSmall = g2d.getFontMetrics();
                 int smallWidth = fmSmall.stringWidth(number);
                 g2d.drawString(number, x - smallWidth / 2, y + fmSmall.getAscent() / 2 - 2);
                 
                 // Reset font
-                g2d.setFont(new Font("Impact", Font.BOLD, 22));
+                g2d.setFont(DialPalette.CYBER_NUMBERS);
             }
         }
         
         private void drawCyberLogo(Graphics2D g2d, int centerX, int centerY, int radius) {
             // Draw futuristic gaming logo at 12 o'clock position
             g2d.setColor(ELECTRIC_BLUE);
-            g2d.setFont(new Font("Impact", Font.BOLD, 14));
+            g2d.setFont(DialPalette.CYBER_SYMBOL);
             FontMetrics fm = g2d.getFontMetrics();
             
             // Cyber gaming symbol (diamond with circuit)
@@ -2563,7 +3032,7 @@ public class AdvancedDigitalClock extends JFrame {
             g2d.drawString(cyberSymbol, centerX - symbolWidth / 2, centerY - radius / 3);
             
             // Brand text with neon effect
-            g2d.setFont(new Font("Impact", Font.BOLD, 11));
+            g2d.setFont(DialPalette.CYBER_BRAND);
             fm = g2d.getFontMetrics();
             
             String brand = "CYBER";
@@ -2572,7 +3041,7 @@ public class AdvancedDigitalClock extends JFrame {
             g2d.drawString(brand, centerX - brandWidth / 2, centerY - radius / 3 + 18);
             
             String model = "GAMING CHRONOGRAPH";
-            g2d.setFont(new Font("Impact", Font.PLAIN, 9));
+            g2d.setFont(DialPalette.CYBER_MODEL);
             fm = g2d.getFontMetrics();
             int modelWidth = fm.stringWidth(model);
             g2d.setColor(ELECTRIC_BLUE);
@@ -2584,246 +3053,221 @@ public class AdvancedDigitalClock extends JFrame {
             g2d.drawString(tech, centerX - techWidth / 2, centerY + radius / 3 + 5);
         }
         
-        private void drawCyberHands(Graphics2D g2d, int centerX, int centerY, int radius) {
-            // Get current time in the system's default time zone
-            ZonedDateTime now = ZonedDateTime.now(); // MODIFIED HERE
-            int hours = now.getHour() % 12;
-            int minutes = now.getMinute();
-            int seconds = now.getSecond();
-            
-            // Calculate angles
-            double hourAngle = Math.toRadians(((hours % 12) * 30 + minutes * 0.5) - 90);
-            double minuteAngle = Math.toRadians((minutes * 6) - 90);
-            double secondAngle = Math.toRadians((seconds * 6) - 90);
+        private void drawCyberHands(Graphics2D g2d, int centerX, int centerY, int radius,
+                                    double hourStep, double minuteStep, double secondStep) {
+            // Positions were computed by setTime() for the displayed time
             
             // Draw hour hand (Electric blue)
-            drawCyberHourHand(g2d, centerX, centerY, hourAngle, radius - 80);
+            drawCyberHourHand(g2d, centerX, centerY, hourStep, radius - 80);
             
             // Draw minute hand (Electric blue)
-            drawCyberMinuteHand(g2d, centerX, centerY, minuteAngle, radius - 45);
+            drawCyberMinuteHand(g2d, centerX, centerY, minuteStep, radius - 45);
             
             // Draw second hand (Neon cyan)
-            drawCyberSecondHand(g2d, centerX, centerY, secondAngle, radius - 30);
+            drawCyberSecondHand(g2d, centerX, centerY, secondStep, radius - 30);
         }
         
-        private void drawCyberHourHand(Graphics2D g2d, int centerX, int centerY, double angle, int length) {
+        private void drawCyberHourHand(Graphics2D g2d, int centerX, int centerY, double step, int length) {
             // Premium electric blue hour hand with enhanced depth and metallic finish
-            int handX = centerX + (int) (length * Math.cos(angle));
-            int handY = centerY + (int) (length * Math.sin(angle));
+            double cos = DialGeometry.cos(step);
+            double sin = DialGeometry.sin(step);
+            int handX = centerX + (int) (length * cos);
+            int handY = centerY + (int) (length * sin);
             
             // Multi-layer drop shadow for premium depth
             for (int shadow = 4; shadow >= 1; shadow--) {
-                g2d.setColor(new Color(0, 0, 0, 60 - (shadow * 10)));
-                g2d.setStroke(new BasicStroke(10 + shadow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g2d.setColor(DialPalette.black(60 - (shadow * 10)));
+                g2d.setStroke(DialPalette.round(10 + shadow));
                 g2d.drawLine(centerX + shadow, centerY + shadow, handX + shadow, handY + shadow);
             }
             
             // Outer glow effect (largest glow layer)
-            g2d.setColor(new Color(0, 119, 255, 40));
-            g2d.setStroke(new BasicStroke(16, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(DialPalette.electricBlue(40));
+            g2d.setStroke(DialPalette.round(16));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Mid glow layer
-            g2d.setColor(new Color(0, 119, 255, 80));
-            g2d.setStroke(new BasicStroke(12, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(DialPalette.electricBlue(80));
+            g2d.setStroke(DialPalette.round(12));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Metallic base with gradient
             LinearGradientPaint handGradient = new LinearGradientPaint(
                 centerX, centerY, handX, handY,
-                new float[]{0.0f, 0.4f, 0.8f, 1.0f},
-                new Color[]{
-                    ELECTRIC_BLUE.brighter(),
-                    ELECTRIC_BLUE,
-                    ELECTRIC_BLUE.darker(),
-                    CYBER_ACCENT
-                }
+                HOUR_HAND_STOPS, HOUR_HAND_COLORS
             );
             g2d.setPaint(handGradient);
-            g2d.setStroke(new BasicStroke(8, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(8));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Inner bright highlight
-            g2d.setColor(new Color(100, 170, 255));
-            g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(HOUR_HAND_HIGHLIGHT);
+            g2d.setStroke(DialPalette.round(4));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Enhanced cyber diamond tip with premium effects
             int[] xPoints = {
                 handX,
-                handX - (int) (12 * Math.cos(angle - Math.PI/4)),
-                handX - (int) (8 * Math.cos(angle)),
-                handX - (int) (12 * Math.cos(angle + Math.PI/4))
+                handX - (int) (12 * DialGeometry.cos(step - 450)),
+                handX - (int) (8 * cos),
+                handX - (int) (12 * DialGeometry.cos(step + 450))
             };
             
             int[] yPoints = {
                 handY,
-                handY - (int) (12 * Math.sin(angle - Math.PI/4)),
-                handY - (int) (8 * Math.sin(angle)),
-                handY - (int) (12 * Math.sin(angle + Math.PI/4))
+                handY - (int) (12 * DialGeometry.sin(step - 450)),
+                handY - (int) (8 * sin),
+                handY - (int) (12 * DialGeometry.sin(step + 450))
             };
             
             // Bright core highlight
-            g2d.setColor(new Color(200, 255, 255));
-            g2d.setStroke(new BasicStroke(1.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(PALE_CYAN);
+            g2d.setStroke(DialPalette.round(1.5f));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Enhanced counterbalance with premium effects
-            int counterX = centerX - (int) (35 * Math.cos(angle));
-            int counterY = centerY - (int) (35 * Math.sin(angle));
+            int counterX = centerX - (int) (35 * cos);
+            int counterY = centerY - (int) (35 * sin);
             
             // Counterbalance shadow
-            g2d.setColor(new Color(0, 0, 0, 80));
-            g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(DialPalette.black(80));
+            g2d.setStroke(DialPalette.round(4));
             g2d.drawLine(centerX + 1, centerY + 1, counterX + 1, counterY + 1);
             
             // Counterbalance glow
-            g2d.setColor(new Color(0, 119, 255, 100));
-            g2d.setStroke(new BasicStroke(6, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(DialPalette.electricBlue(100));
+            g2d.setStroke(DialPalette.round(6));
             g2d.drawLine(centerX, centerY, counterX, counterY);
             
             // Counterbalance main body
             g2d.setColor(ELECTRIC_BLUE);
-            g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(4));
             g2d.drawLine(centerX, centerY, counterX, counterY);
             
             // Premium cyber diamond tip with enhanced effects
             // Multiple glow layers for tip
             for (int glow = 8; glow >= 0; glow -= 2) {
                 int glowAlpha = 120 - (glow * 15);
-                g2d.setColor(new Color(0, 255, 255, glowAlpha));
+                g2d.setColor(DialPalette.cyan(glowAlpha));
                 g2d.fillOval(handX - (5 + glow), handY - (5 + glow), (10 + glow * 2), (10 + glow * 2));
             }
             
             // Main tip with radial gradient
             RadialGradientPaint tipGradient = new RadialGradientPaint(
                 handX, handY, 5,
-                new float[]{0.0f, 0.4f, 0.8f, 1.0f},
-                new Color[]{
-                    new Color(255, 255, 255, 200),
-                    BRIGHT_CYAN,
-                    NEON_CYAN,
-                    CYBER_ACCENT
-                }
+                HOUR_TIP_STOPS, HOUR_TIP_COLORS
             );
             g2d.setPaint(tipGradient);
             g2d.fillOval(handX - 5, handY - 5, 10, 10);
             
             // Bright white core
-            g2d.setColor(new Color(255, 255, 255, 220));
+            g2d.setColor(DialPalette.white(220));
             g2d.fillOval(handX - 2, handY - 2, 4, 4);
             
             // Outer highlight ring
             g2d.setColor(BRIGHT_CYAN);
-            g2d.setStroke(new BasicStroke(1.5f));
+            g2d.setStroke(DialPalette.plain(1.5f));
             g2d.drawOval(handX - 5, handY - 5, 10, 10);
         }
         
-        private void drawCyberMinuteHand(Graphics2D g2d, int centerX, int centerY, double angle, int length) {
+        private void drawCyberMinuteHand(Graphics2D g2d, int centerX, int centerY, double step, int length) {
             // Premium electric blue minute hand with enhanced depth and metallic finish
-            int handX = centerX + (int) (length * Math.cos(angle));
-            int handY = centerY + (int) (length * Math.sin(angle));
+            double cos = DialGeometry.cos(step);
+            double sin = DialGeometry.sin(step);
+            int handX = centerX + (int) (length * cos);
+            int handY = centerY + (int) (length * sin);
             
             // Multi-layer drop shadow for premium depth
             for (int shadow = 3; shadow >= 1; shadow--) {
-                g2d.setColor(new Color(0, 0, 0, 50 - (shadow * 10)));
-                g2d.setStroke(new BasicStroke(8 + shadow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g2d.setColor(DialPalette.black(50 - (shadow * 10)));
+                g2d.setStroke(DialPalette.round(8 + shadow));
                 g2d.drawLine(centerX + shadow, centerY + shadow, handX + shadow, handY + shadow);
             }
             
             // Create premium metallic gradient for hand
             LinearGradientPaint gradient = new LinearGradientPaint(
                 centerX, centerY, handX, handY,
-                new float[]{0.0f, 0.5f, 1.0f},
-                new Color[]{
-                    ELECTRIC_BLUE,
-                    new Color(100, 200, 255),
-                    ELECTRIC_BLUE
-                }
+                MINUTE_HAND_STOPS, MINUTE_HAND_COLORS
             );
             
             // Main hand body with premium metallic gradient
             g2d.setPaint(gradient);
-            g2d.setStroke(new BasicStroke(6, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(6));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Enhanced cyber diamond tip
             int[] xPoints = {
                 handX,
-                handX - (int) (10 * Math.cos(angle - Math.PI/4)),
-                handX - (int) (6 * Math.cos(angle)),
-                handX - (int) (10 * Math.cos(angle + Math.PI/4))
+                handX - (int) (10 * DialGeometry.cos(step - 450)),
+                handX - (int) (6 * cos),
+                handX - (int) (10 * DialGeometry.cos(step + 450))
             };
             
             int[] yPoints = {
                 handY,
-                handY - (int) (10 * Math.sin(angle - Math.PI/4)),
-                handY - (int) (6 * Math.sin(angle)),
-                handY - (int) (10 * Math.sin(angle + Math.PI/4))
+                handY - (int) (10 * DialGeometry.sin(step - 450)),
+                handY - (int) (6 * sin),
+                handY - (int) (10 * DialGeometry.sin(step + 450))
             };
             
             g2d.setColor(ELECTRIC_BLUE);
             g2d.fillPolygon(xPoints, yPoints, 4);
             
             // Edge highlight for premium look
-            g2d.setColor(new Color(180, 220, 255));
-            g2d.setStroke(new BasicStroke(1, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(MINUTE_HAND_EDGE);
+            g2d.setStroke(DialPalette.round(1));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Enhanced counterbalance with premium effects
-            int counterX = centerX - (int) (25 * Math.cos(angle));
-            int counterY = centerY - (int) (25 * Math.sin(angle));
+            int counterX = centerX - (int) (25 * cos);
+            int counterY = centerY - (int) (25 * sin);
             
-            g2d.setColor(new Color(0, 80, 150, 150));
-            g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setColor(MINUTE_COUNTERWEIGHT);
+            g2d.setStroke(DialPalette.round(3));
             g2d.drawLine(centerX, centerY, counterX, counterY);
             
             // Add glowing effect
             g2d.setColor(ELECTRIC_BLUE_GLOW);
-            g2d.setStroke(new BasicStroke(9, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(9));
             g2d.drawLine(centerX, centerY, handX, handY);
         }
         
-        private void drawCyberSecondHand(Graphics2D g2d, int centerX, int centerY, double angle, int length) {
+        private void drawCyberSecondHand(Graphics2D g2d, int centerX, int centerY, double step, int length) {
             // Neon cyan second hand with enhanced effects
-            int handX = centerX + (int) (length * Math.cos(angle));
-            int handY = centerY + (int) (length * Math.sin(angle));
+            double cos = DialGeometry.cos(step);
+            double sin = DialGeometry.sin(step);
+            int handX = centerX + (int) (length * cos);
+            int handY = centerY + (int) (length * sin);
             
             // Multi-layer drop shadow for depth
             for (int shadow = 3; shadow >= 1; shadow--) {
-                g2d.setColor(new Color(0, 0, 0, 40 - (shadow * 10)));
-                g2d.setStroke(new BasicStroke(6 + shadow, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+                g2d.setColor(DialPalette.black(40 - (shadow * 10)));
+                g2d.setStroke(DialPalette.round(6 + shadow));
                 g2d.drawLine(centerX + shadow, centerY + shadow, handX + shadow, handY + shadow);
             }
             
             // Main second hand line
             g2d.setColor(NEON_CYAN);
-            g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(4));
             g2d.drawLine(centerX, centerY, handX, handY);
             
             // Enhanced tip with glow
             for (int glow = 8; glow >= 0; glow -= 2) {
                 int glowAlpha = 120 - (glow * 15);
-                g2d.setColor(new Color(0, 255, 255, glowAlpha));
+                g2d.setColor(DialPalette.cyan(glowAlpha));
                 g2d.fillOval(handX - (3 + glow), handY - (3 + glow), (6 + glow * 2), (6 + glow * 2));
             }
             
             // Main tip with radial gradient
             RadialGradientPaint tipGradient = new RadialGradientPaint(
                 handX, handY, 3,
-                new float[]{0.0f, 0.4f, 0.8f, 1.0f},
-                new Color[]{
-                    new Color(255, 255, 255, 220),
-                    BRIGHT_CYAN,
-                    NEON_CYAN,
-                    CYBER_ACCENT
-                }
+                SECOND_TIP_STOPS, SECOND_TIP_COLORS
             );
             g2d.setPaint(tipGradient);
             g2d.fillOval(handX - 3, handY - 3, 6, 6);
             
             // Bright white core
-            g2d.setColor(new Color(255, 255, 255, 255));
+            g2d.setColor(DialPalette.white(255));
             g2d.fillOval(handX - 1, handY - 1, 2, 2);
         }
         
@@ -2832,20 +3276,14 @@ public class AdvancedDigitalClock extends JFrame {
             
             // Multiple layer drop shadow for depth
             for (int shadow = 3; shadow >= 1; shadow--) {
-                g2d.setColor(new Color(0, 0, 0, 40 + (shadow * 20)));
+                g2d.setColor(DialPalette.black(40 + (shadow * 20)));
                 g2d.fillOval(centerX - 18 + shadow, centerY - 18 + shadow, 36, 36);
             }
             
             // Outer energy ring with enhanced gradient
             RadialGradientPaint outerRing = new RadialGradientPaint(
                 centerX, centerY, 18,
-                new float[]{0.0f, 0.3f, 0.7f, 1.0f},
-                new Color[]{
-                    new Color(0, 255, 255, 200),
-                    NEON_CYAN,
-                    ELECTRIC_BLUE,
-                    GRAPHITE_DARK
-                }
+                CORE_RING_STOPS, CORE_RING_COLORS
             );
             g2d.setPaint(outerRing);
             g2d.fillOval(centerX - 18, centerY - 18, 36, 36);
@@ -2853,13 +3291,7 @@ public class AdvancedDigitalClock extends JFrame {
             // Mid energy core with metallic gradient
             RadialGradientPaint midCore = new RadialGradientPaint(
                 centerX, centerY, 12,
-                new float[]{0.0f, 0.4f, 0.8f, 1.0f},
-                new Color[]{
-                    BRIGHT_CYAN,
-                    NEON_CYAN,
-                    ELECTRIC_BLUE,
-                    GRAPHITE_BACKGROUND
-                }
+                CORE_MID_STOPS, CORE_MID_COLORS
             );
             g2d.setPaint(midCore);
             g2d.fillOval(centerX - 12, centerY - 12, 24, 24);
@@ -2867,12 +3299,7 @@ public class AdvancedDigitalClock extends JFrame {
             // Inner graphite core with subtle gradient
             RadialGradientPaint innerCore = new RadialGradientPaint(
                 centerX, centerY, 8,
-                new float[]{0.0f, 0.6f, 1.0f},
-                new Color[]{
-                    GRAPHITE_LIGHT,
-                    GRAPHITE_BACKGROUND,
-                    GRAPHITE_DARK
-                }
+                CORE_INNER_STOPS, CORE_INNER_COLORS
             );
             g2d.setPaint(innerCore);
             g2d.fillOval(centerX - 8, centerY - 8, 16, 16);
@@ -2880,142 +3307,34 @@ public class AdvancedDigitalClock extends JFrame {
             // Central energy dot with pulsing effect
             RadialGradientPaint energyDot = new RadialGradientPaint(
                 centerX, centerY, 4,
-                new float[]{0.0f, 0.5f, 1.0f},
-                new Color[]{
-                    new Color(255, 255, 255, 220),
-                    BRIGHT_CYAN,
-                    NEON_CYAN
-                }
+                CORE_DOT_STOPS, CORE_DOT_COLORS
             );
             g2d.setPaint(energyDot);
             g2d.fillOval(centerX - 4, centerY - 4, 8, 8);
             
             // Multiple highlight rings for premium effect
             g2d.setColor(ELECTRIC_BLUE);
-            g2d.setStroke(new BasicStroke(2.5f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(2.5f));
             g2d.drawOval(centerX - 18, centerY - 18, 36, 36);
             
             g2d.setColor(BRIGHT_CYAN);
-            g2d.setStroke(new BasicStroke(2, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(2));
             g2d.drawOval(centerX - 12, centerY - 12, 24, 24);
             
-            g2d.setColor(new Color(200, 255, 255));
-            g2d.setStroke(new BasicStroke(1.5f));
+            g2d.setColor(PALE_CYAN);
+            g2d.setStroke(DialPalette.plain(1.5f));
             g2d.drawOval(centerX - 8, centerY - 8, 16, 16);
             
             // Add premium glass highlight on top
             GradientPaint glassHighlight = new GradientPaint(
-                centerX, centerY - 18, new Color(255, 255, 255, 100),
-                centerX, centerY - 8, new Color(255, 255, 255, 0)
+                centerX, centerY - 18, DialPalette.white(100),
+                centerX, centerY - 8, DialPalette.white(0)
             );
             g2d.setPaint(glassHighlight);
             g2d.fillArc(centerX - 18, centerY - 18, 36, 36, 45, 90);
         }
     }
     
-    /**
-     * Inner class for displaying individual city clocks in world clock panel
-     */
-    private class CityClockDisplay {
-        private String cityName;
-        private ZoneId zoneId;
-        private JPanel panel;
-        private JLabel cityLabel;
-        private JLabel timeLabel;
-        private JLabel dateLabel;
-        private JLabel diffLabel;
-        
-        public CityClockDisplay(String cityName, ZoneId zoneId) {
-            this.cityName = cityName;
-            this.zoneId = zoneId;
-            createPanel();
-        }
-        
-        private void createPanel() {
-            panel = new JPanel(new BorderLayout(4, 2));
-            panel.setBackground(Color.BLACK);
-            panel.setPreferredSize(new Dimension(155, 130));
-            panel.setBorder(BorderFactory.createLineBorder(new Color(60, 60, 60, 120), 1));
-            
-            // City name at the top
-            cityLabel = new JLabel(cityName, JLabel.CENTER);
-            cityLabel.setForeground(Color.CYAN);
-            cityLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
-            
-            // Time difference below city name - styled as a compact badge
-            diffLabel = new JLabel("", JLabel.CENTER);
-            diffLabel.setForeground(Color.WHITE);
-            diffLabel.setFont(new Font("Segoe UI", Font.BOLD, 10));
-            diffLabel.setOpaque(true);
-            diffLabel.setBackground(new Color(70, 130, 180, 180)); // More transparent steel blue
-            diffLabel.setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(new Color(100, 150, 200, 100), 1),
-                BorderFactory.createEmptyBorder(1, 6, 1, 6)
-            ));
-            diffLabel.setPreferredSize(new Dimension(55, 18));
-            diffLabel.setMaximumSize(new Dimension(55, 18));
-            
-            // Date in the middle
-            dateLabel = new JLabel("", JLabel.CENTER);
-            dateLabel.setForeground(Color.LIGHT_GRAY);
-            dateLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
-            
-            // Time at the bottom
-            timeLabel = new JLabel("", JLabel.CENTER);
-            timeLabel.setForeground(Color.WHITE);
-            timeLabel.setFont(new Font("Segoe UI", Font.BOLD, 22));
-            
-            // Create top panel with city name and time difference badge
-            JPanel topPanel = new JPanel(new BorderLayout());
-            topPanel.setBackground(Color.BLACK);
-            topPanel.add(cityLabel, BorderLayout.CENTER);
-            
-            // Create a wrapper panel to center the difference badge
-            JPanel diffWrapper = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 1));
-            diffWrapper.setBackground(Color.BLACK);
-            diffWrapper.add(diffLabel);
-            topPanel.add(diffWrapper, BorderLayout.SOUTH);
-            
-            panel.add(topPanel, BorderLayout.NORTH);
-            panel.add(dateLabel, BorderLayout.CENTER);
-            panel.add(timeLabel, BorderLayout.SOUTH);
-            
-            update(); // Initialize with current time
-        }
-        
-        public void update() {
-            ZonedDateTime localTime = ZonedDateTime.now();
-            ZonedDateTime cityTime = ZonedDateTime.now(zoneId);
-            
-            // Format the time
-            DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-            timeLabel.setText(cityTime.format(timeFormatter));
-            
-            // Format the date
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("EEEE, dd");
-            dateLabel.setText(cityTime.format(dateFormatter));
-            
-            // Calculate time difference properly using zone offsets
-            int localOffset = localTime.getOffset().getTotalSeconds() / 3600;
-            int cityOffset = cityTime.getOffset().getTotalSeconds() / 3600;
-            long hoursDiff = cityOffset - localOffset;
-            
-            String diffText;
-            if (hoursDiff > 0) {
-                diffText = "+" + hoursDiff + "h";
-            } else if (hoursDiff < 0) {
-                diffText = hoursDiff + "h";
-            } else {
-                diffText = "0h";
-            }
-            diffLabel.setText(diffText);
-        }
-        
-        public JPanel getPanel() {
-            return panel;
-        }
-    }
-    
     // This is a helper method placeholder that has been merged with the other implementation
     
     public static void main(String[] args) {
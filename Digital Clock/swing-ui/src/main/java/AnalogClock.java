@@ -1,7 +1,6 @@
 import javax.swing.*;
 import java.awt.*;
 import java.text.SimpleDateFormat;
-import java.util.Date;
 import java.util.Calendar;
 
 /**
@@ -201,7 +200,7 @@ public class AnalogClock extends JFrame {
         normalModeButton.setForeground(Color.WHITE);
         normalModeButton.setFont(new Font("Arial", Font.BOLD, 10));
         
-        smoothModeButton = new JButton("Smooth (100ms)");
+        smoothModeButton = new JButton("Sweep");
         smoothModeButton.setPreferredSize(new Dimension(100, 25));
         smoothModeButton.setBackground(Color.DARK_GRAY);
         smoothModeButton.setForeground(Color.WHITE);
@@ -304,23 +303,24 @@ public class AnalogClock extends JFrame {
     private void setDisplaySize(DisplaySize size) {
         currentSize = size;
         updateClockSize();
+        statusLabel.setText("Status: " + (isRunning ? "Running" : "Stopped") + " - " + getModeDescription());
     }
     
     /**
      * Setup event handlers for buttons
      */
     private void setupEventHandlers() {
-        startButton.addActionListener(_ -> startClock());
-        stopButton.addActionListener(_ -> stopClock());
-        exitButton.addActionListener(_ -> exitApplication());
+        startButton.addActionListener(e -> startClock());
+        stopButton.addActionListener(e -> stopClock());
+        exitButton.addActionListener(e -> exitApplication());
         
-        normalModeButton.addActionListener(_ -> setUpdateMode(false));
-        smoothModeButton.addActionListener(_ -> setUpdateMode(true));
+        normalModeButton.addActionListener(e -> setUpdateMode(false));
+        smoothModeButton.addActionListener(e -> setUpdateMode(true));
         
-        smallSizeButton.addActionListener(_ -> setDisplaySize(DisplaySize.SMALL));
-        mediumSizeButton.addActionListener(_ -> setDisplaySize(DisplaySize.MEDIUM));
-        largeSizeButton.addActionListener(_ -> setDisplaySize(DisplaySize.LARGE));
-        extraLargeSizeButton.addActionListener(_ -> setDisplaySize(DisplaySize.EXTRA_LARGE));
+        smallSizeButton.addActionListener(e -> setDisplaySize(DisplaySize.SMALL));
+        mediumSizeButton.addActionListener(e -> setDisplaySize(DisplaySize.MEDIUM));
+        largeSizeButton.addActionListener(e -> setDisplaySize(DisplaySize.LARGE));
+        extraLargeSizeButton.addActionListener(e -> setDisplaySize(DisplaySize.EXTRA_LARGE));
     }
     
     /**
@@ -328,15 +328,24 @@ public class AnalogClock extends JFrame {
      */
     private void setUpdateMode(boolean smooth) {
         smoothMode = smooth;
+        clockPanel.setSweep(smooth);
         if (smooth) {
             smoothModeButton.setBackground(Color.BLUE);
             normalModeButton.setBackground(Color.DARK_GRAY);
-            statusLabel.setText("Status: " + (isRunning ? "Running" : "Stopped") + " - Smooth Mode (100ms updates)");
         } else {
             normalModeButton.setBackground(Color.BLUE);
             smoothModeButton.setBackground(Color.DARK_GRAY);
-            statusLabel.setText("Status: " + (isRunning ? "Running" : "Stopped") + " - Normal Mode (1s updates)");
         }
+        statusLabel.setText("Status: " + (isRunning ? "Running" : "Stopped") + " - " + getModeDescription());
+    }
+    
+    /**
+     * The update mode for the status line; a sweep runs at the frame rate its size needs
+     */
+    private String getModeDescription() {
+        return smoothMode
+            ? "Sweep Mode (" + clockPanel.getSweepFrameRate() + " fps)"
+            : "Normal Mode (1s updates)";
     }
     
     /**
@@ -351,8 +360,7 @@ public class AnalogClock extends JFrame {
             startButton.setEnabled(false);
             stopButton.setEnabled(true);
             
-            String mode = smoothMode ? "Smooth Mode (100ms)" : "Normal Mode (1s)";
-            statusLabel.setText("Status: Running - " + mode);
+            statusLabel.setText("Status: Running - " + getModeDescription());
             
             System.out.println("Analog clock thread started: " + clockThread.getName());
         }
@@ -379,9 +387,9 @@ public class AnalogClock extends JFrame {
             startButton.setEnabled(true);
             stopButton.setEnabled(false);
             digitalTimeLabel.setText("--:--:--");
+            clockPanel.clearTime();
             
-            String mode = smoothMode ? "Smooth Mode" : "Normal Mode";
-            statusLabel.setText("Status: Stopped - " + mode);
+            statusLabel.setText("Status: Stopped - " + getModeDescription());
         }
     }
     
@@ -399,7 +407,185 @@ public class AnalogClock extends JFrame {
     /**
      * Custom panel for drawing the analog clock
      */
-    private class ClockPanel extends JPanel {
+    static class ClockPanel extends JPanel {
+        
+        // Extra pixels around each hand line covering stroke width and anti-aliasing
+        private static final int HAND_PAD = 4;
+        
+        private static final String[] HOUR_NUMBERS = {"12", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"};
+        
+        // Last displayed time, used to repaint only the regions the hands sweep
+        private boolean hasTime = false;
+        private double time; // Seconds since midnight; fractional only while sweeping
+        
+        // Sweep mode: the second hand moves every frame, at the lowest frame rate that keeps
+        // its tip within one pixel per frame; the hour and minute hands still step
+        private final SweepTiming sweepTiming = new SweepTiming();
+        private AnimationDriver.Registration sweepAnimation;
+        private boolean sweep = false;
+        
+        // Tick endpoints for the current dial center
+        private DialGeometry geometry;
+        
+        /**
+         * Move the hands to the given time, repainting only the union of the
+         * old and new bounds of each hand that actually moved. While sweeping, the
+         * hands follow the sweep clock instead and this only marks the clock as running.
+         */
+        public void setTime(int newHours, int newMinutes, int newSeconds) {
+            if (sweep) {
+                if (!hasTime) {
+                    moveTo(sweepTiming.secondsOfDay());
+                    updateSweepAnimation();
+                }
+                return;
+            }
+            moveTo(newHours * 3600 + newMinutes * 60 + newSeconds);
+        }
+        
+        /**
+         * Remove the hands (clock stopped)
+         */
+        public void clearTime() {
+            hasTime = false;
+            updateSweepAnimation();
+            repaint();
+        }
+        
+        /**
+         * Sweep the second hand smoothly instead of ticking it once a second
+         */
+        public void setSweep(boolean sweep) {
+            if (this.sweep == sweep) {
+                return;
+            }
+            this.sweep = sweep;
+            sweepTiming.reset();
+            if (hasTime && !sweep) {
+                moveTo(Math.floor(time)); // Back on a whole second until the next tick
+            }
+            updateSweepAnimation();
+        }
+        
+        /**
+         * Frame rate of the sweep at the current size and screen scale
+         */
+        public int getSweepFrameRate() {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            double scale = gc != null ? gc.getDefaultTransform().getScaleX() : 1;
+            return SweepTiming.frameRate(secondHandLength(getRadius()) * scale);
+        }
+        
+        /**
+         * Sweep the hands to the given time (seconds since midnight) and repaint what moved
+         */
+        void sweepTo(double secondsOfDay) {
+            moveTo(secondsOfDay);
+        }
+        
+        private void updateSweepAnimation() {
+            boolean animate = sweep && hasTime;
+            if (animate && sweepAnimation == null) {
+                sweepAnimation = AnimationDriver.getDefault().register(this, elapsedSeconds -> {
+                    int frameRate = getSweepFrameRate();
+                    if (frameRate != sweepAnimation.getFrameRate()) {
+                        sweepAnimation.setFrameRate(frameRate); // Resized or moved to another screen
+                    }
+                    moveTo(sweepTiming.secondsOfDay());
+                });
+                sweepAnimation.setFrameRate(getSweepFrameRate());
+            } else if (!animate && sweepAnimation != null) {
+                sweepAnimation.cancel();
+                sweepAnimation = null;
+            }
+        }
+        
+        private void moveTo(double newTime) {
+            if (!hasTime) {
+                time = newTime;
+                hasTime = true;
+                repaint();
+                return;
+            }
+            if (newTime == time) {
+                return;
+            }
+            
+            int centerX = getWidth() / 2;
+            int centerY = getHeight() / 2;
+            int radius = getRadius();
+            
+            // The minute hand moves every second (minutes * 6 + seconds * 0.1), the hour hand every minute
+            boolean minuteChanged = (long) newTime != (long) time;
+            if (!minuteChanged && secondTip(centerX, centerY, radius, time).equals(secondTip(centerX, centerY, radius, newTime))) {
+                time = newTime; // The sweeping tip has not reached another pixel; nothing to repaint
+                return;
+            }
+            Rectangle dirty = secondHandBounds(centerX, centerY, radius, time)
+                .union(secondHandBounds(centerX, centerY, radius, newTime));
+            if (minuteChanged) {
+                dirty = dirty.union(minuteHandBounds(centerX, centerY, radius, time))
+                             .union(minuteHandBounds(centerX, centerY, radius, newTime));
+            }
+            if ((long) newTime / 60 != (long) time / 60) {
+                dirty = dirty.union(hourHandBounds(centerX, centerY, radius, time))
+                             .union(hourHandBounds(centerX, centerY, radius, newTime));
+            }
+            
+            time = newTime;
+            repaint(dirty);
+        }
+        
+        private int getRadius() {
+            return Math.min(getWidth(), getHeight()) / 2 - 20;
+        }
+        
+        private static int secondHandLength(int radius) {
+            return (int) (radius * 0.8);
+        }
+        
+        // Hand positions in DialGeometry steps (tenths of a degree from 12 o'clock): the hour
+        // hand moves every minute (5 steps), the minute hand every second (1 step)
+        private static int hourStep(double t) {
+            long minutes = (long) t / 60;
+            return (int) ((minutes / 60 % 12) * 300 + (minutes % 60) * 5);
+        }
+        
+        private static int minuteStep(double t) {
+            return (int) ((long) t % 3600);
+        }
+        
+        private static double secondStep(double t) {
+            return (t % 60) * 60; // Fractional only while sweeping
+        }
+        
+        private Rectangle hourHandBounds(int centerX, int centerY, int radius, double t) {
+            return handBounds(centerX, centerY, hourStep(t), radius / 2);
+        }
+        
+        private Rectangle minuteHandBounds(int centerX, int centerY, int radius, double t) {
+            return handBounds(centerX, centerY, minuteStep(t), (int) (radius * 0.7));
+        }
+        
+        private Rectangle secondHandBounds(int centerX, int centerY, int radius, double t) {
+            return handBounds(centerX, centerY, secondStep(t), secondHandLength(radius));
+        }
+        
+        private Point secondTip(int centerX, int centerY, int radius, double t) {
+            double step = secondStep(t);
+            int length = secondHandLength(radius);
+            return new Point(centerX + (int) (length * DialGeometry.cos(step)), centerY + (int) (length * DialGeometry.sin(step)));
+        }
+        
+        private Rectangle handBounds(int centerX, int centerY, double step, int length) {
+            int tipX = centerX + (int) (length * DialGeometry.cos(step));
+            int tipY = centerY + (int) (length * DialGeometry.sin(step));
+            int minX = Math.min(centerX, tipX);
+            int minY = Math.min(centerY, tipY);
+            return new Rectangle(minX - HAND_PAD, minY - HAND_PAD,
+                                 Math.abs(tipX - centerX) + 2 * HAND_PAD + 1,
+                                 Math.abs(tipY - centerY) + 2 * HAND_PAD + 1);
+        }
         
         @Override
         protected void paintComponent(Graphics g) {
@@ -413,7 +599,8 @@ public class AnalogClock extends JFrame {
             int height = getHeight();
             int centerX = width / 2;
             int centerY = height / 2;
-            int radius = Math.min(width, height) / 2 - 20;
+            int radius = getRadius();
+            geometry = DialGeometry.at(geometry, centerX, centerY);
             
             // Draw clock face
             drawClockFace(g2d, centerX, centerY, radius);
@@ -421,14 +608,9 @@ public class AnalogClock extends JFrame {
             // Draw numbers
             drawNumbers(g2d, centerX, centerY, radius);
             
-            // Draw hands if clock is running
-            if (isRunning) {
-                Calendar cal = Calendar.getInstance();
-                int hours = cal.get(Calendar.HOUR);
-                int minutes = cal.get(Calendar.MINUTE);
-                int seconds = cal.get(Calendar.SECOND);
-                
-                drawHands(g2d, centerX, centerY, radius, hours, minutes, seconds);
+            // Draw hands while a time is set (cleared when the clock stops)
+            if (hasTime) {
+                drawHands(g2d, centerX, centerY, radius, time);
             }
             
             // Draw center dot
@@ -448,30 +630,23 @@ public class AnalogClock extends JFrame {
             
             // Draw border
             g2d.setColor(Color.BLACK);
-            g2d.setStroke(new BasicStroke(3));
+            g2d.setStroke(DialPalette.plain(3));
             g2d.drawOval(centerX - radius, centerY - radius, 2 * radius, 2 * radius);
             
             // Draw hour markings
-            g2d.setStroke(new BasicStroke(2));
-            for (int i = 0; i < 12; i++) {
-                double angle = Math.toRadians(i * 30 - 90);
-                int x1 = centerX + (int) ((radius - 15) * Math.cos(angle));
-                int y1 = centerY + (int) ((radius - 15) * Math.sin(angle));
-                int x2 = centerX + (int) ((radius - 5) * Math.cos(angle));
-                int y2 = centerY + (int) ((radius - 5) * Math.sin(angle));
-                g2d.drawLine(x1, y1, x2, y2);
+            DialGeometry.Ring outer = geometry.ring(radius - 5);
+            DialGeometry.Ring hourInner = geometry.ring(radius - 15);
+            g2d.setStroke(DialPalette.plain(2));
+            for (int tick = 0; tick < DialGeometry.TICKS; tick += 5) {
+                g2d.drawLine(hourInner.x(tick), hourInner.y(tick), outer.x(tick), outer.y(tick));
             }
             
             // Draw minute markings
-            g2d.setStroke(new BasicStroke(1));
-            for (int i = 0; i < 60; i++) {
-                if (i % 5 != 0) { // Skip hour markings
-                    double angle = Math.toRadians(i * 6 - 90);
-                    int x1 = centerX + (int) ((radius - 10) * Math.cos(angle));
-                    int y1 = centerY + (int) ((radius - 10) * Math.sin(angle));
-                    int x2 = centerX + (int) ((radius - 5) * Math.cos(angle));
-                    int y2 = centerY + (int) ((radius - 5) * Math.sin(angle));
-                    g2d.drawLine(x1, y1, x2, y2);
+            DialGeometry.Ring minuteInner = geometry.ring(radius - 10);
+            g2d.setStroke(DialPalette.plain(1));
+            for (int tick = 0; tick < DialGeometry.TICKS; tick++) {
+                if (tick % 5 != 0) { // Skip hour markings
+                    g2d.drawLine(minuteInner.x(tick), minuteInner.y(tick), outer.x(tick), outer.y(tick));
                 }
             }
         }
@@ -481,55 +656,52 @@ public class AnalogClock extends JFrame {
          */
         private void drawNumbers(Graphics2D g2d, int centerX, int centerY, int radius) {
             g2d.setColor(NUMBERS_COLOR);
-            g2d.setFont(new Font("Arial", Font.BOLD, 16));
+            g2d.setFont(DialPalette.CLASSIC_NUMBERS);
             FontMetrics fm = g2d.getFontMetrics();
+            DialGeometry.Ring ring = geometry.ring(radius - 30);
             
             for (int i = 1; i <= 12; i++) {
-                double angle = Math.toRadians(i * 30 - 90);
-                int x = centerX + (int) ((radius - 30) * Math.cos(angle));
-                int y = centerY + (int) ((radius - 30) * Math.sin(angle));
-                
-                String number = String.valueOf(i);
+                int tick = i % 12 * 5;
+                String number = HOUR_NUMBERS[i];
                 int stringWidth = fm.stringWidth(number);
                 int stringHeight = fm.getAscent();
                 
-                g2d.drawString(number, x - stringWidth / 2, y + stringHeight / 2);
+                g2d.drawString(number, ring.x(tick) - stringWidth / 2, ring.y(tick) + stringHeight / 2);
             }
         }
         
         /**
          * Draw clock hands
          */
-        private void drawHands(Graphics2D g2d, int centerX, int centerY, int radius, 
-                              int hours, int minutes, int seconds) {
+        private void drawHands(Graphics2D g2d, int centerX, int centerY, int radius, double time) {
             
-            // Calculate angles (0 degrees is at 12 o'clock)
-            double hourAngle = Math.toRadians((hours % 12) * 30 + minutes * 0.5 - 90);
-            double minuteAngle = Math.toRadians(minutes * 6 + seconds * 0.1 - 90);
-            double secondAngle = Math.toRadians(seconds * 6 - 90);
+            // Hand positions in dial steps (0 is 12 o'clock)
+            int hourStep = hourStep(time);
+            int minuteStep = minuteStep(time);
+            double secondStep = secondStep(time);
             
             // Draw hour hand
             g2d.setColor(HOUR_HAND_COLOR);
-            g2d.setStroke(new BasicStroke(4, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(4));
             int hourLength = radius / 2;
-            int hourX = centerX + (int) (hourLength * Math.cos(hourAngle));
-            int hourY = centerY + (int) (hourLength * Math.sin(hourAngle));
+            int hourX = centerX + (int) (hourLength * DialGeometry.cos(hourStep));
+            int hourY = centerY + (int) (hourLength * DialGeometry.sin(hourStep));
             g2d.drawLine(centerX, centerY, hourX, hourY);
             
             // Draw minute hand
             g2d.setColor(MINUTE_HAND_COLOR);
-            g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g2d.setStroke(DialPalette.round(3));
             int minuteLength = (int) (radius * 0.7);
-            int minuteX = centerX + (int) (minuteLength * Math.cos(minuteAngle));
-            int minuteY = centerY + (int) (minuteLength * Math.sin(minuteAngle));
+            int minuteX = centerX + (int) (minuteLength * DialGeometry.cos(minuteStep));
+            int minuteY = centerY + (int) (minuteLength * DialGeometry.sin(minuteStep));
             g2d.drawLine(centerX, centerY, minuteX, minuteY);
             
             // Draw second hand
             g2d.setColor(SECOND_HAND_COLOR);
-            g2d.setStroke(new BasicStroke(1, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-            int secondLength = (int) (radius * 0.8);
-            int secondX = centerX + (int) (secondLength * Math.cos(secondAngle));
-            int secondY = centerY + (int) (secondLength * Math.sin(secondAngle));
+            g2d.setStroke(DialPalette.round(1));
+            int secondLength = secondHandLength(radius);
+            int secondX = centerX + (int) (secondLength * DialGeometry.cos(secondStep));
+            int secondY = centerY + (int) (secondLength * DialGeometry.sin(secondStep));
             g2d.drawLine(centerX, centerY, secondX, secondY);
         }
     }
@@ -553,15 +725,15 @@ public class AnalogClock extends JFrame {
                     // Update digital time display and repaint clock
                     SwingUtilities.invokeLater(() -> {
                         if (isRunning) {
-                            Date now = new Date();
-                            digitalTimeLabel.setText(digitalFormat.format(now));
-                            clockPanel.repaint();
+                            Calendar cal = Calendar.getInstance();
+                            digitalTimeLabel.setText(digitalFormat.format(cal.getTime()));
+                            clockPanel.setTime(cal.get(Calendar.HOUR), cal.get(Calendar.MINUTE),
+                                               cal.get(Calendar.SECOND));
                         }
                     });
                     
-                    // Sleep based on mode
-                    int sleepTime = smoothMode ? 100 : 1000;
-                    Thread.sleep(sleepTime);
+                    // Wait for the next second boundary (drift-free); a sweep animates between ticks
+                    TickScheduler.shared().awaitNextBoundary(1000);
                     
                 } catch (InterruptedException e) {
                     System.out.println("Analog clock thread interrupted: " + e.getMessage());
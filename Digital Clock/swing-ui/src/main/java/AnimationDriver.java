@@ -0,0 +1,309 @@
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.awt.Frame;
+import java.awt.Window;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AnimationDriver class - one Swing Timer driving every animated component.
+ *
+ * Components register an animation step and are ticked together at a shared frame
+ * rate (system property "clock.animation.fps", default 20); a registration may ask for
+ * its own rate instead, and the timer then runs at the fastest rate requested while
+ * slower registrations skip the extra frames. A registration only ticks
+ * while its component is showing and its window (or an owner of it) is not iconified;
+ * these are the changes that hierarchy and window events report. A component scrolled
+ * out of its viewport skips its steps but keeps the timer running, since nothing tells
+ * us when it scrolls back. (AWT cannot tell whether another application covers a
+ * window, so occlusion only counts as far as Swing reports it.) When no registration
+ * can tick and no one-shot action is pending, the timer stops, so a minimized window
+ * no longer wakes the EDT.
+ *
+ * A registration is cancelled automatically when its component stops being displayable,
+ * i.e. when its window is disposed or it is removed from its container.
+ * Must be used on the EDT.
+ */
+public final class AnimationDriver {
+
+    /**
+     * One animation step; elapsedSeconds is the time since the previous step
+     */
+    public interface Animation {
+        void step(double elapsedSeconds);
+    }
+
+    public static final int DEFAULT_FRAME_RATE = 20;
+
+    // After a suspension the first step gets at most this much time, so animations resume smoothly
+    private static final double MAX_STEP_SECONDS = 0.25;
+
+    private static final class Holder {
+        private static final AnimationDriver DEFAULT =
+            new AnimationDriver(Integer.getInteger("clock.animation.fps", DEFAULT_FRAME_RATE));
+    }
+
+    /**
+     * An action run once after a delay
+     */
+    private static final class OneShot {
+        private final long dueNanos;
+        private final Runnable action;
+
+        private OneShot(long dueNanos, Runnable action) {
+            this.dueNanos = dueNanos;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Handle of a registered animation
+     */
+    public final class Registration {
+        private final JComponent component;
+        private final Animation animation;
+        private final HierarchyListener hierarchyListener = this::hierarchyChanged;
+        private final WindowAdapter windowListener = new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) { wake(); }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) { wake(); }
+        };
+        private final List<Window> windows = new ArrayList<>(); // Window of the component and its owners
+        private long lastStepNanos; // 0 while suspended
+        private int frameRate;      // 0 for the driver's rate
+        private boolean active = true;
+
+        private Registration(JComponent component, Animation animation) {
+            this.component = component;
+            this.animation = animation;
+            component.addHierarchyListener(hierarchyListener);
+            bindWindows();
+        }
+
+        /**
+         * Stop ticking this animation and release the listeners
+         */
+        public void cancel() {
+            if (!active) {
+                return;
+            }
+            active = false;
+            component.removeHierarchyListener(hierarchyListener);
+            unbindWindows();
+            registrations.remove(this);
+            updateDelay();
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+        
+        /**
+         * Step this animation at its own frame rate; 0 returns it to the driver's rate
+         */
+        public void setFrameRate(int framesPerSecond) {
+            frameRate = framesPerSecond;
+            updateDelay();
+        }
+        
+        public int getFrameRate() {
+            return frameRate != 0 ? frameRate : AnimationDriver.this.frameRate;
+        }
+
+        private void hierarchyChanged(HierarchyEvent e) {
+            if ((e.getChangeFlags() & HierarchyEvent.DISPLAYABILITY_CHANGED) != 0 && !component.isDisplayable()) {
+                cancel();
+                return;
+            }
+            if ((e.getChangeFlags() & (HierarchyEvent.PARENT_CHANGED | HierarchyEvent.SHOWING_CHANGED)) != 0) {
+                bindWindows();
+                wake();
+            }
+        }
+
+        /**
+         * Listen for iconify events of the window and its owners (a dialog hides with its frame)
+         */
+        private void bindWindows() {
+            unbindWindows();
+            for (Window w = SwingUtilities.getWindowAncestor(component); w != null; w = w.getOwner()) {
+                w.addWindowListener(windowListener);
+                windows.add(w);
+            }
+        }
+
+        private void unbindWindows() {
+            for (Window w : windows) {
+                w.removeWindowListener(windowListener);
+            }
+            windows.clear();
+        }
+
+        /**
+         * Whether the component is showing in a window that is not iconified; a change
+         * of either comes with an event that calls wake()
+         */
+        private boolean canTick() {
+            if (!component.isShowing()) {
+                return false;
+            }
+            for (Window w : windows) {
+                if (w instanceof Frame && (((Frame) w).getExtendedState() & Frame.ICONIFIED) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private final List<OneShot> oneShots = new ArrayList<>();
+    private final Timer timer;
+    private int frameRate;
+    private long tickCount;
+
+    public AnimationDriver(int framesPerSecond) {
+        frameRate = framesPerSecond;
+        timer = new Timer(frameDelay(framesPerSecond), e -> tick());
+    }
+
+    /**
+     * The shared driver used by the clock windows
+     */
+    public static AnimationDriver getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    /**
+     * Tick the animation while the component is visible, until cancelled or disposed
+     */
+    public Registration register(JComponent component, Animation animation) {
+        Registration registration = new Registration(component, animation);
+        registrations.add(registration);
+        wake();
+        return registration;
+    }
+
+    /**
+     * Run the action once on a frame at least delayMillis from now
+     */
+    public void schedule(int delayMillis, Runnable action) {
+        oneShots.add(new OneShot(System.nanoTime() + delayMillis * 1_000_000L, action));
+        wake();
+    }
+
+    public void setFrameRate(int framesPerSecond) {
+        frameRate = framesPerSecond;
+        updateDelay();
+    }
+
+    public int getFrameRate() {
+        return frameRate;
+    }
+
+    /**
+     * Run the timer at the fastest frame rate of the driver and its registrations
+     */
+    private void updateDelay() {
+        int delay = frameDelay(frameRate);
+        for (Registration registration : registrations) {
+            delay = Math.min(delay, frameDelay(registration.getFrameRate()));
+        }
+        timer.setDelay(delay);
+    }
+
+    public int getRegistrationCount() {
+        return registrations.size();
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isTicking() {
+        return timer.isRunning();
+    }
+
+    /**
+     * Start the timer if anything can tick; called whenever visibility may have changed
+     */
+    private void wake() {
+        if (!timer.isRunning() && hasWork()) {
+            timer.start();
+        }
+    }
+
+    private boolean hasWork() {
+        if (!oneShots.isEmpty()) {
+            return true;
+        }
+        for (Registration registration : registrations) {
+            if (registration.canTick()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void tick() {
+        tickCount++;
+        long now = System.nanoTime();
+        boolean ticked = false;
+
+        // Iterate over a copy: steps may register or cancel animations
+        for (Registration registration : registrations.toArray(new Registration[0])) {
+            if (!registration.active) {
+                continue;
+            }
+            if (!registration.canTick()) {
+                registration.lastStepNanos = 0;
+                continue;
+            }
+            ticked = true;
+            if (registration.component.getVisibleRect().isEmpty()) {
+                registration.lastStepNanos = 0; // Scrolled out of view: skip the frame, keep polling
+                continue;
+            }
+            // A registration slower than the timer waits for its own frame (within half a timer period)
+            long frameNanos = frameDelay(registration.getFrameRate()) * 1_000_000L;
+            if (registration.lastStepNanos != 0
+                    && now - registration.lastStepNanos < frameNanos - timer.getDelay() * 500_000L) {
+                continue;
+            }
+            double elapsed = registration.lastStepNanos == 0
+                ? frameNanos / 1e9
+                : Math.min((now - registration.lastStepNanos) / 1e9, MAX_STEP_SECONDS);
+            registration.lastStepNanos = now;
+            try {
+                registration.animation.step(elapsed);
+            } catch (RuntimeException e) {
+                System.err.println("Animation failed and was cancelled: " + e.getMessage());
+                e.printStackTrace();
+                registration.cancel();
+            }
+        }
+
+        if (!oneShots.isEmpty()) {
+            List<OneShot> due = new ArrayList<>();
+            oneShots.removeIf(oneShot -> now - oneShot.dueNanos >= 0 && due.add(oneShot));
+            for (OneShot oneShot : due) {
+                oneShot.action.run();
+            }
+        }
+
+        if (!ticked && oneShots.isEmpty()) {
+            timer.stop(); // Everything is hidden or iconified; wake() restarts us
+        }
+    }
+
+    private static int frameDelay(int framesPerSecond) {
+        return 1000 / Math.max(1, Math.min(framesPerSecond, 1000));
+    }
+}
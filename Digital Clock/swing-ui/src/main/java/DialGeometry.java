@@ -0,0 +1,124 @@
+import java.util.Arrays;
+
+/**
+ * DialGeometry class - precomputed trigonometry for the analog clock dials.
+ *
+ * Positions on a dial are measured in steps of a tenth of a degree, clockwise from
+ * 12 o'clock. Everything a ticking dial draws lands on a whole step: the 60 minute
+ * ticks (60 steps apart), the hour hand at each minute (5 steps apart) and a minute
+ * hand that creeps once a second (1 step). Their unit vectors come from one table of
+ * 3600 entries; only fractional positions (a sweeping second hand) are computed.
+ *
+ * An instance adds the tick endpoints for one dial center: the pixel coordinates of
+ * the 60 ticks at a given radius, built on first use, so marker and number loops only
+ * index arrays. Instances are not thread-safe; the static tables are shared.
+ */
+public final class DialGeometry {
+
+    public static final int STEPS_PER_TURN = 3600;
+    public static final int TICKS = 60;
+    public static final int STEPS_PER_TICK = STEPS_PER_TURN / TICKS;
+
+    // Unit vector at each step, in screen coordinates (y grows downwards)
+    private static final double[] COS = new double[STEPS_PER_TURN];
+    private static final double[] SIN = new double[STEPS_PER_TURN];
+
+    static {
+        for (int step = 0; step < STEPS_PER_TURN; step++) {
+            double angle = Math.toRadians(step / 10.0 - 90);
+            COS[step] = Math.cos(angle);
+            SIN[step] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Tick endpoints at one radius
+     */
+    public static final class Ring {
+        private final int[] x = new int[TICKS];
+        private final int[] y = new int[TICKS];
+
+        private Ring(int centerX, int centerY, int radius) {
+            for (int tick = 0; tick < TICKS; tick++) {
+                x[tick] = centerX + (int) (radius * COS[tick * STEPS_PER_TICK]);
+                y[tick] = centerY + (int) (radius * SIN[tick * STEPS_PER_TICK]);
+            }
+        }
+
+        /**
+         * @param tick 0 to 59, clockwise from 12 o'clock
+         */
+        public int x(int tick) {
+            return x[tick];
+        }
+
+        public int y(int tick) {
+            return y[tick];
+        }
+    }
+
+    private final int centerX;
+    private final int centerY;
+    private Ring[] rings = new Ring[0]; // Indexed by radius
+
+    public DialGeometry(int centerX, int centerY) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+    }
+
+    /**
+     * Return the geometry for the given center, reusing the current one if it matches
+     */
+    public static DialGeometry at(DialGeometry current, int centerX, int centerY) {
+        return current != null && current.centerX == centerX && current.centerY == centerY
+            ? current : new DialGeometry(centerX, centerY);
+    }
+
+    /**
+     * Tick endpoints at the given radius
+     */
+    public Ring ring(int radius) {
+        if (radius < 0) {
+            return new Ring(centerX, centerY, radius); // Tiny dial; not worth caching
+        }
+        if (radius >= rings.length) {
+            rings = Arrays.copyOf(rings, radius + 1);
+        }
+        Ring ring = rings[radius];
+        if (ring == null) {
+            ring = new Ring(centerX, centerY, radius);
+            rings[radius] = ring;
+        }
+        return ring;
+    }
+
+    /**
+     * x component of the unit vector at a dial position
+     * @param step tenths of a degree clockwise from 12 o'clock; any whole step is a table lookup
+     */
+    public static double cos(double step) {
+        int whole = (int) step;
+        if (whole == step) {
+            return COS[Math.floorMod(whole, STEPS_PER_TURN)];
+        }
+        return Math.cos(Math.toRadians(step / 10 - 90));
+    }
+
+    /**
+     * y component of the unit vector at a dial position (downwards on screen)
+     */
+    public static double sin(double step) {
+        int whole = (int) step;
+        if (whole == step) {
+            return SIN[Math.floorMod(whole, STEPS_PER_TURN)];
+        }
+        return Math.sin(Math.toRadians(step / 10 - 90));
+    }
+
+    /**
+     * Step of a tick (0 to 59, clockwise from 12 o'clock)
+     */
+    public static int tickStep(int tick) {
+        return tick * STEPS_PER_TICK;
+    }
+}
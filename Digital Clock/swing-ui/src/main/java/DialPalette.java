@@ -0,0 +1,87 @@
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+
+/**
+ * DialPalette class - the strokes, translucent tints and fonts the analog dials paint
+ * with, created once and shared by the AnalogClock and AdvancedDigitalClock panels.
+ *
+ * Paint loops look values up here instead of allocating them per line: strokes by width
+ * (in half pixels, up to MAX_STROKE_WIDTH) and the glow and shadow tints at every alpha.
+ * Everything is immutable, so the palette can be used from any thread.
+ */
+public final class DialPalette {
+
+    public static final float MAX_STROKE_WIDTH = 20;
+
+    private static final BasicStroke[] PLAIN_STROKES = new BasicStroke[(int) (MAX_STROKE_WIDTH * 2) + 1];
+    private static final BasicStroke[] ROUND_STROKES = new BasicStroke[PLAIN_STROKES.length];
+
+    static {
+        for (int i = 0; i < PLAIN_STROKES.length; i++) {
+            PLAIN_STROKES[i] = new BasicStroke(i / 2f);
+            ROUND_STROKES[i] = new BasicStroke(i / 2f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        }
+    }
+
+    // Tints at every alpha: the glow rings, shadows and highlights of the dials
+    private static final Color[] CYAN = alphaRamp(0, 255, 255);
+    private static final Color[] ELECTRIC_BLUE = alphaRamp(0, 119, 255);
+    private static final Color[] BLACK = alphaRamp(0, 0, 0);
+    private static final Color[] WHITE = alphaRamp(255, 255, 255);
+
+    // Analog Clock
+    public static final Font CLASSIC_NUMBERS = new Font("Arial", Font.BOLD, 16);
+
+    // Advanced Digital Clock
+    public static final Font CYBER_NUMBERS = new Font("Impact", Font.BOLD, 22);
+    public static final Font CYBER_NUMBERS_REFLECTION = new Font("Impact", Font.BOLD, 20);
+    public static final Font CYBER_SYMBOL = new Font("Impact", Font.BOLD, 14);
+    public static final Font CYBER_BRAND = new Font("Impact", Font.BOLD, 11);
+    public static final Font CYBER_MODEL = new Font("Impact", Font.PLAIN, 9);
+
+    private DialPalette() {
+    }
+
+    private static Color[] alphaRamp(int red, int green, int blue) {
+        Color[] ramp = new Color[256];
+        for (int alpha = 0; alpha < ramp.length; alpha++) {
+            ramp[alpha] = new Color(red, green, blue, alpha);
+        }
+        return ramp;
+    }
+
+    /**
+     * Square-capped stroke of the given width
+     */
+    public static BasicStroke plain(float width) {
+        int index = (int) (width * 2);
+        return index == width * 2 && index >= 0 && index < PLAIN_STROKES.length
+            ? PLAIN_STROKES[index] : new BasicStroke(width);
+    }
+
+    /**
+     * Stroke of the given width with round caps and joins
+     */
+    public static BasicStroke round(float width) {
+        int index = (int) (width * 2);
+        return index == width * 2 && index >= 0 && index < ROUND_STROKES.length
+            ? ROUND_STROKES[index] : new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    }
+
+    public static Color cyan(int alpha) {
+        return CYAN[alpha];
+    }
+
+    public static Color electricBlue(int alpha) {
+        return ELECTRIC_BLUE[alpha];
+    }
+
+    public static Color black(int alpha) {
+        return BLACK[alpha];
+    }
+
+    public static Color white(int alpha) {
+        return WHITE[alpha];
+    }
+}
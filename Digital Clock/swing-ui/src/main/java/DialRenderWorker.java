@@ -0,0 +1,256 @@
+import javax.swing.JComponent;
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DialRenderWorker class that renders the frames of a component on a background thread
+ * and hands them to the EDT through a lock-free triple buffer.
+ *
+ * The EDT requests a frame with a snapshot of the state to draw. The worker draws it
+ * into its back image, swaps that image with the ready one in a single atomic operation
+ * and repaints the region that changed. On the EDT, paint takes the ready image if it
+ * holds a newer frame and draws it: one drawImage, however expensive the frame was to
+ * render. Each of the three images belongs to exactly one side at a time, so neither
+ * waits for the other - input is handled while a large frame renders, and rendering
+ * never waits for a paint.
+ *
+ * Requests are latest wins: a request replaced before the worker took it is dropped and
+ * its dirty region is merged into its replacement, so no region is left stale on screen.
+ * A synchronous worker renders on the requesting thread instead (for benchmarks).
+ */
+public final class DialRenderWorker<S> {
+
+    /**
+     * Draws one frame on the worker thread. The graphics are scaled to device pixels,
+     * translated to component coordinates and clipped to the frame bounds, and the image
+     * is cleared to transparent.
+     */
+    public interface Painter<S> {
+        void paint(Graphics2D g, S state);
+    }
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // The ready image holds a frame the EDT has not taken yet
+
+    /**
+     * A requested frame: the state, the component region it covers and its resolution
+     */
+    private static final class Request<S> {
+        private final S state;
+        private final Rectangle bounds;
+        private final double scale;
+        private final GraphicsConfiguration gc;
+        private final Rectangle dirty; // null repaints the whole frame
+
+        private Request(S state, Rectangle bounds, double scale, GraphicsConfiguration gc, Rectangle dirty) {
+            this.state = state;
+            this.bounds = bounds;
+            this.scale = scale;
+            this.gc = gc;
+            this.dirty = dirty;
+        }
+
+        /**
+         * This request, also repainting what a dropped older request would have
+         */
+        private Request<S> mergedWith(Request<S> older) {
+            Rectangle merged = dirty == null || older.dirty == null ? null : dirty.union(older.dirty);
+            return new Request<>(state, bounds, scale, gc, merged);
+        }
+    }
+
+    private final String name;
+    private final JComponent target;
+    private final Painter<S> painter;
+    private final boolean synchronous;
+
+    private final AtomicReference<Request<S>> pending = new AtomicReference<>();
+    private volatile Thread workerThread;
+    private volatile boolean closed = false;
+
+    // Triple buffer: the back image is the renderer's, the front image the EDT's, and the
+    // ready index (with the FRESH bit) is the only shared state
+    private final BufferedImage[] images = new BufferedImage[3];
+    private final GraphicsConfiguration[] imageConfigs = new GraphicsConfiguration[3];
+    private final Rectangle[] frameBounds = new Rectangle[3];
+    private final AtomicInteger ready = new AtomicInteger(1);
+    private int back = 2;           // Renderer only
+    private int front = 0;          // EDT only
+    private Rectangle lastBounds;   // Renderer only: bounds of the previous frame
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder rendered = new LongAdder();
+    private final LongAdder unshown = new LongAdder();
+    private final LongAdder shown = new LongAdder();
+    private final LongAdder renderNanos = new LongAdder();
+
+    /**
+     * @param name        names the worker thread and the statistics report
+     * @param target      repainted whenever a frame is ready
+     * @param painter     draws the frames
+     * @param synchronous render on the requesting thread instead of a worker thread
+     */
+    public DialRenderWorker(String name, JComponent target, Painter<S> painter, boolean synchronous) {
+        this.name = name;
+        this.target = target;
+        this.painter = painter;
+        this.synchronous = synchronous;
+    }
+
+    /**
+     * Request a frame of the given state; callable from any thread
+     * @param bounds region of the target the frame covers, in component coordinates
+     * @param scale  device pixels per component pixel
+     * @param gc     configuration to create compatible images for, or null
+     * @param dirty  region that changed since the previous request, or null for the whole frame
+     */
+    public void request(S state, Rectangle bounds, double scale, GraphicsConfiguration gc, Rectangle dirty) {
+        if (closed || bounds.isEmpty()) {
+            return;
+        }
+        requested.increment();
+        Request<S> request = new Request<>(state, new Rectangle(bounds), scale, gc, dirty);
+        if (synchronous) {
+            render(request);
+            return;
+        }
+        if (pending.getAndUpdate(older -> older == null ? request : request.mergedWith(older)) != null) {
+            merged.increment();
+        }
+        Thread worker = workerThread;
+        if (worker == null) {
+            worker = start();
+        }
+        LockSupport.unpark(worker);
+    }
+
+    private synchronized Thread start() {
+        if (workerThread == null && !closed) {
+            Thread worker = new Thread(this::runLoop, name);
+            worker.setDaemon(true);
+            workerThread = worker;
+            worker.start();
+        }
+        return workerThread;
+    }
+
+    /**
+     * Stop the worker thread; later requests are ignored
+     */
+    public synchronized void close() {
+        closed = true;
+        Thread worker = workerThread;
+        workerThread = null;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void runLoop() {
+        Thread self = Thread.currentThread();
+        while (workerThread == self) {
+            Request<S> request = pending.getAndSet(null);
+            if (request == null) {
+                LockSupport.park(this); // A request (or close) unparks us
+                continue;
+            }
+            render(request);
+        }
+    }
+
+    private void render(Request<S> request) {
+        long start = System.nanoTime();
+        Rectangle bounds = request.bounds;
+        int width = Math.max(1, (int) Math.ceil(bounds.width * request.scale));
+        int height = Math.max(1, (int) Math.ceil(bounds.height * request.scale));
+
+        BufferedImage image = images[back];
+        if (image == null || image.getWidth() != width || image.getHeight() != height
+                || imageConfigs[back] != request.gc) {
+            if (image != null) {
+                image.flush();
+            }
+            image = request.gc != null
+                ? request.gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            images[back] = image;
+            imageConfigs[back] = request.gc;
+        }
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, width, height);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.scale(request.scale, request.scale);
+            g.translate(-bounds.x, -bounds.y);
+            g.clipRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            painter.paint(g, request.state);
+        } catch (RuntimeException e) {
+            System.err.println("Error rendering " + name + ": " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            g.dispose();
+        }
+
+        // Publish: the finished image becomes the ready one, the previous ready one our back image
+        frameBounds[back] = bounds;
+        int previous = ready.getAndSet(back | FRESH);
+        if ((previous & FRESH) != 0) {
+            unshown.increment(); // Replaced before the EDT painted it
+        }
+        back = previous & INDEX_MASK;
+        rendered.increment();
+        renderNanos.add(System.nanoTime() - start);
+
+        Rectangle dirty = request.dirty;
+        if (dirty == null) {
+            dirty = lastBounds == null ? bounds : bounds.union(lastBounds);
+        }
+        lastBounds = bounds;
+        target.repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+    }
+
+    /**
+     * Draw the newest finished frame; must be called on the EDT (from paintComponent)
+     * @return false if no frame has been rendered yet
+     */
+    public boolean paint(Graphics g) {
+        if ((ready.get() & FRESH) != 0) {
+            front = ready.getAndSet(front) & INDEX_MASK;
+            shown.increment();
+        }
+        BufferedImage image = images[front];
+        if (image == null) {
+            return false;
+        }
+        Rectangle bounds = frameBounds[front];
+        g.drawImage(image, bounds.x, bounds.y, bounds.width, bounds.height, null);
+        return true;
+    }
+
+    public long getRequestedCount() { return requested.sum(); }
+    public long getRenderedCount() { return rendered.sum(); }
+    public long getShownCount() { return shown.sum(); }
+
+    /**
+     * Human-readable summary of the frames requested, rendered and shown
+     */
+    public String getReport() {
+        long frames = rendered.sum();
+        return String.format(Locale.ROOT, "%s: %d requested, %d merged, %d rendered (%.2f ms avg), %d shown, %d replaced unshown",
+            name, requested.sum(), merged.sum(), frames, frames == 0 ? 0.0 : renderNanos.sum() / 1e6 / frames,
+            shown.sum(), unshown.sum());
+    }
+}
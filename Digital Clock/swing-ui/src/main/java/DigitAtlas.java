@@ -0,0 +1,335 @@
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DigitAtlas class - the glyphs of a clock display ("0-9", ':', '.' and '-') rasterized
+ * once per font, paint, background and HiDPI scale into a single image.
+ *
+ * Time strings are then composited from the atlas with one image blit per character
+ * at device resolution, with no text layout and no glyph rasterization. The paint is
+ * applied with the glyph baseline at y = 0, so a vertical gradient looks the same on
+ * every character. Text with other characters, or graphics that are rotated or
+ * sheared, must be drawn with drawString instead (see supports and canDraw).
+ *
+ * An atlas with a background color is opaque: its blits are plain copies, several
+ * times cheaper than blending a translucent image (or anti-aliased text). Only the
+ * inked bounds of each glyph are copied, so neighbouring glyphs must not overlap,
+ * as holds for upright digit fonts. Atlases are cached; must be used on the EDT.
+ */
+public final class DigitAtlas {
+
+    public static final String CHARACTERS = "0123456789:.-";
+
+    private static final int CACHE_SIZE = 16;
+
+    private static final Map<Key, DigitAtlas> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DigitAtlas> eldest) {
+            if (size() > CACHE_SIZE) {
+                eldest.getValue().image.flush();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Cache key; paints other than Color compare by identity, so keep gradient instances
+     */
+    private static final class Key {
+        private final Font font;
+        private final Paint paint;
+        private final Color background;
+        private final double scale;
+
+        private Key(Font font, Paint paint, Color background, double scale) {
+            this.font = font;
+            this.paint = paint;
+            this.background = background;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return font.equals(other.font) && paint.equals(other.paint)
+                && Objects.equals(background, other.background) && scale == other.scale;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(font, paint, background, scale);
+        }
+    }
+
+    private final double scale;
+    private final Color background; // null for a translucent atlas
+    private final BufferedImage image;
+    private final int[] cellX = new int[CHARACTERS.length()];          // Device pixels
+    private final float[] advance = new float[CHARACTERS.length()];    // Device pixels
+    private final int[] userAdvance = new int[CHARACTERS.length()];    // User space, as FontMetrics.charWidth
+    private final int[] inkX = new int[CHARACTERS.length()];           // Inked bounds within the cell, device pixels
+    private final int[] inkY = new int[CHARACTERS.length()];
+    private final int[] inkWidth = new int[CHARACTERS.length()];
+    private final int[] inkHeight = new int[CHARACTERS.length()];
+    private final int cellWidth;  // Device pixels, the glyph padded on both sides
+    private final int pad;        // Device pixels left of the glyph origin
+    private final int baseline;   // Device pixels from the top of a cell
+    private final int ascent;
+    private final int descent;
+    private final int height;
+
+    private final AffineTransform deviceTransform = new AffineTransform();
+
+    private DigitAtlas(Font font, Paint paint, Color background, double scale) {
+        this.scale = scale;
+        this.background = background;
+
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D probeGraphics = probe.createGraphics();
+        applyTextHints(probeGraphics);
+        probeGraphics.scale(scale, scale);
+        FontMetrics fm = probeGraphics.getFontMetrics(font);
+        ascent = fm.getAscent();
+        descent = fm.getDescent();
+        height = fm.getHeight();
+        int maxAdvance = 0;
+        for (int i = 0; i < CHARACTERS.length(); i++) {
+            userAdvance[i] = fm.charWidth(CHARACTERS.charAt(i));
+            advance[i] = (float) (userAdvance[i] * scale);
+            maxAdvance = Math.max(maxAdvance, userAdvance[i]);
+        }
+        probeGraphics.dispose();
+
+        // Room for glyphs that overhang their advance and for anti-aliasing fringes
+        pad = (int) Math.ceil((2 + font.getSize2D() / 8) * scale);
+        cellWidth = (int) Math.ceil(maxAdvance * scale) + 2 * pad;
+        baseline = pad + (int) Math.ceil(ascent * scale);
+        int cellHeight = baseline + (int) Math.ceil(descent * scale) + pad;
+
+        image = createImage(cellWidth * CHARACTERS.length(), cellHeight);
+        Graphics2D g = image.createGraphics();
+        try {
+            if (background != null) {
+                g.setColor(background);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            }
+            applyTextHints(g);
+            g.setFont(font);
+            for (int i = 0; i < CHARACTERS.length(); i++) {
+                cellX[i] = i * cellWidth;
+                AffineTransform cell = AffineTransform.getTranslateInstance(cellX[i] + pad, baseline);
+                cell.scale(scale, scale);
+                g.setTransform(cell);
+                g.setPaint(paint);
+                g.drawString(String.valueOf(CHARACTERS.charAt(i)), 0, 0);
+            }
+        } finally {
+            g.dispose();
+        }
+        for (int i = 0; i < CHARACTERS.length(); i++) {
+            measureInk(i, cellHeight);
+        }
+    }
+
+    /**
+     * Find the bounds of the pixels the glyph touched in a cell, so blits skip the empty padding
+     */
+    private void measureInk(int index, int cellHeight) {
+        int empty = background != null ? background.getRGB() : 0;
+        int minX = cellWidth, minY = cellHeight, maxX = -1, maxY = -1;
+        for (int y = 0; y < cellHeight; y++) {
+            for (int x = 0; x < cellWidth; x++) {
+                if (image.getRGB(cellX[index] + x, y) != empty) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX >= 0) {
+            inkX[index] = minX;
+            inkY[index] = minY;
+            inkWidth[index] = maxX - minX + 1;
+            inkHeight[index] = maxY - minY + 1;
+        }
+    }
+
+    /**
+     * The atlas for the font and paint at the given HiDPI scale, rendering it if needed
+     * @param background opaque color behind the glyphs, or null for a translucent atlas
+     */
+    public static DigitAtlas get(Font font, Paint paint, Color background, double scale) {
+        if (background != null && background.getAlpha() != 255) {
+            throw new IllegalArgumentException("Atlas background must be opaque: " + background);
+        }
+        Key key = new Key(font, paint, background, scale);
+        DigitAtlas atlas = CACHE.get(key);
+        if (atlas == null) {
+            atlas = new DigitAtlas(font, paint, background, scale);
+            CACHE.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    /**
+     * The translucent atlas for the font and paint at the scale of the graphics
+     */
+    public static DigitAtlas get(Font font, Paint paint, Graphics2D g) {
+        return get(font, paint, null, g.getTransform().getScaleX());
+    }
+
+    /**
+     * The opaque atlas for the font, paint and background at the scale of the graphics
+     */
+    public static DigitAtlas get(Font font, Paint paint, Color background, Graphics2D g) {
+        return get(font, paint, background, g.getTransform().getScaleX());
+    }
+
+    /**
+     * Whether atlas blits are exact on this graphics: only translation and uniform scaling
+     */
+    public static boolean canDraw(Graphics2D g) {
+        int type = g.getTransform().getType();
+        return (type & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE)) == 0;
+    }
+
+    /**
+     * Whether every character of the text is in the atlas
+     */
+    public static boolean supports(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (CHARACTERS.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getAscent() { return ascent; }
+    public int getDescent() { return descent; }
+    public int getHeight() { return height; }
+
+    /**
+     * Width of the text in user space, as FontMetrics.stringWidth
+     */
+    public int stringWidth(CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += userAdvance[CHARACTERS.indexOf(text.charAt(i))];
+        }
+        return width;
+    }
+
+    /**
+     * Draw the text with its baseline origin at (x, y) in user space; honours the composite
+     */
+    public void drawString(Graphics2D g, CharSequence text, int x, int y) {
+        AffineTransform saved = g.getTransform();
+        toDevice(g, saved, x, y);
+        try {
+            drawGlyphs(g, text, 0);
+        } finally {
+            g.setTransform(saved);
+        }
+    }
+
+    /**
+     * Composite the text once into an image, for text drawn many times per frame (glow layers).
+     * The image is reused when it is large enough.
+     */
+    public BufferedImage renderLine(CharSequence text, BufferedImage reuse) {
+        int width = (int) Math.ceil(stringWidth(text) * scale) + 2 * pad;
+        int lineHeight = image.getHeight();
+        BufferedImage line = reuse;
+        if (line == null || line.getWidth() < width || line.getHeight() < lineHeight) {
+            if (line != null) {
+                line.flush();
+            }
+            line = createImage(width, lineHeight);
+        }
+
+        Graphics2D g = line.createGraphics();
+        try {
+            if (background != null) {
+                g.setColor(background);
+            } else {
+                g.setComposite(AlphaComposite.Clear);
+            }
+            g.fillRect(0, 0, line.getWidth(), line.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            g.translate(0, baseline);
+            drawGlyphs(g, text, pad);
+        } finally {
+            g.dispose();
+        }
+        return line;
+    }
+
+    /**
+     * Draw an image from renderLine with the text's baseline origin at (x, y); honours the composite
+     */
+    public void drawLine(Graphics2D g, Image line, int x, int y) {
+        AffineTransform saved = g.getTransform();
+        toDevice(g, saved, x, y);
+        try {
+            g.drawImage(line, -pad, -baseline, null);
+        } finally {
+            g.setTransform(saved);
+        }
+    }
+
+    /**
+     * Blit the glyph cells with the baseline origin of the first glyph at (originX, 0) device pixels
+     */
+    private void drawGlyphs(Graphics2D g, CharSequence text, int originX) {
+        float penX = originX;
+        for (int i = 0; i < text.length(); i++) {
+            int index = CHARACTERS.indexOf(text.charAt(i));
+            if (inkWidth[index] > 0) {
+                int sx = cellX[index] + inkX[index];
+                int dx = Math.round(penX) - pad + inkX[index];
+                int dy = inkY[index] - baseline;
+                g.drawImage(image, dx, dy, dx + inkWidth[index], dy + inkHeight[index],
+                            sx, inkY[index], sx + inkWidth[index], inkY[index] + inkHeight[index], null);
+            }
+            penX += advance[index];
+        }
+    }
+
+    /**
+     * Switch the graphics to device pixels with the origin at the rounded device position of (x, y)
+     */
+    private void toDevice(Graphics2D g, AffineTransform userTransform, int x, int y) {
+        double deviceX = userTransform.getTranslateX() + x * userTransform.getScaleX();
+        double deviceY = userTransform.getTranslateY() + y * userTransform.getScaleY();
+        deviceTransform.setToTranslation(Math.round(deviceX), Math.round(deviceY));
+        g.setTransform(deviceTransform);
+    }
+
+    private BufferedImage createImage(int width, int height) {
+        int type = background != null ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, type);
+    }
+
+    private static void applyTextHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    }
+}
@@ -0,0 +1,170 @@
+import javax.swing.JComponent;
+import javax.swing.UIManager;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.RenderingHints;
+import java.util.Arrays;
+
+/**
+ * DigitDisplay class - a label for frequently changing time text ("12:34:56", "00:01:02.345").
+ *
+ * Unlike JLabel.setText, setText here never revalidates: the preferred size comes from a
+ * template string of the widest expected text, so a new value only repaints the component.
+ * The text is kept in a reusable char buffer: a ticking display can be given the chars
+ * written by ClockFormatter.writeTime or writeStopwatch without creating a String.
+ * An opaque display with a solid foreground copies its digits from an opaque DigitAtlas;
+ * otherwise, and for text the atlas cannot draw, the text is drawn with drawString (for a
+ * translucent display that is faster than blending atlas glyphs). The text is centered
+ * like a centered JLabel.
+ */
+public class DigitDisplay extends JComponent {
+
+    private final String template;
+    private char[] chars = new char[16];
+    private int length;
+    private String text; // The text as a String, created on demand; null until then
+
+    // The current text without copying it, for atlas drawing
+    private final CharSequence textView = new CharSequence() {
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return getText().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return getText();
+        }
+    };
+
+    /**
+     * @param text     initial text
+     * @param template widest text expected, used for the preferred size
+     */
+    public DigitDisplay(String text, String template) {
+        this.template = template;
+        copyText(text);
+        setOpaque(false);
+        setFont(UIManager.getFont("Label.font"));
+        setForeground(UIManager.getColor("Label.foreground"));
+    }
+
+    public String getText() {
+        if (text == null) {
+            text = new String(chars, 0, length);
+        }
+        return text;
+    }
+
+    /**
+     * The current text as a view of the display's buffer; valid until the text changes
+     */
+    protected CharSequence getTextView() {
+        return textView;
+    }
+
+    /**
+     * Width of the current text in the given metrics, as FontMetrics.stringWidth
+     */
+    protected int textWidth(FontMetrics fm) {
+        return fm.charsWidth(chars, 0, length);
+    }
+
+    /**
+     * Show new text; repaints only, the size never changes with the text.
+     * Null shows no text, as with JLabel.
+     */
+    public void setText(String text) {
+        if (text == null) {
+            text = "";
+        }
+        if (!text.contentEquals(textView)) {
+            copyText(text);
+            repaint();
+        }
+    }
+
+    /**
+     * Show the given chars as the new text, copying them into the display's buffer.
+     * Allocates nothing unless the text is longer than any shown before.
+     */
+    public void setText(char[] src, int offset, int count) {
+        if (count == length && Arrays.equals(src, offset, offset + count, chars, 0, count)) {
+            return;
+        }
+        if (count > chars.length) {
+            chars = new char[count];
+        }
+        System.arraycopy(src, offset, chars, 0, count);
+        length = count;
+        text = null;
+        repaint();
+    }
+
+    private void copyText(String text) {
+        if (text == null) {
+            text = "";
+        }
+        if (text.length() > chars.length) {
+            chars = new char[text.length()];
+        }
+        text.getChars(0, text.length(), chars, 0);
+        length = text.length();
+        this.text = text;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        Insets insets = getInsets();
+        FontMetrics fm = getFontMetrics(getFont());
+        int width = Math.max(fm.stringWidth(template), textWidth(fm));
+        return new Dimension(width + insets.left + insets.right, fm.getHeight() + insets.top + insets.bottom);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        Insets insets = getInsets();
+        int availableWidth = getWidth() - insets.left - insets.right;
+        int availableHeight = getHeight() - insets.top - insets.bottom;
+
+        Color background = getBackground();
+        if (isOpaque() && background.getAlpha() == 255 && DigitAtlas.canDraw(g2d) && DigitAtlas.supports(textView)) {
+            DigitAtlas atlas = DigitAtlas.get(getFont(), getForeground(), background, g2d);
+            int x = insets.left + (availableWidth - atlas.stringWidth(textView)) / 2;
+            int y = insets.top + availableHeight / 2 - atlas.getHeight() / 2 + atlas.getAscent();
+            atlas.drawString(g2d, textView, x, y);
+        } else {
+            FontMetrics fm = g2d.getFontMetrics(getFont());
+            int x = insets.left + (availableWidth - textWidth(fm)) / 2;
+            int y = insets.top + availableHeight / 2 - fm.getHeight() / 2 + fm.getAscent();
+            g2d.setFont(getFont());
+            g2d.setColor(getForeground());
+            g2d.drawChars(chars, 0, length, x, y);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DigitGlowAtlas class - the pulsing two-color glow around the clock digits, rendered once per
+ * glyph and glow step instead of as dozens of shifted text passes every frame.
+ *
+ * At glow step k (15 times the glow intensity) the outer glow is the glyph shifted by i = 1 to k
+ * pixels in the 8 directions at alpha 2(k - i), and the inner glow is the glyph shifted by 1 to 3
+ * pixels along the axes at alpha 16k/3. Steps are as coarse as the outer glow radius, so the
+ * radius is exact and the alphas are at most 1 (outer) and 5 (inner) units below those of the
+ * exact intensity. Each glyph's outer and inner glow is rendered on first use into a sprite
+ * cropped to its inked pixels; for the time label's characters over the pulse's range that is
+ * about 4 MB at 84 points, 4 times as much at a HiDPI scale of 2. A line of text is composited
+ * from the sprites, every outer glow before every inner glow as the passes were drawn, so one
+ * blit of the line matches the passes up to rounding. Glyphs are placed as DigitAtlas places them, so the glow lines up
+ * with text drawn from an atlas of the same font and scale. Must be used on the EDT.
+ */
+public final class DigitGlowAtlas {
+
+    public static final int STEPS = 16;
+
+    private static final int INNER_ALPHA = 80; // Inner glow alpha at full intensity
+    private static final int INNER_RADIUS = 3;
+
+    private static final int CACHE_SIZE = 4;
+
+    private static final Map<Key, DigitGlowAtlas> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DigitGlowAtlas> eldest) {
+            if (size() > CACHE_SIZE) {
+                eldest.getValue().flush();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static final class Key {
+        private final Font font;
+        private final Color outerColor;
+        private final Color innerColor;
+        private final double scale;
+
+        private Key(Font font, Color outerColor, Color innerColor, double scale) {
+            this.font = font;
+            this.outerColor = outerColor;
+            this.innerColor = innerColor;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return font.equals(other.font) && outerColor.equals(other.outerColor)
+                && innerColor.equals(other.innerColor) && scale == other.scale;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(font, outerColor, innerColor, scale);
+        }
+    }
+
+    /**
+     * One glyph's glow, cropped to its inked pixels; null image if nothing was inked
+     */
+    private static final class Sprite {
+        private final BufferedImage image;
+        private final int x; // Device pixels from the glyph origin to the image's top left corner
+        private final int y;
+
+        private Sprite(BufferedImage image, int x, int y) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final Font font;
+    private final Color outerColor;
+    private final Color innerColor;
+    private final double scale;
+    private final float[] advance = new float[DigitAtlas.CHARACTERS.length()]; // Device pixels
+    private final int[] userAdvance = new int[DigitAtlas.CHARACTERS.length()]; // User space, as FontMetrics.charWidth
+    private final int pad;       // Device pixels around a glyph for overhangs and anti-aliasing fringes
+    private final int baseline;  // Device pixels from the top of a glyph cell
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int margin;    // Device pixels around a line for the widest glow
+    private final int lineAscent;
+    private final int lineHeight;
+
+    // Rendered lazily, per glow step and character
+    private final Sprite[][] outerSprites = new Sprite[STEPS][DigitAtlas.CHARACTERS.length()];
+    private final Sprite[][] innerSprites = new Sprite[STEPS][DigitAtlas.CHARACTERS.length()];
+
+    private final AffineTransform deviceTransform = new AffineTransform();
+
+    private DigitGlowAtlas(Font font, Color outerColor, Color innerColor, double scale) {
+        this.font = font;
+        this.outerColor = outerColor;
+        this.innerColor = innerColor;
+        this.scale = scale;
+
+        BufferedImage probe = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D probeGraphics = probe.createGraphics();
+        applyTextHints(probeGraphics);
+        probeGraphics.scale(scale, scale);
+        FontMetrics fm = probeGraphics.getFontMetrics(font);
+        int maxAdvance = 0;
+        for (int i = 0; i < DigitAtlas.CHARACTERS.length(); i++) {
+            userAdvance[i] = fm.charWidth(DigitAtlas.CHARACTERS.charAt(i));
+            advance[i] = (float) (userAdvance[i] * scale);
+            maxAdvance = Math.max(maxAdvance, userAdvance[i]);
+        }
+        probeGraphics.dispose();
+
+        // Same padding and baseline as DigitAtlas cells
+        pad = (int) Math.ceil((2 + font.getSize2D() / 8) * scale);
+        baseline = pad + (int) Math.ceil(fm.getAscent() * scale);
+        cellWidth = (int) Math.ceil(maxAdvance * scale) + 2 * pad;
+        cellHeight = baseline + (int) Math.ceil(fm.getDescent() * scale) + pad;
+        margin = pad + spread(STEPS - 1);
+        lineAscent = margin - pad + baseline;
+        lineHeight = lineAscent + (int) Math.ceil(fm.getDescent() * scale) + margin;
+    }
+
+    /**
+     * The glow atlas for the font and colors at the scale of the graphics, creating it if needed
+     */
+    public static DigitGlowAtlas get(Font font, Color outerColor, Color innerColor, Graphics2D g) {
+        double scale = g.getTransform().getScaleX();
+        Key key = new Key(font, outerColor, innerColor, scale);
+        DigitGlowAtlas atlas = CACHE.get(key);
+        if (atlas == null) {
+            atlas = new DigitGlowAtlas(font, outerColor, innerColor, scale);
+            CACHE.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    /**
+     * The glow step for an intensity from 0 to 1
+     */
+    public static int step(float intensity) {
+        return Math.max(0, Math.min(STEPS - 1, (int) ((STEPS - 1) * intensity)));
+    }
+
+    /**
+     * Composite the glow of the text at the glow step into an image, reused when it is large enough.
+     * The text must be supported by DigitAtlas.
+     */
+    public BufferedImage renderLine(CharSequence text, int step, BufferedImage reuse) {
+        int textWidth = 0;
+        for (int i = 0; i < text.length(); i++) {
+            textWidth += userAdvance[DigitAtlas.CHARACTERS.indexOf(text.charAt(i))];
+        }
+        int width = (int) Math.ceil(textWidth * scale) + 2 * margin;
+        BufferedImage line = reuse;
+        if (line == null || line.getWidth() < width || line.getHeight() < lineHeight) {
+            if (line != null) {
+                line.flush();
+            }
+            line = new BufferedImage(width, lineHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        Graphics2D g = line.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, line.getWidth(), line.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            drawSprites(g, text, step, true);
+            drawSprites(g, text, step, false);
+        } finally {
+            g.dispose();
+        }
+        return line;
+    }
+
+    /**
+     * Draw an image from renderLine with the text's baseline origin at (x, y); honours the composite
+     */
+    public void drawLine(Graphics2D g, Image line, int x, int y) {
+        AffineTransform saved = g.getTransform();
+        double deviceX = saved.getTranslateX() + x * saved.getScaleX();
+        double deviceY = saved.getTranslateY() + y * saved.getScaleY();
+        deviceTransform.setToTranslation(Math.round(deviceX), Math.round(deviceY));
+        g.setTransform(deviceTransform);
+        try {
+            g.drawImage(line, -margin, -lineAscent, null);
+        } finally {
+            g.setTransform(saved);
+        }
+    }
+
+    /**
+     * Blit the outer or inner glow sprite of every glyph, advancing the pen as DigitAtlas does
+     */
+    private void drawSprites(Graphics2D g, CharSequence text, int step, boolean outer) {
+        Sprite[] sprites = outer ? outerSprites[step] : innerSprites[step];
+        float penX = margin;
+        for (int i = 0; i < text.length(); i++) {
+            int index = DigitAtlas.CHARACTERS.indexOf(text.charAt(i));
+            if (sprites[index] == null) {
+                sprites[index] = renderSprite(index, step, outer);
+            }
+            Sprite sprite = sprites[index];
+            if (sprite.image != null) {
+                g.drawImage(sprite.image, Math.round(penX) + sprite.x, lineAscent + sprite.y, null);
+            }
+            penX += advance[index];
+        }
+    }
+
+    /**
+     * Render one glyph's outer or inner glow: the glyph blitted at every pass offset and alpha
+     */
+    private Sprite renderSprite(int index, int step, boolean outer) {
+        int radius = outer ? step : INNER_RADIUS;
+        int spread = spread(radius);
+        int originX = spread + pad;
+        int originY = spread + baseline;
+        BufferedImage glyph = renderGlyph(index, outer ? outerColor : innerColor);
+        BufferedImage canvas = new BufferedImage(cellWidth + 2 * spread, cellHeight + 2 * spread,
+                                                 BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = canvas.createGraphics();
+        try {
+            for (int i = radius; i > 0; i--) {
+                int alpha = outer ? 2 * (step - i) : INNER_ALPHA * step / (STEPS - 1);
+                if (alpha <= 0) {
+                    continue;
+                }
+                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha / 255f));
+                int offset = (int) Math.round(i * scale);
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        boolean pass = outer ? (dx != 0 || dy != 0) : (dx == 0) != (dy == 0);
+                        if (pass) {
+                            g.drawImage(glyph, originX - pad + dx * offset, originY - baseline + dy * offset, null);
+                        }
+                    }
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        glyph.flush();
+        return crop(canvas, originX, originY);
+    }
+
+    /**
+     * Render the glyph in the color into a cell with its baseline origin at (pad, baseline)
+     */
+    private BufferedImage renderGlyph(int index, Color color) {
+        BufferedImage cell = new BufferedImage(cellWidth, cellHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = cell.createGraphics();
+        try {
+            applyTextHints(g);
+            g.setFont(font);
+            g.translate(pad, baseline);
+            g.scale(scale, scale);
+            g.setColor(color);
+            g.drawString(String.valueOf(DigitAtlas.CHARACTERS.charAt(index)), 0, 0);
+        } finally {
+            g.dispose();
+        }
+        return cell;
+    }
+
+    /**
+     * Copy the inked pixels of the canvas into a sprite positioned relative to the glyph origin
+     */
+    private static Sprite crop(BufferedImage canvas, int originX, int originY) {
+        int minX = canvas.getWidth(), minY = canvas.getHeight(), maxX = -1, maxY = -1;
+        for (int y = 0; y < canvas.getHeight(); y++) {
+            for (int x = 0; x < canvas.getWidth(); x++) {
+                if (canvas.getRGB(x, y) != 0) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            canvas.flush();
+            return new Sprite(null, 0, 0);
+        }
+        BufferedImage image = new BufferedImage(maxX - minX + 1, maxY - minY + 1, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(canvas, -minX, -minY, null);
+        } finally {
+            g.dispose();
+        }
+        canvas.flush();
+        return new Sprite(image, minX - originX, minY - originY);
+    }
+
+    /**
+     * Device pixels a glow of the radius reaches beyond the glyph
+     */
+    private int spread(int radius) {
+        return (int) Math.ceil(radius * scale);
+    }
+
+    private void flush() {
+        for (int step = 0; step < STEPS; step++) {
+            flush(outerSprites[step]);
+            flush(innerSprites[step]);
+        }
+    }
+
+    private static void flush(Sprite[] sprites) {
+        for (Sprite sprite : sprites) {
+            if (sprite != null && sprite.image != null) {
+                sprite.image.flush();
+            }
+        }
+    }
+
+    private static void applyTextHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    }
+}
@@ -20,7 +20,7 @@ import java.util.Date;
 public class DigitalClock extends JFrame {
     
     // GUI Components
-    private JLabel timeLabel;
+    private DigitDisplay timeLabel;
     private JLabel dateLabel;
     private JButton startButton;
     private JButton stopButton;
@@ -99,7 +99,7 @@ public class DigitalClock extends JFrame {
         ));
         
         // Time label
-        timeLabel = new JLabel("--:--:--", SwingConstants.CENTER);
+        timeLabel = new DigitDisplay("--:--:--", "88:88:88"); // Digits from a glyph atlas, no relayout per second
         updateDisplaySize(); // Set initial size
         timeLabel.setForeground(Color.GREEN);
         timeLabel.setBackground(Color.BLACK);
@@ -376,8 +376,9 @@ public class DigitalClock extends JFrame {
                         }
                     });
                     
-                    // Sleep for 1 second (thread enters TIMED_WAITING state)
-                    Thread.sleep(1000);
+                    // Wait for the next wall-clock second boundary (thread enters TIMED_WAITING state).
+                    // Unlike sleep(1000) after the work, this never drifts or skips a second.
+                    TickScheduler.shared().awaitNextBoundary(1000);
                     
                 } catch (InterruptedException e) {
                     System.out.println("Clock thread interrupted: " + e.getMessage());
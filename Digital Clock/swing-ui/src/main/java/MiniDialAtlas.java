@@ -0,0 +1,307 @@
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.MultipleGradientPaint;
+import java.awt.RadialGradientPaint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MiniDialAtlas class - a small analog dial rasterized once per size, background and HiDPI
+ * scale, for showing a clock face in each of many world clock cells.
+ *
+ * The face (bezel, dial and hour ticks) is a single opaque image. The hands come from
+ * rotation atlases: an hour hand for each of the 720 minutes of a 12-hour turn and a
+ * minute hand (carrying the center cap) for each of the 60 minutes. A dial is then
+ * three image blits at device resolution, whatever the time. Hand sprites are cropped
+ * to their inked bounds and rendered on first use, so an atlas only holds the angles
+ * actually shown. Atlases are cached; must be used on the EDT.
+ */
+public final class MiniDialAtlas {
+
+    public static final int HOUR_POSITIONS = 12 * 60;  // One per minute of a 12-hour turn
+    public static final int MINUTE_POSITIONS = 60;
+
+    private static final int CACHE_SIZE = 8;
+
+    private static final Color FACE_CENTER = new Color(20, 24, 44);
+    private static final Color FACE_EDGE = new Color(6, 8, 18);
+    private static final Color RIM = new Color(0, 255, 255, 200);
+    private static final Color MAJOR_TICK = new Color(0, 255, 255);
+    private static final Color MINOR_TICK = new Color(0, 200, 255, 150);
+    private static final Color HOUR_HAND = new Color(0, 255, 255);
+    private static final Color MINUTE_HAND = new Color(225, 245, 255);
+    private static final Color CAP = new Color(0, 255, 255);
+
+    private static final Map<Key, MiniDialAtlas> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, MiniDialAtlas> eldest) {
+            if (size() > CACHE_SIZE) {
+                eldest.getValue().flush();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private static final class Key {
+        private final int diameter;
+        private final Color background;
+        private final double scale;
+
+        private Key(int diameter, Color background, double scale) {
+            this.diameter = diameter;
+            this.background = background;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return diameter == other.diameter && background.equals(other.background) && scale == other.scale;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(diameter, background, scale);
+        }
+    }
+
+    /**
+     * A hand at one angle, cropped to its inked bounds
+     */
+    private static final class Sprite {
+        private final BufferedImage image;
+        private final int x; // Device pixels from the dial center to the image corner
+        private final int y;
+
+        private Sprite(BufferedImage image, int x, int y) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private final int diameter;
+    private final double scale;
+    private final int center;        // Device pixels from the face corner to the dial center
+    private final BufferedImage face;
+    private final Sprite[] hourHands = new Sprite[HOUR_POSITIONS];
+    private final Sprite[] minuteHands = new Sprite[MINUTE_POSITIONS];
+
+    // Hand geometry in user space
+    private final double hourLength;
+    private final double minuteLength;
+    private final double tailLength;
+    private final float hourWidth;
+    private final float minuteWidth;
+    private final double capRadius;
+
+    private final AffineTransform deviceTransform = new AffineTransform();
+
+    private MiniDialAtlas(int diameter, Color background, double scale) {
+        this.diameter = diameter;
+        this.scale = scale;
+        center = (int) Math.round(diameter * scale / 2);
+
+        double radius = diameter / 2.0;
+        hourLength = radius * 0.5;
+        minuteLength = radius * 0.78;
+        tailLength = radius * 0.12;
+        hourWidth = halfPixels(Math.max(2, diameter / 24f));
+        minuteWidth = halfPixels(Math.max(1.5f, diameter / 40f));
+        capRadius = Math.max(1.5, diameter / 28.0);
+
+        face = new BufferedImage(2 * center, 2 * center, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = face.createGraphics();
+        try {
+            g.setColor(background);
+            g.fillRect(0, 0, face.getWidth(), face.getHeight());
+            applyHints(g);
+            g.translate(center, center);
+            g.scale(scale, scale);
+            paintFace(g, radius);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static float halfPixels(float width) {
+        return Math.round(width * 2) / 2f;
+    }
+
+    private void paintFace(Graphics2D g, double radius) {
+        // Soft cyan glow just outside the bezel
+        double rim = radius - 1.5;
+        g.setColor(DialPalette.cyan(40));
+        g.setStroke(DialPalette.plain(3));
+        g.draw(new Ellipse2D.Double(-rim, -rim, rim * 2, rim * 2));
+
+        // Dark dial, lighter in the middle
+        double dial = radius - 2;
+        g.setPaint(new RadialGradientPaint(new Point2D.Double(0, -dial * 0.3), (float) (dial * 1.3),
+            new float[]{0.0f, 1.0f}, new Color[]{FACE_CENTER, FACE_EDGE}, MultipleGradientPaint.CycleMethod.NO_CYCLE));
+        g.fill(new Ellipse2D.Double(-dial, -dial, dial * 2, dial * 2));
+        g.setColor(RIM);
+        g.setStroke(DialPalette.plain(1.5f));
+        g.draw(new Ellipse2D.Double(-dial, -dial, dial * 2, dial * 2));
+
+        // Hour ticks, longer and brighter at 12, 3, 6 and 9
+        for (int hour = 0; hour < 12; hour++) {
+            int step = DialGeometry.tickStep(hour * 5);
+            boolean major = hour % 3 == 0;
+            double outer = dial - 2.5;
+            double inner = outer - dial * (major ? 0.2 : 0.11);
+            g.setColor(major ? MAJOR_TICK : MINOR_TICK);
+            g.setStroke(DialPalette.plain(major ? 2 : 1));
+            double cos = DialGeometry.cos(step);
+            double sin = DialGeometry.sin(step);
+            g.draw(new Line2D.Double(outer * cos, outer * sin, inner * cos, inner * sin));
+        }
+    }
+
+    /**
+     * The atlas for a dial of the given diameter at the given HiDPI scale, rendering its face if needed
+     * @param background opaque color around the round face
+     */
+    public static MiniDialAtlas get(int diameter, Color background, double scale) {
+        if (background.getAlpha() != 255) {
+            throw new IllegalArgumentException("Dial background must be opaque: " + background);
+        }
+        Key key = new Key(diameter, background, scale);
+        MiniDialAtlas atlas = CACHE.get(key);
+        if (atlas == null) {
+            atlas = new MiniDialAtlas(diameter, background, scale);
+            CACHE.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    /**
+     * The atlas for a dial of the given diameter at the scale of the graphics
+     */
+    public static MiniDialAtlas get(int diameter, Color background, Graphics2D g) {
+        return get(diameter, background, g.getTransform().getScaleX());
+    }
+
+    /**
+     * Hour hand position of a time: minutes into the 12-hour turn
+     */
+    public static int hourPosition(int hour, int minute) {
+        return hour % 12 * 60 + minute;
+    }
+
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Draw the dial with its top-left corner at (x, y) in user space
+     * @param hourPosition 0 to 719, see hourPosition
+     * @param minute       0 to 59
+     */
+    public void drawDial(Graphics2D g, int x, int y, int hourPosition, int minute) {
+        Sprite hourHand = hourHands[hourPosition];
+        if (hourHand == null) {
+            hourHand = renderHand(hourPosition * (DialGeometry.STEPS_PER_TURN / HOUR_POSITIONS), hourLength, hourWidth, HOUR_HAND, false);
+            hourHands[hourPosition] = hourHand;
+        }
+        Sprite minuteHand = minuteHands[minute];
+        if (minuteHand == null) {
+            minuteHand = renderHand(DialGeometry.tickStep(minute), minuteLength, minuteWidth, MINUTE_HAND, true);
+            minuteHands[minute] = minuteHand;
+        }
+
+        AffineTransform saved = g.getTransform();
+        if (DigitAtlas.canDraw(g)) {
+            // Blit at device resolution from the rounded device position of the corner
+            deviceTransform.setToTranslation(Math.round(saved.getTranslateX() + x * saved.getScaleX()),
+                                             Math.round(saved.getTranslateY() + y * saved.getScaleY()));
+        } else {
+            deviceTransform.setTransform(saved);
+            deviceTransform.translate(x, y);
+            deviceTransform.scale(1 / scale, 1 / scale);
+        }
+        g.setTransform(deviceTransform);
+        try {
+            g.drawImage(face, 0, 0, null);
+            g.drawImage(hourHand.image, center + hourHand.x, center + hourHand.y, null);
+            g.drawImage(minuteHand.image, center + minuteHand.x, center + minuteHand.y, null);
+        } finally {
+            g.setTransform(saved);
+        }
+    }
+
+    /**
+     * Rasterize a hand pointing at the given dial step, with a short tail behind the center
+     */
+    private Sprite renderHand(int step, double length, float width, Color color, boolean withCap) {
+        double cos = DialGeometry.cos(step);
+        double sin = DialGeometry.sin(step);
+        Line2D hand = new Line2D.Double(-tailLength * cos, -tailLength * sin, length * cos, length * sin);
+        Shape glow = DialPalette.round(width + 2).createStrokedShape(hand);
+        Ellipse2D cap = new Ellipse2D.Double(-capRadius, -capRadius, capRadius * 2, capRadius * 2);
+
+        // Device bounds relative to the center, one pixel larger for anti-aliasing
+        AffineTransform toDevice = AffineTransform.getScaleInstance(scale, scale);
+        Rectangle bounds = toDevice.createTransformedShape(glow).getBounds();
+        if (withCap) {
+            bounds.add(toDevice.createTransformedShape(cap).getBounds());
+        }
+        bounds.grow(1, 1);
+
+        BufferedImage image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        try {
+            applyHints(g);
+            g.translate(-bounds.x, -bounds.y);
+            g.scale(scale, scale);
+            g.setColor(DialPalette.cyan(50));
+            g.fill(glow);
+            g.setColor(color);
+            g.setStroke(DialPalette.round(width));
+            g.draw(hand);
+            if (withCap) {
+                g.setColor(CAP);
+                g.fill(cap);
+                g.setColor(FACE_EDGE);
+                double dot = capRadius / 2;
+                g.fill(new Ellipse2D.Double(-dot, -dot, dot * 2, dot * 2));
+            }
+        } finally {
+            g.dispose();
+        }
+        return new Sprite(image, bounds.x, bounds.y);
+    }
+
+    private void flush() {
+        face.flush();
+        for (Sprite sprite : hourHands) {
+            if (sprite != null) {
+                sprite.image.flush();
+            }
+        }
+        for (Sprite sprite : minuteHands) {
+            if (sprite != null) {
+                sprite.image.flush();
+            }
+        }
+    }
+
+    private static void applyHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+    }
+}
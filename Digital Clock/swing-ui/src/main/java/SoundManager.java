@@ -0,0 +1,306 @@
+import javax.sound.sampled.*;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SoundManager class to handle sound playback for alarms and notifications
+ *
+ * Sounds are decoded once into PCM buffers (the alarm sounds in the background at
+ * startup) and played from a small pool of pre-opened clips per sound, which are
+ * rewound with setFramePosition(0) instead of being reopened. The delay between a
+ * play request and the clip starting is measured and reported.
+ */
+public class SoundManager {
+
+    /** Number of alarm sounds (alarm1.wav - alarm8.wav) */
+    public static final int ALARM_SOUND_COUNT = 8;
+
+    // Clips opened per sound while preloading, and the most a sound may hold open
+    private static final int PRELOADED_CLIPS_PER_SOUND = 1;
+    private static final int MAX_CLIPS_PER_SOUND = 3;
+
+    private static final Map<String, SoundBuffer> buffers = new ConcurrentHashMap<>();
+    private static Thread preloadThread;
+
+    // Trigger-to-start latency statistics
+    private static long latencySamples = 0;
+    private static long latencyTotalNanos = 0;
+    private static long latencyMaxNanos = 0;
+    private static long latencyLastNanos = 0;
+
+    /**
+     * Decode all alarm sounds and open their clips on a background thread, so the
+     * first alarm does not pay for file access, decoding or line setup
+     */
+    public static synchronized void preloadAlarmSoundsAsync() {
+        if (preloadThread != null) {
+            return;
+        }
+        preloadThread = new Thread(() -> {
+            long start = System.nanoTime();
+            int loaded = 0;
+            for (int i = 1; i <= ALARM_SOUND_COUNT; i++) {
+                SoundBuffer buffer = getBuffer(alarmPath(i));
+                if (buffer != null) {
+                    buffer.preopen(PRELOADED_CLIPS_PER_SOUND);
+                    loaded++;
+                }
+            }
+            System.out.println("Preloaded " + loaded + " alarm sound(s) in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }, "SoundPreloader");
+        preloadThread.setDaemon(true);
+        preloadThread.setPriority(Thread.MIN_PRIORITY);
+        preloadThread.start();
+    }
+
+    /**
+     * Plays a sound from the given resource path.
+     * The sound file should be located in a directory that is part of the classpath.
+     * For example, if soundResourcePath is "/sounds/alarm1.wav",
+     * there should be a "sounds" folder at the root of the classpath
+     * containing "alarm1.wav".
+     *
+     * @param soundResourcePath The path to the sound resource (e.g., "/sounds/alarm1.wav").
+     */
+    public static void playSound(String soundResourcePath) {
+        long triggerNanos = System.nanoTime();
+
+        // Ensure the path starts with a '/' to indicate it's relative to the classpath root.
+        if (!soundResourcePath.startsWith("/")) {
+            soundResourcePath = "/" + soundResourcePath;
+        }
+
+        SoundBuffer buffer = getBuffer(soundResourcePath);
+        if (buffer == null || !buffer.play(triggerNanos)) {
+            // Fallback to system beep if the sound could not be loaded or played
+            java.awt.Toolkit.getDefaultToolkit().beep();
+        }
+    }
+
+    /**
+     * Plays a default alarm sound.
+     * This method expects a sound file (e.g., "alarm1.wav") to be present in a "sounds"
+     * directory located at the root of the application's classpath.
+     */
+    public static void playAlarmSoundDefault() {
+        playSound(alarmPath(1)); // Assumes alarm1.wav is in "sounds" dir in classpath
+    }
+
+    /**
+     * Plays a specific alarm sound by number (1-8)
+     * @param alarmNumber The alarm sound number (1-8)
+     */
+    public static void playAlarmSound(int alarmNumber) {
+        if (alarmNumber < 1 || alarmNumber > ALARM_SOUND_COUNT) {
+            alarmNumber = 1; // Default to alarm1 if invalid number
+        }
+        playSound(alarmPath(alarmNumber));
+    }
+
+    private static String alarmPath(int alarmNumber) {
+        return "/sounds/alarm" + alarmNumber + ".wav";
+    }
+
+    /**
+     * The decoded buffer of a sound, decoding it now if it was not preloaded
+     */
+    private static SoundBuffer getBuffer(String soundResourcePath) {
+        SoundBuffer buffer = buffers.get(soundResourcePath);
+        if (buffer == null) {
+            buffer = decode(soundResourcePath);
+            if (buffer != null) {
+                SoundBuffer existing = buffers.putIfAbsent(soundResourcePath, buffer);
+                if (existing != null) {
+                    buffer = existing;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    private static SoundBuffer decode(String soundResourcePath) {
+        URL soundURL = SoundManager.class.getResource(soundResourcePath);
+        if (soundURL == null) {
+            System.err.println("Sound resource not found: " + soundResourcePath +
+                               ". Ensure the 'sounds' folder (e.g., containing 'alarm1.wav') is in your classpath.");
+            return null;
+        }
+
+        try (InputStream audioSrc = soundURL.openStream();
+             InputStream bufferedIn = new BufferedInputStream(audioSrc);
+             AudioInputStream audioIn = AudioSystem.getAudioInputStream(bufferedIn)) {
+
+            // Clips need PCM; convert compressed or unusual encodings once here
+            AudioFormat sourceFormat = audioIn.getFormat();
+            AudioInputStream pcmIn = audioIn;
+            if (!AudioFormat.Encoding.PCM_SIGNED.equals(sourceFormat.getEncoding())
+                    && !AudioFormat.Encoding.PCM_UNSIGNED.equals(sourceFormat.getEncoding())) {
+                AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(),
+                    sourceFormat.getChannels() * 2, sourceFormat.getSampleRate(), false);
+                pcmIn = AudioSystem.getAudioInputStream(pcmFormat, audioIn);
+            }
+
+            ByteArrayOutputStream pcm = new ByteArrayOutputStream();
+            byte[] chunk = new byte[16 * 1024];
+            int read;
+            while ((read = pcmIn.read(chunk)) != -1) {
+                pcm.write(chunk, 0, read);
+            }
+            return new SoundBuffer(soundResourcePath, pcmIn.getFormat(), pcm.toByteArray());
+
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.err.println("Error loading sound '" + soundResourcePath + "': " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static synchronized void recordLatency(long latencyNanos) {
+        latencySamples++;
+        latencyTotalNanos += latencyNanos;
+        latencyLastNanos = latencyNanos;
+        if (latencyNanos > latencyMaxNanos) {
+            latencyMaxNanos = latencyNanos;
+        }
+    }
+
+    public static synchronized long getPlayCount() {
+        return latencySamples;
+    }
+
+    public static synchronized long getLastLatencyMicros() {
+        return latencyLastNanos / 1000;
+    }
+
+    public static synchronized long getMeanLatencyMicros() {
+        return latencySamples == 0 ? 0 : latencyTotalNanos / latencySamples / 1000;
+    }
+
+    public static synchronized long getMaxLatencyMicros() {
+        return latencyMaxNanos / 1000;
+    }
+
+    /**
+     * Human-readable summary of the measured trigger-to-start latency
+     */
+    public static synchronized String getLatencyReport() {
+        return String.format("%d plays, start latency last %d us, mean %d us, max %d us",
+            latencySamples, getLastLatencyMicros(), getMeanLatencyMicros(), getMaxLatencyMicros());
+    }
+
+    /**
+     * Decoded PCM data of one sound and the clips opened on it
+     */
+    private static final class SoundBuffer {
+        private final String name;
+        private final AudioFormat format;
+        private final byte[] data;
+        private final List<PooledClip> clips = new ArrayList<>();
+
+        private SoundBuffer(String name, AudioFormat format, byte[] data) {
+            this.name = name;
+            this.format = format;
+            this.data = data;
+        }
+
+        synchronized void preopen(int count) {
+            while (clips.size() < count && openClip() != null) {
+                // Keep opening until the pool has the requested number of clips
+            }
+        }
+
+        /**
+         * Start the sound on an idle clip, opening a new one or restarting the
+         * longest-playing clip when all are busy
+         *
+         * @return false if no clip could be obtained
+         */
+        synchronized boolean play(long triggerNanos) {
+            PooledClip chosen = null;
+            for (PooledClip pooled : clips) {
+                if (!pooled.playing) {
+                    chosen = pooled;
+                    break;
+                }
+                if (chosen == null || pooled.triggerNanos < chosen.triggerNanos) {
+                    chosen = pooled;
+                }
+            }
+            if (chosen == null || (chosen.playing && clips.size() < MAX_CLIPS_PER_SOUND)) {
+                PooledClip opened = openClip();
+                if (opened != null) {
+                    chosen = opened;
+                }
+            }
+            if (chosen == null) {
+                return false;
+            }
+
+            Clip clip = chosen.clip;
+            if (chosen.playing) {
+                clip.stop();
+                clip.flush();
+            }
+            chosen.triggerNanos = triggerNanos;
+            chosen.playing = true;
+            chosen.latencyPending = true;
+            clip.setFramePosition(0);
+            clip.start();
+            return true;
+        }
+
+        private PooledClip openClip() {
+            try {
+                Clip clip = AudioSystem.getClip();
+                clip.open(format, data, 0, data.length);
+                PooledClip pooled = new PooledClip(clip);
+                clip.addLineListener(event -> onLineEvent(pooled, event));
+                clips.add(pooled);
+                return pooled;
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                System.err.println("Error opening clip for '" + name + "': " + e.getMessage());
+                return null;
+            }
+        }
+
+        private void onLineEvent(PooledClip pooled, LineEvent event) {
+            long now = System.nanoTime();
+            long latency = -1;
+            synchronized (this) {
+                if (event.getType() == LineEvent.Type.START && pooled.latencyPending) {
+                    pooled.latencyPending = false;
+                    latency = now - pooled.triggerNanos;
+                } else if (event.getType() == LineEvent.Type.STOP && !pooled.clip.isRunning()) {
+                    // Keep the line open; the clip goes back to the pool for the next play
+                    pooled.playing = false;
+                }
+            }
+            if (latency >= 0) {
+                recordLatency(latency);
+            }
+        }
+    }
+
+    /**
+     * An open clip and its playback state, guarded by the owning SoundBuffer
+     */
+    private static final class PooledClip {
+        private final Clip clip;
+        private boolean playing = false;
+        private boolean latencyPending = false;
+        private long triggerNanos;
+
+        private PooledClip(Clip clip) {
+            this.clip = clip;
+        }
+    }
+}
@@ -3,11 +3,18 @@ import java.awt.event.*;
 import java.util.*;
 import java.util.List;
 import javax.swing.*;
+import javax.swing.Timer;
 import javax.swing.border.*;
-import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Dialog for selecting time zones to add to the world clock display.
+ *
+ * Searching uses the prebuilt ZoneSearchIndex. Keystrokes are debounced, each query
+ * runs on a background thread, and a query superseded by newer typing is cancelled
+ * and never shown. Results replace the list model in a single update.
  */
 public class TimeZoneSelector extends JDialog {
     private JTextField searchField;
@@ -18,6 +25,17 @@ public class TimeZoneSelector extends JDialog {
     private JButton cancelButton;
     private boolean selectionMade = false;
     
+    // Search runs off the EDT; only the newest query's results are shown
+    private static final int SEARCH_DEBOUNCE_MS = 120;
+    private static final int MAX_RESULTS = 20;
+    private static final ExecutorService SEARCH_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "TimeZoneSearch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong searchGeneration = new AtomicLong();
+    private Timer searchDebounceTimer;
+    
     // Common cities with their time zones
     private static final Map<String, String> COMMON_CITIES = new LinkedHashMap<>();
     static {
@@ -35,6 +53,7 @@ public class TimeZoneSelector extends JDialog {
     
     public TimeZoneSelector(JFrame parent) {
         super(parent, "Add Another Place", true);
+        SEARCH_EXECUTOR.execute(ZoneSearchIndex::getDefault); // Build the index while the dialog opens
         initComponents();
         setupLayout();
         setupListeners();
@@ -161,21 +180,23 @@ public class TimeZoneSelector extends JDialog {
     }
     
     private void setupListeners() {
-        // Search field listener
+        // Search field listener - restart the debounce timer on every edit
+        searchDebounceTimer = new Timer(SEARCH_DEBOUNCE_MS, e -> performSearch());
+        searchDebounceTimer.setRepeats(false);
         searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
             @Override
             public void insertUpdate(javax.swing.event.DocumentEvent e) {
-                performSearch();
+                scheduleSearch();
             }
             
             @Override
             public void removeUpdate(javax.swing.event.DocumentEvent e) {
-                performSearch();
+                scheduleSearch();
             }
             
             @Override
             public void changedUpdate(javax.swing.event.DocumentEvent e) {
-                performSearch();
+                scheduleSearch();
             }
         });
         
@@ -190,26 +211,34 @@ public class TimeZoneSelector extends JDialog {
         cancelButton.addActionListener(e -> dispose());
     }
     
-    private void performSearch() {
-        String query = searchField.getText().toLowerCase();
-        resultsModel.clear();
-        
-        if (query.length() < 2) return;
-        
-        // Search through available time zones
-        ZoneId.getAvailableZoneIds().stream()
-            .filter(zoneId -> zoneId.toLowerCase().contains(query) || 
-                    zoneId.replace('_', ' ').toLowerCase().contains(query))
-            .map(zoneId -> new TimeZoneItem(formatZoneId(zoneId), zoneId))
-            .sorted()
-            .limit(20)  // Limit to 20 results
-            .forEach(resultsModel::addElement);
+    private void scheduleSearch() {
+        searchGeneration.incrementAndGet(); // Cancel any query still running for older text
+        searchDebounceTimer.restart();
     }
     
-    private String formatZoneId(String zoneId) {
-        // Format the zone ID to be more user-friendly
-        return zoneId.replace("_", " ")
-                     .replace("/", " - ");
+    private void performSearch() {
+        String query = searchField.getText();
+        long generation = searchGeneration.incrementAndGet();
+        
+        SEARCH_EXECUTOR.execute(() -> {
+            if (searchGeneration.get() != generation) return; // Superseded while queued
+            
+            List<ZoneSearchIndex.Entry> matches = ZoneSearchIndex.getDefault()
+                .search(query, MAX_RESULTS, () -> searchGeneration.get() != generation);
+            if (matches == null) return; // Cancelled by newer typing
+            
+            // Build the new model off the EDT, then swap it in with one update
+            DefaultListModel<TimeZoneItem> model = new DefaultListModel<>();
+            for (ZoneSearchIndex.Entry match : matches) {
+                model.addElement(new TimeZoneItem(match.getName(), match.getZoneId()));
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (searchGeneration.get() == generation) {
+                    resultsModel = model;
+                    resultsList.setModel(model);
+                }
+            });
+        });
     }
     
     private void collectSelectedTimeZones() {
@@ -230,6 +259,13 @@ public class TimeZoneSelector extends JDialog {
         }
     }
     
+    @Override
+    public void dispose() {
+        searchDebounceTimer.stop();
+        searchGeneration.incrementAndGet(); // Drop any search still in flight
+        super.dispose();
+    }
+    
     public List<TimeZoneItem> getSelectedTimeZones() {
         return selectedTimeZones;
     }
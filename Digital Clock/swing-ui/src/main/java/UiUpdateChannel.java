@@ -0,0 +1,79 @@
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * UiUpdateChannel class that hands values from background threads to the EDT,
+ * latest value wins.
+ *
+ * Producers publish as often as they like; at most one runnable per channel is
+ * queued on the EDT, and when it runs it applies only the newest value. A busy EDT
+ * therefore never accumulates a backlog of stale updates. Values replaced before
+ * the EDT got to them are counted as dropped, and publishes that did not need a new
+ * runnable because one was already queued are counted as coalesced.
+ */
+public final class UiUpdateChannel<T> {
+
+    private final String name;
+    private final Consumer<? super T> applier;
+    private final AtomicReference<T> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final Runnable drain = this::drain;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param name    shown in the statistics report
+     * @param applier called on the EDT with the newest published value
+     */
+    public UiUpdateChannel(String name, Consumer<? super T> applier) {
+        this.name = name;
+        this.applier = applier;
+    }
+
+    /**
+     * Publish a value from any thread; it replaces any value not yet applied
+     */
+    public void publish(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("UiUpdateChannel values must not be null");
+        }
+        published.increment();
+        if (pending.getAndSet(value) != null) {
+            dropped.increment();
+        }
+        if (scheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(drain);
+        } else {
+            coalesced.increment();
+        }
+    }
+
+    private void drain() {
+        // Clear the flag before taking the value, so a publish racing with us queues a new drain
+        scheduled.set(false);
+        T value = pending.getAndSet(null);
+        if (value != null) {
+            applied.increment();
+            applier.accept(value);
+        }
+    }
+
+    public long getPublishedCount() { return published.sum(); }
+    public long getAppliedCount() { return applied.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+
+    /**
+     * Human-readable summary of the channel statistics
+     */
+    public String getReport() {
+        return name + ": " + getPublishedCount() + " published, " + getAppliedCount() + " applied, "
+            + getDroppedCount() + " dropped, " + getCoalescedCount() + " coalesced";
+    }
+}
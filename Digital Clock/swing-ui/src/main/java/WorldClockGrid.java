@@ -0,0 +1,486 @@
+import javax.swing.*;
+import java.awt.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WorldClockGrid class - one custom-painted component showing the time of many cities.
+ *
+ * Cities are plain records in an array (name, zone, cached display strings) instead of
+ * a panel and four labels each. Cells fill the available height column by column and
+ * scroll horizontally. Painting covers only the cells inside the clip, i.e. the visible
+ * part of the viewport, and a tick only recomputes and repaints the cells whose displayed
+ * minute (or offset from local time) changed. City time is the shared tick instant plus
+ * an offset from the ZoneOffsetCache, so ZoneRules are only consulted at transitions.
+ * Each city can also show a one-line weather summary, set as reports arrive.
+ *
+ * In mini-dial mode the cells are smaller and show an analog dial instead of the text
+ * time. Every dial comes from one shared MiniDialAtlas, so a cell is three image blits
+ * and a changed minute costs nothing more than in text mode. Must be used on the EDT.
+ */
+public class WorldClockGrid extends JComponent implements Scrollable {
+
+    public static final int CELL_WIDTH = 155;
+    public static final int CELL_HEIGHT = 130;
+    public static final int MINI_CELL_WIDTH = 92;
+    public static final int MINI_CELL_HEIGHT = 108;
+    public static final int MINI_DIAL_SIZE = 64;
+    private static final int MINI_DIAL_TOP = 5;
+    private static final int H_GAP = 8;
+    private static final int V_GAP = 6;
+    private static final int PREFERRED_VISIBLE_COLUMNS = 3;
+
+    private static final Color CELL_BACKGROUND = Color.BLACK;
+    private static final Color CELL_BORDER = new Color(60, 60, 60, 120);
+    private static final Color NAME_COLOR = Color.CYAN;
+    private static final Color DATE_COLOR = Color.LIGHT_GRAY;
+    private static final Color TIME_COLOR = Color.WHITE;
+    private static final Color WEATHER_COLOR = new Color(135, 206, 250);
+    private static final Color BADGE_BACKGROUND = new Color(70, 130, 180, 180);
+    private static final Color BADGE_BORDER = new Color(100, 150, 200, 100);
+    private static final Color BADGE_TEXT = Color.WHITE;
+    private static final int BADGE_WIDTH = 55;
+    private static final int BADGE_HEIGHT = 18;
+
+    private static final Font NAME_FONT = new Font("Segoe UI", Font.BOLD, 16);
+    private static final Font BADGE_FONT = new Font("Segoe UI", Font.BOLD, 10);
+    private static final Font DATE_FONT = new Font("Segoe UI", Font.PLAIN, 13);
+    private static final Font TIME_FONT = new Font("Segoe UI", Font.BOLD, 22);
+    private static final Font WEATHER_FONT = new Font("Segoe UI", Font.PLAIN, 11);
+    private static final Font MINI_NAME_FONT = new Font("Segoe UI", Font.BOLD, 12);
+    private static final Font MINI_TEXT_FONT = new Font("Segoe UI", Font.PLAIN, 11);
+
+    /**
+     * One city and the strings currently shown for it
+     */
+    private static final class City {
+        private final String name;
+        private final ZoneId zone;
+        private long shownMinute = Long.MIN_VALUE; // Local epoch minute in the city's zone
+        private int shownOffsetSeconds;
+        private String timeText = "";
+        private String dateText = "";
+        private String diffText = "";
+        private int dialHour;   // Hour hand position, see MiniDialAtlas.hourPosition
+        private int dialMinute;
+        private String nameText; // Name truncated to the cell width, set on first paint
+        private String weather;     // Weather summary, null until a report arrives
+        private String weatherText; // Weather truncated to the cell width, set on paint
+
+        private City(String name, ZoneId zone) {
+            this.name = name;
+            this.zone = zone;
+        }
+    }
+
+    private final ClockFormatter formatter;
+    private final ZoneOffsetCache offsets = new ZoneOffsetCache();
+    private City[] cities = new City[16];
+    private int cityCount = 0;
+    private int rows = 1;
+    private boolean miniDials = false;
+    private int cellWidth = CELL_WIDTH;
+    private int cellHeight = CELL_HEIGHT;
+    private int localOffsetSeconds = Integer.MIN_VALUE;
+    private Instant lastInstant;
+    private ZoneId lastLocalZone;
+
+    public WorldClockGrid(ClockFormatter formatter) {
+        this.formatter = formatter;
+        setOpaque(false);
+    }
+
+    /**
+     * Add a city; a city whose name is already shown is not added again
+     * @return false if a city with this name already exists
+     */
+    public boolean addCity(String name, ZoneId zone) {
+        if (indexOf(name) >= 0) {
+            return false;
+        }
+        if (cityCount == cities.length) {
+            cities = Arrays.copyOf(cities, cityCount * 2);
+        }
+        City city = new City(name, zone);
+        cities[cityCount++] = city;
+        if (lastInstant != null) {
+            refresh(city, lastInstant, localOffsetSeconds);
+        }
+        revalidate();
+        repaint();
+        return true;
+    }
+
+    /**
+     * Remove the city with the given name
+     * @return false if there is no such city
+     */
+    public boolean removeCity(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return false;
+        }
+        ZoneId zone = cities[index].zone;
+        System.arraycopy(cities, index + 1, cities, index, cityCount - index - 1);
+        cities[--cityCount] = null;
+        if (!zone.equals(lastLocalZone) && !showsZone(zone)) {
+            offsets.remove(zone);
+        }
+        revalidate();
+        repaint();
+        return true;
+    }
+
+    public boolean isMiniDials() {
+        return miniDials;
+    }
+
+    /**
+     * Switch between text cells and the smaller analog mini-dial cells
+     */
+    public void setMiniDials(boolean miniDials) {
+        if (miniDials == this.miniDials) {
+            return;
+        }
+        this.miniDials = miniDials;
+        cellWidth = miniDials ? MINI_CELL_WIDTH : CELL_WIDTH;
+        cellHeight = miniDials ? MINI_CELL_HEIGHT : CELL_HEIGHT;
+        rows = rowsForHeight(getHeight());
+        for (int i = 0; i < cityCount; i++) {
+            cities[i].nameText = null; // Truncated for the other cell width and font
+        }
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Zone the time differences were last computed against, or null before the first update
+     */
+    public ZoneId getLocalZone() {
+        return lastLocalZone;
+    }
+
+    public int getCityCount() {
+        return cityCount;
+    }
+
+    /**
+     * Names of the cities in display order
+     */
+    public List<String> getCityNames() {
+        List<String> names = new ArrayList<>(cityCount);
+        for (int i = 0; i < cityCount; i++) {
+            names.add(cities[i].name);
+        }
+        return names;
+    }
+
+    /**
+     * Show the weather of a city, repainting its cell if visible
+     * @return false if there is no such city
+     */
+    public boolean setWeather(String name, WeatherReport report) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return false;
+        }
+        City city = cities[index];
+        String weather = Math.round(report.getTemperature()) + "°C " + report.getDescription();
+        if (!weather.equals(city.weather)) {
+            city.weather = weather;
+            city.weatherText = null;
+            Rectangle cell = cellBounds(index);
+            if (cell.intersects(getVisibleRect())) {
+                repaint(cell);
+            }
+        }
+        return true;
+    }
+
+    private boolean showsZone(ZoneId zone) {
+        for (int i = 0; i < cityCount; i++) {
+            if (cities[i].zone.equals(zone)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < cityCount; i++) {
+            if (cities[i].name.equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bring every city to the given instant, relative to the system default zone
+     */
+    public void update(Instant instant) {
+        update(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Bring every city to the given instant, repainting only the cells whose text changed
+     *
+     * @param localZone zone the time differences are shown against
+     */
+    public void update(Instant instant, ZoneId localZone) {
+        lastInstant = instant;
+        lastLocalZone = localZone;
+        int localOffset = offsets.offsetSecondsAt(localZone, instant);
+        boolean localOffsetChanged = localOffset != localOffsetSeconds;
+        localOffsetSeconds = localOffset;
+
+        Rectangle visible = getVisibleRect();
+        for (int i = 0; i < cityCount; i++) {
+            City city = cities[i];
+            if (refresh(city, instant, localOffset) || localOffsetChanged) {
+                if (localOffsetChanged) {
+                    city.diffText = diffText(city.shownOffsetSeconds, localOffset);
+                }
+                Rectangle cell = cellBounds(i);
+                if (cell.intersects(visible)) {
+                    repaint(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recompute the city's strings if its local minute or offset changed
+     * @return true if anything shown in the cell changed
+     */
+    private boolean refresh(City city, Instant instant, int localOffset) {
+        ZoneOffset offset = offsets.offsetAt(city.zone, instant);
+        int offsetSeconds = offset.getTotalSeconds();
+        long minute = Math.floorDiv(instant.getEpochSecond() + offsetSeconds, 60);
+        if (minute == city.shownMinute && offsetSeconds == city.shownOffsetSeconds) {
+            return false;
+        }
+
+        LocalDateTime cityTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), 0, offset);
+        city.timeText = formatter.hourMinute(cityTime.getHour(), cityTime.getMinute());
+        city.dateText = formatter.dayOfMonth(cityTime.getDayOfWeek(), cityTime.getDayOfMonth());
+        city.diffText = diffText(offsetSeconds, localOffset);
+        city.dialHour = MiniDialAtlas.hourPosition(cityTime.getHour(), cityTime.getMinute());
+        city.dialMinute = cityTime.getMinute();
+        city.shownMinute = minute;
+        city.shownOffsetSeconds = offsetSeconds;
+        return true;
+    }
+
+    private static String diffText(int cityOffsetSeconds, int localOffsetSeconds) {
+        long hoursDiff = cityOffsetSeconds / 3600 - localOffsetSeconds / 3600;
+        if (hoursDiff > 0) {
+            return "+" + hoursDiff + "h";
+        } else if (hoursDiff < 0) {
+            return hoursDiff + "h";
+        }
+        return "0h";
+    }
+
+    // Cells fill each column top to bottom, then continue in the next column
+
+    private int columns() {
+        return Math.max(1, (cityCount + rows - 1) / rows);
+    }
+
+    private Rectangle cellBounds(int index) {
+        int column = index / rows;
+        int row = index % rows;
+        return new Rectangle(H_GAP + column * (cellWidth + H_GAP), V_GAP + row * (cellHeight + V_GAP),
+            cellWidth, cellHeight);
+    }
+
+    private int rowsForHeight(int height) {
+        return Math.max(1, (height - V_GAP) / (cellHeight + V_GAP));
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        int newRows = rowsForHeight(height);
+        if (newRows != rows) {
+            rows = newRows;
+            revalidate(); // The number of columns, and so the preferred width, changed
+            repaint();
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        return new Dimension(H_GAP + columns() * (cellWidth + H_GAP), V_GAP + rows * (cellHeight + V_GAP));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2d = (Graphics2D) g.create();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            // Only the columns intersecting the clip are visited
+            Rectangle clip = g2d.getClipBounds();
+            if (clip == null) {
+                clip = new Rectangle(0, 0, getWidth(), getHeight());
+            }
+            int firstColumn = Math.max(0, (clip.x - H_GAP) / (cellWidth + H_GAP));
+            int lastColumn = Math.min(columns() - 1, (clip.x + clip.width) / (cellWidth + H_GAP));
+            MiniDialAtlas dialAtlas = miniDials ? MiniDialAtlas.get(MINI_DIAL_SIZE, CELL_BACKGROUND, g2d) : null;
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                for (int row = 0; row < rows; row++) {
+                    int index = column * rows + row;
+                    if (index >= cityCount) {
+                        break;
+                    }
+                    Rectangle cell = cellBounds(index);
+                    if (cell.intersects(clip)) {
+                        if (dialAtlas != null) {
+                            paintMiniCell(g2d, cities[index], cell, dialAtlas);
+                        } else {
+                            paintCell(g2d, cities[index], cell);
+                        }
+                    }
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private void paintCell(Graphics2D g2d, City city, Rectangle cell) {
+        g2d.setColor(CELL_BACKGROUND);
+        g2d.fillRect(cell.x, cell.y, cell.width, cell.height);
+        g2d.setColor(CELL_BORDER);
+        g2d.drawRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+
+        // City name at the top
+        FontMetrics nameMetrics = g2d.getFontMetrics(NAME_FONT);
+        if (city.nameText == null) {
+            city.nameText = fit(city.name, nameMetrics, cell.width - 8);
+        }
+        int y = cell.y + 2 + nameMetrics.getAscent();
+        drawCentered(g2d, city.nameText, NAME_FONT, NAME_COLOR, cell, y);
+
+        // Time difference badge below the name
+        int badgeX = cell.x + (cell.width - BADGE_WIDTH) / 2;
+        int badgeY = cell.y + 2 + nameMetrics.getHeight() + 1;
+        g2d.setColor(BADGE_BACKGROUND);
+        g2d.fillRect(badgeX, badgeY, BADGE_WIDTH, BADGE_HEIGHT);
+        g2d.setColor(BADGE_BORDER);
+        g2d.drawRect(badgeX, badgeY, BADGE_WIDTH - 1, BADGE_HEIGHT - 1);
+        FontMetrics badgeMetrics = g2d.getFontMetrics(BADGE_FONT);
+        drawCentered(g2d, city.diffText, BADGE_FONT, BADGE_TEXT, cell,
+            badgeY + (BADGE_HEIGHT - badgeMetrics.getHeight()) / 2 + badgeMetrics.getAscent());
+
+        // Time at the bottom, date centered in the space between
+        FontMetrics timeMetrics = g2d.getFontMetrics(TIME_FONT);
+        int timeBaseline = cell.y + cell.height - 4 - timeMetrics.getDescent();
+        drawCentered(g2d, city.timeText, TIME_FONT, TIME_COLOR, cell, timeBaseline);
+
+        // Date (and weather below it) centered in the space between
+        FontMetrics dateMetrics = g2d.getFontMetrics(DATE_FONT);
+        FontMetrics weatherMetrics = g2d.getFontMetrics(WEATHER_FONT);
+        int gapTop = badgeY + BADGE_HEIGHT;
+        int gapBottom = timeBaseline - timeMetrics.getAscent();
+        int blockHeight = dateMetrics.getHeight() + (city.weather != null ? weatherMetrics.getHeight() : 0);
+        int dateTop = gapTop + (gapBottom - gapTop - blockHeight) / 2;
+        drawCentered(g2d, city.dateText, DATE_FONT, DATE_COLOR, cell, dateTop + dateMetrics.getAscent());
+        if (city.weather != null) {
+            if (city.weatherText == null) {
+                city.weatherText = fit(city.weather, weatherMetrics, cell.width - 8);
+            }
+            drawCentered(g2d, city.weatherText, WEATHER_FONT, WEATHER_COLOR, cell,
+                dateTop + dateMetrics.getHeight() + weatherMetrics.getAscent());
+        }
+    }
+
+    private void paintMiniCell(Graphics2D g2d, City city, Rectangle cell, MiniDialAtlas dialAtlas) {
+        g2d.setColor(CELL_BACKGROUND);
+        g2d.fillRect(cell.x, cell.y, cell.width, cell.height);
+        g2d.setColor(CELL_BORDER);
+        g2d.drawRect(cell.x, cell.y, cell.width - 1, cell.height - 1);
+
+        // Dial at the top
+        int dialY = cell.y + MINI_DIAL_TOP;
+        dialAtlas.drawDial(g2d, cell.x + (cell.width - MINI_DIAL_SIZE) / 2, dialY, city.dialHour, city.dialMinute);
+
+        // City name below the dial
+        FontMetrics nameMetrics = g2d.getFontMetrics(MINI_NAME_FONT);
+        if (city.nameText == null) {
+            city.nameText = fit(city.name, nameMetrics, cell.width - 6);
+        }
+        int nameBaseline = dialY + MINI_DIAL_SIZE + 2 + nameMetrics.getAscent();
+        drawCentered(g2d, city.nameText, MINI_NAME_FONT, NAME_COLOR, cell, nameBaseline);
+
+        // Time difference on the left and the digital time (for AM/PM) on the right of the bottom line
+        FontMetrics textMetrics = g2d.getFontMetrics(MINI_TEXT_FONT);
+        int textBaseline = cell.y + cell.height - 3 - textMetrics.getDescent();
+        g2d.setFont(MINI_TEXT_FONT);
+        g2d.setColor(WEATHER_COLOR);
+        g2d.drawString(city.diffText, cell.x + 5, textBaseline);
+        g2d.setColor(TIME_COLOR);
+        g2d.drawString(city.timeText, cell.x + cell.width - 5 - textMetrics.stringWidth(city.timeText), textBaseline);
+    }
+
+    private static void drawCentered(Graphics2D g2d, String text, Font font, Color color, Rectangle cell, int baseline) {
+        g2d.setFont(font);
+        g2d.setColor(color);
+        int width = g2d.getFontMetrics().stringWidth(text);
+        g2d.drawString(text, cell.x + (cell.width - width) / 2, baseline);
+    }
+
+    private static String fit(String text, FontMetrics metrics, int maxWidth) {
+        if (metrics.stringWidth(text) <= maxWidth) {
+            return text;
+        }
+        String ellipsis = "…";
+        int end = text.length();
+        while (end > 0 && metrics.stringWidth(text.substring(0, end) + ellipsis) > maxWidth) {
+            end--;
+        }
+        return text.substring(0, end) + ellipsis;
+    }
+
+    // Scrollable: the grid follows the viewport height and scrolls horizontally by whole cells
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        int visibleColumns = Math.min(columns(), PREFERRED_VISIBLE_COLUMNS);
+        return new Dimension(H_GAP + visibleColumns * (cellWidth + H_GAP), V_GAP + cellHeight + V_GAP);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.HORIZONTAL ? (cellWidth + H_GAP) / 4 : (cellHeight + V_GAP) / 4;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int step = cellWidth + H_GAP;
+        return orientation == SwingConstants.HORIZONTAL
+            ? Math.max(step, visibleRect.width / step * step)
+            : visibleRect.height;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return true;
+    }
+}